@@ -27,6 +27,7 @@ import com.google.gwt.dom.client.TableElement;
 import com.google.gwt.dom.client.TableSectionElement;
 import com.google.gwt.event.dom.client.ScrollEvent;
 import com.google.gwt.event.dom.client.ScrollHandler;
+import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.resources.client.ClientBundle;
 import com.google.gwt.resources.client.CssResource;
 import com.google.gwt.resources.client.CssResource.ImportedWithPrefix;
@@ -679,6 +680,57 @@ public class DataGrid<T> extends AbstractCellTable<T> implements RequiresResize
     this(DEFAULT_PAGESIZE, keyProvider);
   }
 
+  /**
+   * Add a handler that is notified when the data section of the table is
+   * scrolled.
+   * 
+   * @param handler the scroll handler
+   * @return the handler registration used to remove the handler
+   */
+  public HandlerRegistration addBodyScrollHandler(ScrollHandler handler) {
+    return tableDataScroller.addScrollHandler(handler);
+  }
+
+  /**
+   * Get the vertical scroll position of the data section of the table.
+   * 
+   * @return the vertical scroll position in pixels
+   */
+  public int getBodyScrollPosition() {
+    return tableDataScroller.getVerticalScrollPosition();
+  }
+
+  /**
+   * Set the vertical scroll position of the data section of the table.
+   * 
+   * @param position the vertical scroll position in pixels
+   */
+  public void setBodyScrollPosition(int position) {
+    tableDataScroller.setVerticalScrollPosition(position);
+  }
+
+  /**
+   * Get the height of the visible area of the data section of the table.
+   * 
+   * @return the height of the viewport in pixels
+   */
+  public int getBodyViewportHeight() {
+    return tableDataScroller.getOffsetHeight();
+  }
+
+  /**
+   * Reserve empty space above and below the rendered rows of the data
+   * section. This is used when only a window of the rows is rendered so that
+   * the scrollbar still reflects the full row count.
+   * 
+   * @param top the space above the rendered rows in pixels
+   * @param bottom the space below the rendered rows in pixels
+   */
+  public void setBodySpacing(int top, int bottom) {
+    tableDataContainer.getStyle().setPaddingTop(top, Unit.PX);
+    tableDataContainer.getStyle().setPaddingBottom(bottom, Unit.PX);
+  }
+
   @Override
   public void addColumnStyleName(int index, String styleName) {
     tableHeader.addColumnStyleName(index, styleName);
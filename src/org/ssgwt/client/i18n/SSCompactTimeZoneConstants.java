@@ -0,0 +1,54 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.i18n;
+
+import com.google.gwt.i18n.client.Constants;
+
+/**
+ * The compact time zone data decoded by CompactTimeZoneData. The values are defined in
+ * SSCompactTimeZoneConstants.properties, which is generated from SSTimeZoneConstants.properties
+ * by the generate-compact-timezones ant target.
+ *
+ * @since 18 October 2026
+ */
+public interface SSCompactTimeZoneConstants extends Constants {
+
+    /**
+     * Retrieves every distinct time zone name
+     *
+     * @return The time zone names
+     */
+    String[] timeZoneNames();
+
+    /**
+     * Retrieves the encoded distinct daylight adjustments
+     *
+     * @return The encoded daylight adjustments
+     */
+    String timeZoneAdjustments();
+
+    /**
+     * Retrieves the encoded distinct transition lists
+     *
+     * @return The encoded transition lists
+     */
+    String[] timeZoneTransitions();
+
+    /**
+     * Retrieves the encoded time zone records
+     *
+     * @return The encoded time zone records
+     */
+    String[] timeZones();
+}
@@ -177,6 +177,26 @@ public class SSDate extends Date
         }
     }
 
+    /**
+     * Resets the date to a time stamp the same way the SSDate(long) constructor initialises it,
+     * so that a date can be reused instead of allocating a new one
+     *
+     * @since 18 October 2026
+     *
+     * @param date - The unix timestamp
+     */
+    public void reset(long date) {
+        this.timeZone = null;
+        super.setTime(date);
+        TimeZoneSettings tzs = TimeZoneSettings.getInstance();
+        if (tzs.getCurrentTimeZone() != null) {
+            this.timeZone = tzs.getCurrentTimeZone();
+            this.timeZoneOffset = tzs.getCurrentTimeZone().getOffset(this);
+        } else {
+            this.timeZoneOffset = tzs.getCurrentTimeZoneOffset();
+        }
+    }
+
     /**
      * Sets the time using a time stamp. And ensures the time zone offset is correct
      *
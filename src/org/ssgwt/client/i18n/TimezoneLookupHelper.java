@@ -16,47 +16,483 @@ package org.ssgwt.client.i18n;
 import java.util.HashMap;
 
 import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.RunAsyncCallback;
 import com.google.gwt.i18n.client.TimeZoneInfo;
+import com.google.gwt.i18n.shared.TimeZone;
+import com.google.gwt.user.client.rpc.AsyncCallback;
+import org.ssgwt.share.i18n.CompactTimeZoneData;
 
 /**
  * The time zone lookup helper to enable time zone lookup using full timezone names
  *
+ * The data of a time zone is only parsed the first time the time zone is looked up.
+ *
  * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
  * @since  16 July 2016
  */
 public class TimezoneLookupHelper {
 
+    /**
+     * The ids of the time zones that can be looked up, the index of an id is the index
+     * used to retrieve the data of the time zone in getTimeZoneData
+     */
+    private static final String[] TIME_ZONE_IDS = new String[] {
+        "Africa/Abidjan",
+        "Africa/Accra",
+        "Africa/Addis_Ababa",
+        "Africa/Algiers",
+        "Africa/Asmera",
+        "Africa/Bamako",
+        "Africa/Bangui",
+        "Africa/Banjul",
+        "Africa/Bissau",
+        "Africa/Blantyre",
+        "Africa/Brazzaville",
+        "Africa/Bujumbura",
+        "Africa/Cairo",
+        "Africa/Casablanca",
+        "Africa/Ceuta",
+        "Africa/Conakry",
+        "Africa/Dakar",
+        "Africa/Dar_es_Salaam",
+        "Africa/Djibouti",
+        "Africa/Douala",
+        "Africa/El_Aaiun",
+        "Africa/Freetown",
+        "Africa/Gaborone",
+        "Africa/Harare",
+        "Africa/Johannesburg",
+        "Africa/Kampala",
+        "Africa/Khartoum",
+        "Africa/Kigali",
+        "Africa/Kinshasa",
+        "Africa/Lagos",
+        "Africa/Libreville",
+        "Africa/Lome",
+        "Africa/Luanda",
+        "Africa/Lubumbashi",
+        "Africa/Lusaka",
+        "Africa/Malabo",
+        "Africa/Maputo",
+        "Africa/Maseru",
+        "Africa/Mbabane",
+        "Africa/Mogadishu",
+        "Africa/Monrovia",
+        "Africa/Nairobi",
+        "Africa/Ndjamena",
+        "Africa/Niamey",
+        "Africa/Nouakchott",
+        "Africa/Ouagadougou",
+        "Africa/Porto-Novo",
+        "Africa/Sao_Tome",
+        "Africa/Tripoli",
+        "Africa/Tunis",
+        "Africa/Windhoek",
+        "America/Adak",
+        "America/Anchorage",
+        "America/Anguilla",
+        "America/Antigua",
+        "America/Araguaina",
+        "America/Argentina/La_Rioja",
+        "America/Argentina/Rio_Gallegos",
+        "America/Argentina/San_Juan",
+        "America/Argentina/Tucuman",
+        "America/Argentina/Ushuaia",
+        "America/Aruba",
+        "America/Asuncion",
+        "America/Bahia",
+        "America/Barbados",
+        "America/Belem",
+        "America/Belize",
+        "America/Blanc-Sablon",
+        "America/Boa_Vista",
+        "America/Bogota",
+        "America/Boise",
+        "America/Argentina/Buenos_Aires",
+        "America/Cambridge_Bay",
+        "America/Campo_Grande",
+        "America/Cancun",
+        "America/Caracas",
+        "America/Argentina/Catamarca",
+        "America/Cayenne",
+        "America/Cayman",
+        "America/Chicago",
+        "America/Chihuahua",
+        "America/Coral_Harbour",
+        "America/Argentina/Cordoba",
+        "America/Costa_Rica",
+        "America/Cuiaba",
+        "America/Curacao",
+        "America/Danmarkshavn",
+        "America/Dawson",
+        "America/Dawson_Creek",
+        "America/Denver",
+        "America/Detroit",
+        "America/Dominica",
+        "America/Edmonton",
+        "America/Eirunepe",
+        "America/El_Salvador",
+        "America/Fortaleza",
+        "America/Glace_Bay",
+        "America/Godthab",
+        "America/Goose_Bay",
+        "America/Grand_Turk",
+        "America/Grenada",
+        "America/Guadeloupe",
+        "America/Guatemala",
+        "America/Guayaquil",
+        "America/Guyana",
+        "America/Halifax",
+        "America/Havana",
+        "America/Hermosillo",
+        "America/Indiana/Knox",
+        "America/Indiana/Marengo",
+        "America/Indiana/Petersburg",
+        "America/Indiana/Indianapolis",
+        "America/Indiana/Vevay",
+        "America/Indiana/Vincennes",
+        "America/Inuvik",
+        "America/Iqaluit",
+        "America/Jamaica",
+        "America/Argentina/Jujuy",
+        "America/Juneau",
+        "America/Kentucky/Monticello",
+        "America/La_Paz",
+        "America/Lima",
+        "America/Los_Angeles",
+        "America/Kentucky/Louisville",
+        "America/Maceio",
+        "America/Managua",
+        "America/Manaus",
+        "America/Martinique",
+        "America/Mazatlan",
+        "America/Argentina/Mendoza",
+        "America/Menominee",
+        "America/Merida",
+        "America/Mexico_City",
+        "America/Miquelon",
+        "America/Moncton",
+        "America/Monterrey",
+        "America/Montevideo",
+        "America/Montreal",
+        "America/Montserrat",
+        "America/Nassau",
+        "America/New_York",
+        "America/Nipigon",
+        "America/Nome",
+        "America/Noronha",
+        "America/North_Dakota/Center",
+        "America/North_Dakota/New_Salem",
+        "America/Panama",
+        "America/Pangnirtung",
+        "America/Paramaribo",
+        "America/Phoenix",
+        "America/Port-au-Prince",
+        "America/Port_of_Spain",
+        "America/Porto_Velho",
+        "America/Puerto_Rico",
+        "America/Rainy_River",
+        "America/Rankin_Inlet",
+        "America/Recife",
+        "America/Regina",
+        "America/Rio_Branco",
+        "America/Santiago",
+        "America/Santo_Domingo",
+        "America/Sao_Paulo",
+        "America/Scoresbysund",
+        "America/Shiprock",
+        "America/St_Johns",
+        "America/St_Kitts",
+        "America/St_Lucia",
+        "America/St_Thomas",
+        "America/St_Vincent",
+        "America/Swift_Current",
+        "America/Tegucigalpa",
+        "America/Thule",
+        "America/Thunder_Bay",
+        "America/Tijuana",
+        "America/Toronto",
+        "America/Tortola",
+        "America/Vancouver",
+        "America/Whitehorse",
+        "America/Winnipeg",
+        "America/Yakutat",
+        "America/Yellowknife",
+        "Antarctica/Casey",
+        "Antarctica/Davis",
+        "Antarctica/DumontDUrville",
+        "Antarctica/Mawson",
+        "Antarctica/McMurdo",
+        "Antarctica/Palmer",
+        "Antarctica/Rothera",
+        "Antarctica/Syowa",
+        "Antarctica/Vostok",
+        "Asia/Aden",
+        "Asia/Almaty",
+        "Asia/Amman",
+        "Asia/Anadyr",
+        "Asia/Aqtau",
+        "Asia/Aqtobe",
+        "Asia/Ashgabat",
+        "Asia/Baghdad",
+        "Asia/Bahrain",
+        "Asia/Baku",
+        "Asia/Bangkok",
+        "Asia/Beirut",
+        "Asia/Bishkek",
+        "Asia/Brunei",
+        "Asia/Calcutta",
+        "Asia/Choibalsan",
+        "Asia/Chongqing",
+        "Asia/Colombo",
+        "Asia/Damascus",
+        "Asia/Dhaka",
+        "Asia/Dili",
+        "Asia/Dubai",
+        "Asia/Dushanbe",
+        "Asia/Gaza",
+        "Asia/Harbin",
+        "Asia/Hong_Kong",
+        "Asia/Hovd",
+        "Asia/Irkutsk",
+        "Asia/Jakarta",
+        "Asia/Jayapura",
+        "Asia/Jerusalem",
+        "Asia/Kabul",
+        "Asia/Kamchatka",
+        "Asia/Karachi",
+        "Asia/Kashgar",
+        "Asia/Katmandu",
+        "Asia/Krasnoyarsk",
+        "Asia/Kuala_Lumpur",
+        "Asia/Kuching",
+        "Asia/Kuwait",
+        "Asia/Macau",
+        "Asia/Magadan",
+        "Asia/Makassar",
+        "Asia/Manila",
+        "Asia/Muscat",
+        "Asia/Nicosia",
+        "Asia/Novosibirsk",
+        "Asia/Omsk",
+        "Asia/Oral",
+        "Asia/Phnom_Penh",
+        "Asia/Pontianak",
+        "Asia/Pyongyang",
+        "Asia/Qatar",
+        "Asia/Qyzylorda",
+        "Asia/Rangoon",
+        "Asia/Riyadh",
+        "Asia/Saigon",
+        "Asia/Sakhalin",
+        "Asia/Samarkand",
+        "Asia/Seoul",
+        "Asia/Shanghai",
+        "Asia/Singapore",
+        "Asia/Taipei",
+        "Asia/Tashkent",
+        "Asia/Tbilisi",
+        "Asia/Tehran",
+        "Asia/Thimphu",
+        "Asia/Tokyo",
+        "Asia/Ulaanbaatar",
+        "Asia/Urumqi",
+        "Asia/Vientiane",
+        "Asia/Vladivostok",
+        "Asia/Yakutsk",
+        "Asia/Yekaterinburg",
+        "Asia/Yerevan",
+        "Atlantic/Azores",
+        "Atlantic/Bermuda",
+        "Atlantic/Canary",
+        "Atlantic/Cape_Verde",
+        "Atlantic/Faeroe",
+        "Atlantic/Madeira",
+        "Atlantic/Reykjavik",
+        "Atlantic/South_Georgia",
+        "Atlantic/Stanley",
+        "Atlantic/St_Helena",
+        "Australia/Adelaide",
+        "Australia/Brisbane",
+        "Australia/Broken_Hill",
+        "Australia/Currie",
+        "Australia/Darwin",
+        "Australia/Eucla",
+        "Australia/Hobart",
+        "Australia/Lindeman",
+        "Australia/Lord_Howe",
+        "Australia/Melbourne",
+        "Australia/Perth",
+        "Australia/Sydney",
+        "Europe/Amsterdam",
+        "Europe/Andorra",
+        "Europe/Athens",
+        "Europe/Belgrade",
+        "Europe/Berlin",
+        "Europe/Bratislava",
+        "Europe/Brussels",
+        "Europe/Bucharest",
+        "Europe/Budapest",
+        "Europe/Chisinau",
+        "Europe/Copenhagen",
+        "Europe/Dublin",
+        "Europe/Gibraltar",
+        "Europe/Helsinki",
+        "Europe/Istanbul",
+        "Europe/Kaliningrad",
+        "Europe/Kiev",
+        "Europe/Lisbon",
+        "Europe/Ljubljana",
+        "Europe/London",
+        "Europe/Luxembourg",
+        "Europe/Madrid",
+        "Europe/Malta",
+        "Europe/Minsk",
+        "Europe/Monaco",
+        "Europe/Moscow",
+        "Europe/Oslo",
+        "Europe/Paris",
+        "Europe/Podgorica",
+        "Europe/Prague",
+        "Europe/Riga",
+        "Europe/Rome",
+        "Europe/Samara",
+        "Europe/Sarajevo",
+        "Europe/Simferopol",
+        "Europe/Skopje",
+        "Europe/Sofia",
+        "Europe/Stockholm",
+        "Europe/Tallinn",
+        "Europe/Tirane",
+        "Europe/Uzhgorod",
+        "Europe/Vaduz",
+        "Europe/Vienna",
+        "Europe/Vilnius",
+        "Europe/Volgograd",
+        "Europe/Warsaw",
+        "Europe/Zagreb",
+        "Europe/Zaporozhye",
+        "Europe/Zurich",
+        "Indian/Antananarivo",
+        "Indian/Chagos",
+        "Indian/Christmas",
+        "Indian/Cocos",
+        "Indian/Comoro",
+        "Indian/Kerguelen",
+        "Indian/Mahe",
+        "Indian/Maldives",
+        "Indian/Mauritius",
+        "Indian/Mayotte",
+        "Indian/Reunion",
+        "Pacific/Apia",
+        "Pacific/Auckland",
+        "Pacific/Chatham",
+        "Pacific/Easter",
+        "Pacific/Efate",
+        "Pacific/Enderbury",
+        "Pacific/Fakaofo",
+        "Pacific/Fiji",
+        "Pacific/Funafuti",
+        "Pacific/Galapagos",
+        "Pacific/Gambier",
+        "Pacific/Guadalcanal",
+        "Pacific/Guam",
+        "Pacific/Honolulu",
+        "Pacific/Johnston",
+        "Pacific/Kiritimati",
+        "Pacific/Kosrae",
+        "Pacific/Kwajalein",
+        "Pacific/Majuro",
+        "Pacific/Marquesas",
+        "Pacific/Midway",
+        "Pacific/Nauru",
+        "Pacific/Niue",
+        "Pacific/Norfolk",
+        "Pacific/Noumea",
+        "Pacific/Pago_Pago",
+        "Pacific/Palau",
+        "Pacific/Pitcairn",
+        "Pacific/Pohnpei",
+        "Pacific/Port_Moresby",
+        "Pacific/Rarotonga",
+        "Pacific/Saipan",
+        "Pacific/Tahiti",
+        "Pacific/Tarawa",
+        "Pacific/Tongatapu",
+        "Pacific/Chuuk",
+        "Pacific/Wake",
+        "Pacific/Wallis",
+        "America/Argentina/Salta",
+        "America/Argentina/San_Luis",
+        "America/Bahia_Banderas",
+        "America/Indiana/Tell_City",
+        "America/Indiana/Winamac",
+        "America/Marigot",
+        "America/Matamoros",
+        "America/Metlakatla",
+        "America/North_Dakota/Beulah",
+        "America/Ojinaga",
+        "America/Resolute",
+        "America/Santa_Isabel",
+        "America/Santarem",
+        "America/Sitka",
+        "America/St_Barthelemy",
+        "Antarctica/Macquarie",
+        "Arctic/Longyearbyen",
+        "Asia/Novokuznetsk",
+        "Europe/Guernsey",
+        "Europe/Isle_of_Man",
+        "Europe/Jersey",
+        "Europe/Mariehamn",
+        "Europe/San_Marino",
+        "Europe/Vatican",
+        "Africa/Asmara",
+        "Africa/Juba",
+        "America/Atikokan",
+        "America/Creston",
+        "America/Kralendijk",
+        "America/Lower_Princes",
+        "Antarctica/South_Pole",
+        "Asia/Hebron",
+        "Asia/Ho_Chi_Minh",
+        "Asia/Kathmandu",
+        "Asia/Kolkata",
+        "Atlantic/Faroe",
+        "UTC"
+    };
+
     /**
      * The instance of the time zone lookup helper
      */
     private static TimezoneLookupHelper instance;
 
     /**
-     * The map used to do the lookup of time zone
+     * The map used to do the lookup of the time zones that have been parsed
      */
     private HashMap<String, TimeZoneInfo> timeZoneInfos = new HashMap<String, TimeZoneInfo>();
 
     /**
-     * Class constructor
-     *
-     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
-     * @since  16 July 2016
+     * The map of time zone id to the index of the time zone data, created on the first lookup
      */
-    private TimezoneLookupHelper() {
-        initLookup();
-    }
+    private HashMap<String, Integer> timeZoneIndexes;
+
+    /**
+     * The constants holding the time zone data, created on the first lookup
+     */
+    private SSTimeZoneConstants timeZoneConstants;
 
     /**
-     * Adds a time zone info item to the lookup hash map
+     * The compact time zone data, created on the first compact lookup
+     */
+    private CompactTimeZoneData compactTimeZoneData;
+
+    /**
+     * Class constructor
      *
      * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
      * @since  16 July 2016
-     *
-     * @param timezoneInfo - The time zone info details as retrieve from the SSTimeZoneConstants
      */
-    private void addTimeZoneInfo(String timezoneInfo) {
-        TimeZoneInfo x = TimeZoneInfo.buildTimeZoneData(timezoneInfo);
-        timeZoneInfos.put(x.getID(), x);
+    private TimezoneLookupHelper() {
     }
 
     /**
@@ -76,7 +512,41 @@ public class TimezoneLookupHelper {
     }
 
     /**
-     * Retrieves a time zone for a give time zone id
+     * Retrieves a time zone for a given time zone id from a split point, so that the time zone
+     * data is only downloaded when it is first needed. The time zone data is only left out of
+     * the initial download if getInstance is not called outside of a split point.
+     *
+     * @since 18 October 2026
+     *
+     * @param id - The time zone id like Africa/Johannesburg
+     * @param callback - The callback that receives the time zone, or null if there is no time zone with the id
+     */
+    public static void getTimezoneAsync(final String id, final AsyncCallback<TimeZoneInfo> callback) {
+        GWT.runAsync(TimezoneLookupHelper.class, new RunAsyncCallback() {
+
+            /**
+             * Passes the failure to download the time zone data on to the callback
+             *
+             * @param reason - The reason the download failed
+             */
+            @Override
+            public void onFailure(Throwable reason) {
+                callback.onFailure(reason);
+            }
+
+            /**
+             * Looks up the time zone once the time zone data is available
+             */
+            @Override
+            public void onSuccess() {
+                callback.onSuccess(getInstance().getTimezone(id));
+            }
+        });
+    }
+
+    /**
+     * Retrieves a time zone for a give time zone id. The data of the time zone is parsed
+     * the first time the time zone is retrieved.
      *
      * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
      * @since  16 July 2016
@@ -86,441 +556,921 @@ public class TimezoneLookupHelper {
      * @return The time zone for the given id
      */
     public TimeZoneInfo getTimezone(String id) {
-        if (timeZoneInfos.containsKey(id)) {
-            return timeZoneInfos.get(id);
+        TimeZoneInfo timeZoneInfo = timeZoneInfos.get(id);
+        if (timeZoneInfo == null) {
+            Integer index = getTimeZoneIndexes().get(id);
+            if (index == null) {
+                return null;
+            }
+            timeZoneInfo = TimeZoneInfo.buildTimeZoneData(getTimeZoneData(index));
+            timeZoneInfos.put(id, timeZoneInfo);
         }
-        return null;
+        return timeZoneInfo;
     }
 
     /**
-     * Initializes the time zone lookup hash map
+     * Retrieves a time zone for a given time zone id from the compact time zone data in
+     * SSCompactTimeZoneConstants. The compact data is a fraction of the size of the JSON time
+     * zone data and is decoded without parsing JSON, so applications that only use this method
+     * do not compile the JSON time zone data into their code.
      *
-     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
-     * @since  16 July 2016
+     * @since 18 October 2026
+     *
+     * @param id - The time zone id like Africa/Johannesburg
+     *
+     * @return The time zone for the given id, null if there is no time zone with the id
      */
-    private void initLookup() {
-        SSTimeZoneConstants timeZoneConstants = GWT.create(SSTimeZoneConstants.class);
-        addTimeZoneInfo(timeZoneConstants.africaAbidjan());
-        addTimeZoneInfo(timeZoneConstants.africaAccra());
-        addTimeZoneInfo(timeZoneConstants.africaAddisAbaba());
-        addTimeZoneInfo(timeZoneConstants.africaAlgiers());
-        addTimeZoneInfo(timeZoneConstants.africaAsmera());
-        addTimeZoneInfo(timeZoneConstants.africaBamako());
-        addTimeZoneInfo(timeZoneConstants.africaBangui());
-        addTimeZoneInfo(timeZoneConstants.africaBanjul());
-        addTimeZoneInfo(timeZoneConstants.africaBissau());
-        addTimeZoneInfo(timeZoneConstants.africaBlantyre());
-        addTimeZoneInfo(timeZoneConstants.africaBrazzaville());
-        addTimeZoneInfo(timeZoneConstants.africaBujumbura());
-        addTimeZoneInfo(timeZoneConstants.africaCairo());
-        addTimeZoneInfo(timeZoneConstants.africaCasablanca());
-        addTimeZoneInfo(timeZoneConstants.africaCeuta());
-        addTimeZoneInfo(timeZoneConstants.africaConakry());
-        addTimeZoneInfo(timeZoneConstants.africaDakar());
-        addTimeZoneInfo(timeZoneConstants.africaDaresSalaam());
-        addTimeZoneInfo(timeZoneConstants.africaDjibouti());
-        addTimeZoneInfo(timeZoneConstants.africaDouala());
-        addTimeZoneInfo(timeZoneConstants.africaElAaiun());
-        addTimeZoneInfo(timeZoneConstants.africaFreetown());
-        addTimeZoneInfo(timeZoneConstants.africaGaborone());
-        addTimeZoneInfo(timeZoneConstants.africaHarare());
-        addTimeZoneInfo(timeZoneConstants.africaJohannesburg());
-        addTimeZoneInfo(timeZoneConstants.africaKampala());
-        addTimeZoneInfo(timeZoneConstants.africaKhartoum());
-        addTimeZoneInfo(timeZoneConstants.africaKigali());
-        addTimeZoneInfo(timeZoneConstants.africaKinshasa());
-        addTimeZoneInfo(timeZoneConstants.africaLagos());
-        addTimeZoneInfo(timeZoneConstants.africaLibreville());
-        addTimeZoneInfo(timeZoneConstants.africaLome());
-        addTimeZoneInfo(timeZoneConstants.africaLuanda());
-        addTimeZoneInfo(timeZoneConstants.africaLubumbashi());
-        addTimeZoneInfo(timeZoneConstants.africaLusaka());
-        addTimeZoneInfo(timeZoneConstants.africaMalabo());
-        addTimeZoneInfo(timeZoneConstants.africaMaputo());
-        addTimeZoneInfo(timeZoneConstants.africaMaseru());
-        addTimeZoneInfo(timeZoneConstants.africaMbabane());
-        addTimeZoneInfo(timeZoneConstants.africaMogadishu());
-        addTimeZoneInfo(timeZoneConstants.africaMonrovia());
-        addTimeZoneInfo(timeZoneConstants.africaNairobi());
-        addTimeZoneInfo(timeZoneConstants.africaNdjamena());
-        addTimeZoneInfo(timeZoneConstants.africaNiamey());
-        addTimeZoneInfo(timeZoneConstants.africaNouakchott());
-        addTimeZoneInfo(timeZoneConstants.africaOuagadougou());
-        addTimeZoneInfo(timeZoneConstants.africaPortoNovo());
-        addTimeZoneInfo(timeZoneConstants.africaSaoTome());
-        addTimeZoneInfo(timeZoneConstants.africaTripoli());
-        addTimeZoneInfo(timeZoneConstants.africaTunis());
-        addTimeZoneInfo(timeZoneConstants.africaWindhoek());
-        addTimeZoneInfo(timeZoneConstants.americaAdak());
-        addTimeZoneInfo(timeZoneConstants.americaAnchorage());
-        addTimeZoneInfo(timeZoneConstants.americaAnguilla());
-        addTimeZoneInfo(timeZoneConstants.americaAntigua());
-        addTimeZoneInfo(timeZoneConstants.americaAraguaina());
-        addTimeZoneInfo(timeZoneConstants.americaArgentinaLaRioja());
-        addTimeZoneInfo(timeZoneConstants.americaArgentinaRioGallegos());
-        addTimeZoneInfo(timeZoneConstants.americaArgentinaSanJuan());
-        addTimeZoneInfo(timeZoneConstants.americaArgentinaTucuman());
-        addTimeZoneInfo(timeZoneConstants.americaArgentinaUshuaia());
-        addTimeZoneInfo(timeZoneConstants.americaAruba());
-        addTimeZoneInfo(timeZoneConstants.americaAsuncion());
-        addTimeZoneInfo(timeZoneConstants.americaBahia());
-        addTimeZoneInfo(timeZoneConstants.americaBarbados());
-        addTimeZoneInfo(timeZoneConstants.americaBelem());
-        addTimeZoneInfo(timeZoneConstants.americaBelize());
-        addTimeZoneInfo(timeZoneConstants.americaBlancSablon());
-        addTimeZoneInfo(timeZoneConstants.americaBoaVista());
-        addTimeZoneInfo(timeZoneConstants.americaBogota());
-        addTimeZoneInfo(timeZoneConstants.americaBoise());
-        addTimeZoneInfo(timeZoneConstants.americaBuenosAires());
-        addTimeZoneInfo(timeZoneConstants.americaCambridgeBay());
-        addTimeZoneInfo(timeZoneConstants.americaCampoGrande());
-        addTimeZoneInfo(timeZoneConstants.americaCancun());
-        addTimeZoneInfo(timeZoneConstants.americaCaracas());
-        addTimeZoneInfo(timeZoneConstants.americaCatamarca());
-        addTimeZoneInfo(timeZoneConstants.americaCayenne());
-        addTimeZoneInfo(timeZoneConstants.americaCayman());
-        addTimeZoneInfo(timeZoneConstants.americaChicago());
-        addTimeZoneInfo(timeZoneConstants.americaChihuahua());
-        addTimeZoneInfo(timeZoneConstants.americaCoralHarbour());
-        addTimeZoneInfo(timeZoneConstants.americaCordoba());
-        addTimeZoneInfo(timeZoneConstants.americaCostaRica());
-        addTimeZoneInfo(timeZoneConstants.americaCuiaba());
-        addTimeZoneInfo(timeZoneConstants.americaCuracao());
-        addTimeZoneInfo(timeZoneConstants.americaDanmarkshavn());
-        addTimeZoneInfo(timeZoneConstants.americaDawson());
-        addTimeZoneInfo(timeZoneConstants.americaDawsonCreek());
-        addTimeZoneInfo(timeZoneConstants.americaDenver());
-        addTimeZoneInfo(timeZoneConstants.americaDetroit());
-        addTimeZoneInfo(timeZoneConstants.americaDominica());
-        addTimeZoneInfo(timeZoneConstants.americaEdmonton());
-        addTimeZoneInfo(timeZoneConstants.americaEirunepe());
-        addTimeZoneInfo(timeZoneConstants.americaElSalvador());
-        addTimeZoneInfo(timeZoneConstants.americaFortaleza());
-        addTimeZoneInfo(timeZoneConstants.americaGlaceBay());
-        addTimeZoneInfo(timeZoneConstants.americaGodthab());
-        addTimeZoneInfo(timeZoneConstants.americaGooseBay());
-        addTimeZoneInfo(timeZoneConstants.americaGrandTurk());
-        addTimeZoneInfo(timeZoneConstants.americaGrenada());
-        addTimeZoneInfo(timeZoneConstants.americaGuadeloupe());
-        addTimeZoneInfo(timeZoneConstants.americaGuatemala());
-        addTimeZoneInfo(timeZoneConstants.americaGuayaquil());
-        addTimeZoneInfo(timeZoneConstants.americaGuyana());
-        addTimeZoneInfo(timeZoneConstants.americaHalifax());
-        addTimeZoneInfo(timeZoneConstants.americaHavana());
-        addTimeZoneInfo(timeZoneConstants.americaHermosillo());
-        addTimeZoneInfo(timeZoneConstants.americaIndianaKnox());
-        addTimeZoneInfo(timeZoneConstants.americaIndianaMarengo());
-        addTimeZoneInfo(timeZoneConstants.americaIndianaPetersburg());
-        addTimeZoneInfo(timeZoneConstants.americaIndianapolis());
-        addTimeZoneInfo(timeZoneConstants.americaIndianaVevay());
-        addTimeZoneInfo(timeZoneConstants.americaIndianaVincennes());
-        addTimeZoneInfo(timeZoneConstants.americaInuvik());
-        addTimeZoneInfo(timeZoneConstants.americaIqaluit());
-        addTimeZoneInfo(timeZoneConstants.americaJamaica());
-        addTimeZoneInfo(timeZoneConstants.americaJujuy());
-        addTimeZoneInfo(timeZoneConstants.americaJuneau());
-        addTimeZoneInfo(timeZoneConstants.americaKentuckyMonticello());
-        addTimeZoneInfo(timeZoneConstants.americaLaPaz());
-        addTimeZoneInfo(timeZoneConstants.americaLima());
-        addTimeZoneInfo(timeZoneConstants.americaLosAngeles());
-        addTimeZoneInfo(timeZoneConstants.americaLouisville());
-        addTimeZoneInfo(timeZoneConstants.americaMaceio());
-        addTimeZoneInfo(timeZoneConstants.americaManagua());
-        addTimeZoneInfo(timeZoneConstants.americaManaus());
-        addTimeZoneInfo(timeZoneConstants.americaMartinique());
-        addTimeZoneInfo(timeZoneConstants.americaMazatlan());
-        addTimeZoneInfo(timeZoneConstants.americaMendoza());
-        addTimeZoneInfo(timeZoneConstants.americaMenominee());
-        addTimeZoneInfo(timeZoneConstants.americaMerida());
-        addTimeZoneInfo(timeZoneConstants.americaMexicoCity());
-        addTimeZoneInfo(timeZoneConstants.americaMiquelon());
-        addTimeZoneInfo(timeZoneConstants.americaMoncton());
-        addTimeZoneInfo(timeZoneConstants.americaMonterrey());
-        addTimeZoneInfo(timeZoneConstants.americaMontevideo());
-        addTimeZoneInfo(timeZoneConstants.americaMontreal());
-        addTimeZoneInfo(timeZoneConstants.americaMontserrat());
-        addTimeZoneInfo(timeZoneConstants.americaNassau());
-        addTimeZoneInfo(timeZoneConstants.americaNewYork());
-        addTimeZoneInfo(timeZoneConstants.americaNipigon());
-        addTimeZoneInfo(timeZoneConstants.americaNome());
-        addTimeZoneInfo(timeZoneConstants.americaNoronha());
-        addTimeZoneInfo(timeZoneConstants.americaNorthDakotaCenter());
-        addTimeZoneInfo(timeZoneConstants.americaNorthDakotaNewSalem());
-        addTimeZoneInfo(timeZoneConstants.americaPanama());
-        addTimeZoneInfo(timeZoneConstants.americaPangnirtung());
-        addTimeZoneInfo(timeZoneConstants.americaParamaribo());
-        addTimeZoneInfo(timeZoneConstants.americaPhoenix());
-        addTimeZoneInfo(timeZoneConstants.americaPortauPrince());
-        addTimeZoneInfo(timeZoneConstants.americaPortofSpain());
-        addTimeZoneInfo(timeZoneConstants.americaPortoVelho());
-        addTimeZoneInfo(timeZoneConstants.americaPuertoRico());
-        addTimeZoneInfo(timeZoneConstants.americaRainyRiver());
-        addTimeZoneInfo(timeZoneConstants.americaRankinInlet());
-        addTimeZoneInfo(timeZoneConstants.americaRecife());
-        addTimeZoneInfo(timeZoneConstants.americaRegina());
-        addTimeZoneInfo(timeZoneConstants.americaRioBranco());
-        addTimeZoneInfo(timeZoneConstants.americaSantiago());
-        addTimeZoneInfo(timeZoneConstants.americaSantoDomingo());
-        addTimeZoneInfo(timeZoneConstants.americaSaoPaulo());
-        addTimeZoneInfo(timeZoneConstants.americaScoresbysund());
-        addTimeZoneInfo(timeZoneConstants.americaShiprock());
-        addTimeZoneInfo(timeZoneConstants.americaStJohns());
-        addTimeZoneInfo(timeZoneConstants.americaStKitts());
-        addTimeZoneInfo(timeZoneConstants.americaStLucia());
-        addTimeZoneInfo(timeZoneConstants.americaStThomas());
-        addTimeZoneInfo(timeZoneConstants.americaStVincent());
-        addTimeZoneInfo(timeZoneConstants.americaSwiftCurrent());
-        addTimeZoneInfo(timeZoneConstants.americaTegucigalpa());
-        addTimeZoneInfo(timeZoneConstants.americaThule());
-        addTimeZoneInfo(timeZoneConstants.americaThunderBay());
-        addTimeZoneInfo(timeZoneConstants.americaTijuana());
-        addTimeZoneInfo(timeZoneConstants.americaToronto());
-        addTimeZoneInfo(timeZoneConstants.americaTortola());
-        addTimeZoneInfo(timeZoneConstants.americaVancouver());
-        addTimeZoneInfo(timeZoneConstants.americaWhitehorse());
-        addTimeZoneInfo(timeZoneConstants.americaWinnipeg());
-        addTimeZoneInfo(timeZoneConstants.americaYakutat());
-        addTimeZoneInfo(timeZoneConstants.americaYellowknife());
-        addTimeZoneInfo(timeZoneConstants.antarcticaCasey());
-        addTimeZoneInfo(timeZoneConstants.antarcticaDavis());
-        addTimeZoneInfo(timeZoneConstants.antarcticaDumontDUrville());
-        addTimeZoneInfo(timeZoneConstants.antarcticaMawson());
-        addTimeZoneInfo(timeZoneConstants.antarcticaMcMurdo());
-        addTimeZoneInfo(timeZoneConstants.antarcticaPalmer());
-        addTimeZoneInfo(timeZoneConstants.antarcticaRothera());
-        addTimeZoneInfo(timeZoneConstants.antarcticaSyowa());
-        addTimeZoneInfo(timeZoneConstants.antarcticaVostok());
-        addTimeZoneInfo(timeZoneConstants.asiaAden());
-        addTimeZoneInfo(timeZoneConstants.asiaAlmaty());
-        addTimeZoneInfo(timeZoneConstants.asiaAmman());
-        addTimeZoneInfo(timeZoneConstants.asiaAnadyr());
-        addTimeZoneInfo(timeZoneConstants.asiaAqtau());
-        addTimeZoneInfo(timeZoneConstants.asiaAqtobe());
-        addTimeZoneInfo(timeZoneConstants.asiaAshgabat());
-        addTimeZoneInfo(timeZoneConstants.asiaBaghdad());
-        addTimeZoneInfo(timeZoneConstants.asiaBahrain());
-        addTimeZoneInfo(timeZoneConstants.asiaBaku());
-        addTimeZoneInfo(timeZoneConstants.asiaBangkok());
-        addTimeZoneInfo(timeZoneConstants.asiaBeirut());
-        addTimeZoneInfo(timeZoneConstants.asiaBishkek());
-        addTimeZoneInfo(timeZoneConstants.asiaBrunei());
-        addTimeZoneInfo(timeZoneConstants.asiaCalcutta());
-        addTimeZoneInfo(timeZoneConstants.asiaChoibalsan());
-        addTimeZoneInfo(timeZoneConstants.asiaChongqing());
-        addTimeZoneInfo(timeZoneConstants.asiaColombo());
-        addTimeZoneInfo(timeZoneConstants.asiaDamascus());
-        addTimeZoneInfo(timeZoneConstants.asiaDhaka());
-        addTimeZoneInfo(timeZoneConstants.asiaDili());
-        addTimeZoneInfo(timeZoneConstants.asiaDubai());
-        addTimeZoneInfo(timeZoneConstants.asiaDushanbe());
-        addTimeZoneInfo(timeZoneConstants.asiaGaza());
-        addTimeZoneInfo(timeZoneConstants.asiaHarbin());
-        addTimeZoneInfo(timeZoneConstants.asiaHongKong());
-        addTimeZoneInfo(timeZoneConstants.asiaHovd());
-        addTimeZoneInfo(timeZoneConstants.asiaIrkutsk());
-        addTimeZoneInfo(timeZoneConstants.asiaJakarta());
-        addTimeZoneInfo(timeZoneConstants.asiaJayapura());
-        addTimeZoneInfo(timeZoneConstants.asiaJerusalem());
-        addTimeZoneInfo(timeZoneConstants.asiaKabul());
-        addTimeZoneInfo(timeZoneConstants.asiaKamchatka());
-        addTimeZoneInfo(timeZoneConstants.asiaKarachi());
-        addTimeZoneInfo(timeZoneConstants.asiaKashgar());
-        addTimeZoneInfo(timeZoneConstants.asiaKatmandu());
-        addTimeZoneInfo(timeZoneConstants.asiaKrasnoyarsk());
-        addTimeZoneInfo(timeZoneConstants.asiaKualaLumpur());
-        addTimeZoneInfo(timeZoneConstants.asiaKuching());
-        addTimeZoneInfo(timeZoneConstants.asiaKuwait());
-        addTimeZoneInfo(timeZoneConstants.asiaMacau());
-        addTimeZoneInfo(timeZoneConstants.asiaMagadan());
-        addTimeZoneInfo(timeZoneConstants.asiaMakassar());
-        addTimeZoneInfo(timeZoneConstants.asiaManila());
-        addTimeZoneInfo(timeZoneConstants.asiaMuscat());
-        addTimeZoneInfo(timeZoneConstants.asiaNicosia());
-        addTimeZoneInfo(timeZoneConstants.asiaNovosibirsk());
-        addTimeZoneInfo(timeZoneConstants.asiaOmsk());
-        addTimeZoneInfo(timeZoneConstants.asiaOral());
-        addTimeZoneInfo(timeZoneConstants.asiaPhnomPenh());
-        addTimeZoneInfo(timeZoneConstants.asiaPontianak());
-        addTimeZoneInfo(timeZoneConstants.asiaPyongyang());
-        addTimeZoneInfo(timeZoneConstants.asiaQatar());
-        addTimeZoneInfo(timeZoneConstants.asiaQyzylorda());
-        addTimeZoneInfo(timeZoneConstants.asiaRangoon());
-        addTimeZoneInfo(timeZoneConstants.asiaRiyadh());
-        addTimeZoneInfo(timeZoneConstants.asiaSaigon());
-        addTimeZoneInfo(timeZoneConstants.asiaSakhalin());
-        addTimeZoneInfo(timeZoneConstants.asiaSamarkand());
-        addTimeZoneInfo(timeZoneConstants.asiaSeoul());
-        addTimeZoneInfo(timeZoneConstants.asiaShanghai());
-        addTimeZoneInfo(timeZoneConstants.asiaSingapore());
-        addTimeZoneInfo(timeZoneConstants.asiaTaipei());
-        addTimeZoneInfo(timeZoneConstants.asiaTashkent());
-        addTimeZoneInfo(timeZoneConstants.asiaTbilisi());
-        addTimeZoneInfo(timeZoneConstants.asiaTehran());
-        addTimeZoneInfo(timeZoneConstants.asiaThimphu());
-        addTimeZoneInfo(timeZoneConstants.asiaTokyo());
-        addTimeZoneInfo(timeZoneConstants.asiaUlaanbaatar());
-        addTimeZoneInfo(timeZoneConstants.asiaUrumqi());
-        addTimeZoneInfo(timeZoneConstants.asiaVientiane());
-        addTimeZoneInfo(timeZoneConstants.asiaVladivostok());
-        addTimeZoneInfo(timeZoneConstants.asiaYakutsk());
-        addTimeZoneInfo(timeZoneConstants.asiaYekaterinburg());
-        addTimeZoneInfo(timeZoneConstants.asiaYerevan());
-        addTimeZoneInfo(timeZoneConstants.atlanticAzores());
-        addTimeZoneInfo(timeZoneConstants.atlanticBermuda());
-        addTimeZoneInfo(timeZoneConstants.atlanticCanary());
-        addTimeZoneInfo(timeZoneConstants.atlanticCapeVerde());
-        addTimeZoneInfo(timeZoneConstants.atlanticFaeroe());
-        addTimeZoneInfo(timeZoneConstants.atlanticMadeira());
-        addTimeZoneInfo(timeZoneConstants.atlanticReykjavik());
-        addTimeZoneInfo(timeZoneConstants.atlanticSouthGeorgia());
-        addTimeZoneInfo(timeZoneConstants.atlanticStanley());
-        addTimeZoneInfo(timeZoneConstants.atlanticStHelena());
-        addTimeZoneInfo(timeZoneConstants.australiaAdelaide());
-        addTimeZoneInfo(timeZoneConstants.australiaBrisbane());
-        addTimeZoneInfo(timeZoneConstants.australiaBrokenHill());
-        addTimeZoneInfo(timeZoneConstants.australiaCurrie());
-        addTimeZoneInfo(timeZoneConstants.australiaDarwin());
-        addTimeZoneInfo(timeZoneConstants.australiaEucla());
-        addTimeZoneInfo(timeZoneConstants.australiaHobart());
-        addTimeZoneInfo(timeZoneConstants.australiaLindeman());
-        addTimeZoneInfo(timeZoneConstants.australiaLordHowe());
-        addTimeZoneInfo(timeZoneConstants.australiaMelbourne());
-        addTimeZoneInfo(timeZoneConstants.australiaPerth());
-        addTimeZoneInfo(timeZoneConstants.australiaSydney());
-        addTimeZoneInfo(timeZoneConstants.europeAmsterdam());
-        addTimeZoneInfo(timeZoneConstants.europeAndorra());
-        addTimeZoneInfo(timeZoneConstants.europeAthens());
-        addTimeZoneInfo(timeZoneConstants.europeBelgrade());
-        addTimeZoneInfo(timeZoneConstants.europeBerlin());
-        addTimeZoneInfo(timeZoneConstants.europeBratislava());
-        addTimeZoneInfo(timeZoneConstants.europeBrussels());
-        addTimeZoneInfo(timeZoneConstants.europeBucharest());
-        addTimeZoneInfo(timeZoneConstants.europeBudapest());
-        addTimeZoneInfo(timeZoneConstants.europeChisinau());
-        addTimeZoneInfo(timeZoneConstants.europeCopenhagen());
-        addTimeZoneInfo(timeZoneConstants.europeDublin());
-        addTimeZoneInfo(timeZoneConstants.europeGibraltar());
-        addTimeZoneInfo(timeZoneConstants.europeHelsinki());
-        addTimeZoneInfo(timeZoneConstants.europeIstanbul());
-        addTimeZoneInfo(timeZoneConstants.europeKaliningrad());
-        addTimeZoneInfo(timeZoneConstants.europeKiev());
-        addTimeZoneInfo(timeZoneConstants.europeLisbon());
-        addTimeZoneInfo(timeZoneConstants.europeLjubljana());
-        addTimeZoneInfo(timeZoneConstants.europeLondon());
-        addTimeZoneInfo(timeZoneConstants.europeLuxembourg());
-        addTimeZoneInfo(timeZoneConstants.europeMadrid());
-        addTimeZoneInfo(timeZoneConstants.europeMalta());
-        addTimeZoneInfo(timeZoneConstants.europeMinsk());
-        addTimeZoneInfo(timeZoneConstants.europeMonaco());
-        addTimeZoneInfo(timeZoneConstants.europeMoscow());
-        addTimeZoneInfo(timeZoneConstants.europeOslo());
-        addTimeZoneInfo(timeZoneConstants.europeParis());
-        addTimeZoneInfo(timeZoneConstants.europePodgorica());
-        addTimeZoneInfo(timeZoneConstants.europePrague());
-        addTimeZoneInfo(timeZoneConstants.europeRiga());
-        addTimeZoneInfo(timeZoneConstants.europeRome());
-        addTimeZoneInfo(timeZoneConstants.europeSamara());
-        addTimeZoneInfo(timeZoneConstants.europeSarajevo());
-        addTimeZoneInfo(timeZoneConstants.europeSimferopol());
-        addTimeZoneInfo(timeZoneConstants.europeSkopje());
-        addTimeZoneInfo(timeZoneConstants.europeSofia());
-        addTimeZoneInfo(timeZoneConstants.europeStockholm());
-        addTimeZoneInfo(timeZoneConstants.europeTallinn());
-        addTimeZoneInfo(timeZoneConstants.europeTirane());
-        addTimeZoneInfo(timeZoneConstants.europeUzhgorod());
-        addTimeZoneInfo(timeZoneConstants.europeVaduz());
-        addTimeZoneInfo(timeZoneConstants.europeVienna());
-        addTimeZoneInfo(timeZoneConstants.europeVilnius());
-        addTimeZoneInfo(timeZoneConstants.europeVolgograd());
-        addTimeZoneInfo(timeZoneConstants.europeWarsaw());
-        addTimeZoneInfo(timeZoneConstants.europeZagreb());
-        addTimeZoneInfo(timeZoneConstants.europeZaporozhye());
-        addTimeZoneInfo(timeZoneConstants.europeZurich());
-        addTimeZoneInfo(timeZoneConstants.indianAntananarivo());
-        addTimeZoneInfo(timeZoneConstants.indianChagos());
-        addTimeZoneInfo(timeZoneConstants.indianChristmas());
-        addTimeZoneInfo(timeZoneConstants.indianCocos());
-        addTimeZoneInfo(timeZoneConstants.indianComoro());
-        addTimeZoneInfo(timeZoneConstants.indianKerguelen());
-        addTimeZoneInfo(timeZoneConstants.indianMahe());
-        addTimeZoneInfo(timeZoneConstants.indianMaldives());
-        addTimeZoneInfo(timeZoneConstants.indianMauritius());
-        addTimeZoneInfo(timeZoneConstants.indianMayotte());
-        addTimeZoneInfo(timeZoneConstants.indianReunion());
-        addTimeZoneInfo(timeZoneConstants.pacificApia());
-        addTimeZoneInfo(timeZoneConstants.pacificAuckland());
-        addTimeZoneInfo(timeZoneConstants.pacificChatham());
-        addTimeZoneInfo(timeZoneConstants.pacificEaster());
-        addTimeZoneInfo(timeZoneConstants.pacificEfate());
-        addTimeZoneInfo(timeZoneConstants.pacificEnderbury());
-        addTimeZoneInfo(timeZoneConstants.pacificFakaofo());
-        addTimeZoneInfo(timeZoneConstants.pacificFiji());
-        addTimeZoneInfo(timeZoneConstants.pacificFunafuti());
-        addTimeZoneInfo(timeZoneConstants.pacificGalapagos());
-        addTimeZoneInfo(timeZoneConstants.pacificGambier());
-        addTimeZoneInfo(timeZoneConstants.pacificGuadalcanal());
-        addTimeZoneInfo(timeZoneConstants.pacificGuam());
-        addTimeZoneInfo(timeZoneConstants.pacificHonolulu());
-        addTimeZoneInfo(timeZoneConstants.pacificJohnston());
-        addTimeZoneInfo(timeZoneConstants.pacificKiritimati());
-        addTimeZoneInfo(timeZoneConstants.pacificKosrae());
-        addTimeZoneInfo(timeZoneConstants.pacificKwajalein());
-        addTimeZoneInfo(timeZoneConstants.pacificMajuro());
-        addTimeZoneInfo(timeZoneConstants.pacificMarquesas());
-        addTimeZoneInfo(timeZoneConstants.pacificMidway());
-        addTimeZoneInfo(timeZoneConstants.pacificNauru());
-        addTimeZoneInfo(timeZoneConstants.pacificNiue());
-        addTimeZoneInfo(timeZoneConstants.pacificNorfolk());
-        addTimeZoneInfo(timeZoneConstants.pacificNoumea());
-        addTimeZoneInfo(timeZoneConstants.pacificPagoPago());
-        addTimeZoneInfo(timeZoneConstants.pacificPalau());
-        addTimeZoneInfo(timeZoneConstants.pacificPitcairn());
-        addTimeZoneInfo(timeZoneConstants.pacificPonape());
-        addTimeZoneInfo(timeZoneConstants.pacificPortMoresby());
-        addTimeZoneInfo(timeZoneConstants.pacificRarotonga());
-        addTimeZoneInfo(timeZoneConstants.pacificSaipan());
-        addTimeZoneInfo(timeZoneConstants.pacificTahiti());
-        addTimeZoneInfo(timeZoneConstants.pacificTarawa());
-        addTimeZoneInfo(timeZoneConstants.pacificTongatapu());
-        addTimeZoneInfo(timeZoneConstants.pacificTruk());
-        addTimeZoneInfo(timeZoneConstants.pacificWake());
-        addTimeZoneInfo(timeZoneConstants.pacificWallis());
-        addTimeZoneInfo(timeZoneConstants.americaArgentinaSalta());
-        addTimeZoneInfo(timeZoneConstants.americaArgentinaSanLuis());
-        addTimeZoneInfo(timeZoneConstants.americaBahiaBanderas());
-        addTimeZoneInfo(timeZoneConstants.americaIndianaTellCity());
-        addTimeZoneInfo(timeZoneConstants.americaIndianaWinamac());
-        addTimeZoneInfo(timeZoneConstants.americaMarigot());
-        addTimeZoneInfo(timeZoneConstants.americaMatamoros());
-        addTimeZoneInfo(timeZoneConstants.americaMetlakatla());
-        addTimeZoneInfo(timeZoneConstants.americaNorthDakotaBeulah());
-        addTimeZoneInfo(timeZoneConstants.americaOjinaga());
-        addTimeZoneInfo(timeZoneConstants.americaResolute());
-        addTimeZoneInfo(timeZoneConstants.americaSantaIsabel());
-        addTimeZoneInfo(timeZoneConstants.americaSantarem());
-        addTimeZoneInfo(timeZoneConstants.americaSitka());
-        addTimeZoneInfo(timeZoneConstants.americaStBarthelemy());
-        addTimeZoneInfo(timeZoneConstants.antarcticaMacquarie());
-        addTimeZoneInfo(timeZoneConstants.arcticLongyearbyen());
-        addTimeZoneInfo(timeZoneConstants.asiaNovokuznetsk());
-        addTimeZoneInfo(timeZoneConstants.europeGuernsey());
-        addTimeZoneInfo(timeZoneConstants.europeIsleofMan());
-        addTimeZoneInfo(timeZoneConstants.europeJersey());
-        addTimeZoneInfo(timeZoneConstants.europeMariehamn());
-        addTimeZoneInfo(timeZoneConstants.europeSanMarino());
-        addTimeZoneInfo(timeZoneConstants.europeVatican());
-        addTimeZoneInfo(timeZoneConstants.africaAsmara());
-        addTimeZoneInfo(timeZoneConstants.africaJuba());
-        addTimeZoneInfo(timeZoneConstants.americaAtikokan());
-        addTimeZoneInfo(timeZoneConstants.americaCreston());
-        addTimeZoneInfo(timeZoneConstants.americaKralendijk());
-        addTimeZoneInfo(timeZoneConstants.americaLowerPrinces());
-        addTimeZoneInfo(timeZoneConstants.antarcticaSouthPole());
-        addTimeZoneInfo(timeZoneConstants.asiaHebron());
-        addTimeZoneInfo(timeZoneConstants.asiaHoChiMinh());
-        addTimeZoneInfo(timeZoneConstants.asiaKathmandu());
-        addTimeZoneInfo(timeZoneConstants.asiaKolkata());
-        addTimeZoneInfo(timeZoneConstants.atlanticFaroe());
-        addTimeZoneInfo(timeZoneConstants.utc());
+    public TimeZone getCompactTimezone(String id) {
+        if (compactTimeZoneData == null) {
+            SSCompactTimeZoneConstants constants = GWT.create(SSCompactTimeZoneConstants.class);
+            compactTimeZoneData = new CompactTimeZoneData(
+                constants.timeZoneNames(),
+                constants.timeZoneAdjustments(),
+                constants.timeZoneTransitions(),
+                constants.timeZones()
+            );
+        }
+        return compactTimeZoneData.getTimeZone(id);
+    }
+
+    /**
+     * Retrieves the map of time zone id to the index of the time zone data, creating it
+     * on the first call
+     *
+     * @since 18 October 2026
+     *
+     * @return The map of time zone id to the index of the time zone data
+     */
+    private HashMap<String, Integer> getTimeZoneIndexes() {
+        if (timeZoneIndexes == null) {
+            timeZoneIndexes = new HashMap<String, Integer>();
+            for (int x = 0; x < TIME_ZONE_IDS.length; x++) {
+                timeZoneIndexes.put(TIME_ZONE_IDS[x], x);
+            }
+        }
+        return timeZoneIndexes;
+    }
+
+    /**
+     * Retrieves the unparsed data of a time zone from the SSTimeZoneConstants
+     *
+     * @since 18 October 2026
+     *
+     * @param index - The index of the id of the time zone in TIME_ZONE_IDS
+     *
+     * @return The time zone data
+     */
+    private String getTimeZoneData(int index) {
+        if (timeZoneConstants == null) {
+            timeZoneConstants = GWT.create(SSTimeZoneConstants.class);
+        }
+        switch (index) {
+            case 0:
+                return timeZoneConstants.africaAbidjan();
+            case 1:
+                return timeZoneConstants.africaAccra();
+            case 2:
+                return timeZoneConstants.africaAddisAbaba();
+            case 3:
+                return timeZoneConstants.africaAlgiers();
+            case 4:
+                return timeZoneConstants.africaAsmera();
+            case 5:
+                return timeZoneConstants.africaBamako();
+            case 6:
+                return timeZoneConstants.africaBangui();
+            case 7:
+                return timeZoneConstants.africaBanjul();
+            case 8:
+                return timeZoneConstants.africaBissau();
+            case 9:
+                return timeZoneConstants.africaBlantyre();
+            case 10:
+                return timeZoneConstants.africaBrazzaville();
+            case 11:
+                return timeZoneConstants.africaBujumbura();
+            case 12:
+                return timeZoneConstants.africaCairo();
+            case 13:
+                return timeZoneConstants.africaCasablanca();
+            case 14:
+                return timeZoneConstants.africaCeuta();
+            case 15:
+                return timeZoneConstants.africaConakry();
+            case 16:
+                return timeZoneConstants.africaDakar();
+            case 17:
+                return timeZoneConstants.africaDaresSalaam();
+            case 18:
+                return timeZoneConstants.africaDjibouti();
+            case 19:
+                return timeZoneConstants.africaDouala();
+            case 20:
+                return timeZoneConstants.africaElAaiun();
+            case 21:
+                return timeZoneConstants.africaFreetown();
+            case 22:
+                return timeZoneConstants.africaGaborone();
+            case 23:
+                return timeZoneConstants.africaHarare();
+            case 24:
+                return timeZoneConstants.africaJohannesburg();
+            case 25:
+                return timeZoneConstants.africaKampala();
+            case 26:
+                return timeZoneConstants.africaKhartoum();
+            case 27:
+                return timeZoneConstants.africaKigali();
+            case 28:
+                return timeZoneConstants.africaKinshasa();
+            case 29:
+                return timeZoneConstants.africaLagos();
+            case 30:
+                return timeZoneConstants.africaLibreville();
+            case 31:
+                return timeZoneConstants.africaLome();
+            case 32:
+                return timeZoneConstants.africaLuanda();
+            case 33:
+                return timeZoneConstants.africaLubumbashi();
+            case 34:
+                return timeZoneConstants.africaLusaka();
+            case 35:
+                return timeZoneConstants.africaMalabo();
+            case 36:
+                return timeZoneConstants.africaMaputo();
+            case 37:
+                return timeZoneConstants.africaMaseru();
+            case 38:
+                return timeZoneConstants.africaMbabane();
+            case 39:
+                return timeZoneConstants.africaMogadishu();
+            case 40:
+                return timeZoneConstants.africaMonrovia();
+            case 41:
+                return timeZoneConstants.africaNairobi();
+            case 42:
+                return timeZoneConstants.africaNdjamena();
+            case 43:
+                return timeZoneConstants.africaNiamey();
+            case 44:
+                return timeZoneConstants.africaNouakchott();
+            case 45:
+                return timeZoneConstants.africaOuagadougou();
+            case 46:
+                return timeZoneConstants.africaPortoNovo();
+            case 47:
+                return timeZoneConstants.africaSaoTome();
+            case 48:
+                return timeZoneConstants.africaTripoli();
+            case 49:
+                return timeZoneConstants.africaTunis();
+            case 50:
+                return timeZoneConstants.africaWindhoek();
+            case 51:
+                return timeZoneConstants.americaAdak();
+            case 52:
+                return timeZoneConstants.americaAnchorage();
+            case 53:
+                return timeZoneConstants.americaAnguilla();
+            case 54:
+                return timeZoneConstants.americaAntigua();
+            case 55:
+                return timeZoneConstants.americaAraguaina();
+            case 56:
+                return timeZoneConstants.americaArgentinaLaRioja();
+            case 57:
+                return timeZoneConstants.americaArgentinaRioGallegos();
+            case 58:
+                return timeZoneConstants.americaArgentinaSanJuan();
+            case 59:
+                return timeZoneConstants.americaArgentinaTucuman();
+            case 60:
+                return timeZoneConstants.americaArgentinaUshuaia();
+            case 61:
+                return timeZoneConstants.americaAruba();
+            case 62:
+                return timeZoneConstants.americaAsuncion();
+            case 63:
+                return timeZoneConstants.americaBahia();
+            case 64:
+                return timeZoneConstants.americaBarbados();
+            case 65:
+                return timeZoneConstants.americaBelem();
+            case 66:
+                return timeZoneConstants.americaBelize();
+            case 67:
+                return timeZoneConstants.americaBlancSablon();
+            case 68:
+                return timeZoneConstants.americaBoaVista();
+            case 69:
+                return timeZoneConstants.americaBogota();
+            case 70:
+                return timeZoneConstants.americaBoise();
+            case 71:
+                return timeZoneConstants.americaBuenosAires();
+            case 72:
+                return timeZoneConstants.americaCambridgeBay();
+            case 73:
+                return timeZoneConstants.americaCampoGrande();
+            case 74:
+                return timeZoneConstants.americaCancun();
+            case 75:
+                return timeZoneConstants.americaCaracas();
+            case 76:
+                return timeZoneConstants.americaCatamarca();
+            case 77:
+                return timeZoneConstants.americaCayenne();
+            case 78:
+                return timeZoneConstants.americaCayman();
+            case 79:
+                return timeZoneConstants.americaChicago();
+            case 80:
+                return timeZoneConstants.americaChihuahua();
+            case 81:
+                return timeZoneConstants.americaCoralHarbour();
+            case 82:
+                return timeZoneConstants.americaCordoba();
+            case 83:
+                return timeZoneConstants.americaCostaRica();
+            case 84:
+                return timeZoneConstants.americaCuiaba();
+            case 85:
+                return timeZoneConstants.americaCuracao();
+            case 86:
+                return timeZoneConstants.americaDanmarkshavn();
+            case 87:
+                return timeZoneConstants.americaDawson();
+            case 88:
+                return timeZoneConstants.americaDawsonCreek();
+            case 89:
+                return timeZoneConstants.americaDenver();
+            case 90:
+                return timeZoneConstants.americaDetroit();
+            case 91:
+                return timeZoneConstants.americaDominica();
+            case 92:
+                return timeZoneConstants.americaEdmonton();
+            case 93:
+                return timeZoneConstants.americaEirunepe();
+            case 94:
+                return timeZoneConstants.americaElSalvador();
+            case 95:
+                return timeZoneConstants.americaFortaleza();
+            case 96:
+                return timeZoneConstants.americaGlaceBay();
+            case 97:
+                return timeZoneConstants.americaGodthab();
+            case 98:
+                return timeZoneConstants.americaGooseBay();
+            case 99:
+                return timeZoneConstants.americaGrandTurk();
+            case 100:
+                return timeZoneConstants.americaGrenada();
+            case 101:
+                return timeZoneConstants.americaGuadeloupe();
+            case 102:
+                return timeZoneConstants.americaGuatemala();
+            case 103:
+                return timeZoneConstants.americaGuayaquil();
+            case 104:
+                return timeZoneConstants.americaGuyana();
+            case 105:
+                return timeZoneConstants.americaHalifax();
+            case 106:
+                return timeZoneConstants.americaHavana();
+            case 107:
+                return timeZoneConstants.americaHermosillo();
+            case 108:
+                return timeZoneConstants.americaIndianaKnox();
+            case 109:
+                return timeZoneConstants.americaIndianaMarengo();
+            case 110:
+                return timeZoneConstants.americaIndianaPetersburg();
+            case 111:
+                return timeZoneConstants.americaIndianapolis();
+            case 112:
+                return timeZoneConstants.americaIndianaVevay();
+            case 113:
+                return timeZoneConstants.americaIndianaVincennes();
+            case 114:
+                return timeZoneConstants.americaInuvik();
+            case 115:
+                return timeZoneConstants.americaIqaluit();
+            case 116:
+                return timeZoneConstants.americaJamaica();
+            case 117:
+                return timeZoneConstants.americaJujuy();
+            case 118:
+                return timeZoneConstants.americaJuneau();
+            case 119:
+                return timeZoneConstants.americaKentuckyMonticello();
+            case 120:
+                return timeZoneConstants.americaLaPaz();
+            case 121:
+                return timeZoneConstants.americaLima();
+            case 122:
+                return timeZoneConstants.americaLosAngeles();
+            case 123:
+                return timeZoneConstants.americaLouisville();
+            case 124:
+                return timeZoneConstants.americaMaceio();
+            case 125:
+                return timeZoneConstants.americaManagua();
+            case 126:
+                return timeZoneConstants.americaManaus();
+            case 127:
+                return timeZoneConstants.americaMartinique();
+            case 128:
+                return timeZoneConstants.americaMazatlan();
+            case 129:
+                return timeZoneConstants.americaMendoza();
+            case 130:
+                return timeZoneConstants.americaMenominee();
+            case 131:
+                return timeZoneConstants.americaMerida();
+            case 132:
+                return timeZoneConstants.americaMexicoCity();
+            case 133:
+                return timeZoneConstants.americaMiquelon();
+            case 134:
+                return timeZoneConstants.americaMoncton();
+            case 135:
+                return timeZoneConstants.americaMonterrey();
+            case 136:
+                return timeZoneConstants.americaMontevideo();
+            case 137:
+                return timeZoneConstants.americaMontreal();
+            case 138:
+                return timeZoneConstants.americaMontserrat();
+            case 139:
+                return timeZoneConstants.americaNassau();
+            case 140:
+                return timeZoneConstants.americaNewYork();
+            case 141:
+                return timeZoneConstants.americaNipigon();
+            case 142:
+                return timeZoneConstants.americaNome();
+            case 143:
+                return timeZoneConstants.americaNoronha();
+            case 144:
+                return timeZoneConstants.americaNorthDakotaCenter();
+            case 145:
+                return timeZoneConstants.americaNorthDakotaNewSalem();
+            case 146:
+                return timeZoneConstants.americaPanama();
+            case 147:
+                return timeZoneConstants.americaPangnirtung();
+            case 148:
+                return timeZoneConstants.americaParamaribo();
+            case 149:
+                return timeZoneConstants.americaPhoenix();
+            case 150:
+                return timeZoneConstants.americaPortauPrince();
+            case 151:
+                return timeZoneConstants.americaPortofSpain();
+            case 152:
+                return timeZoneConstants.americaPortoVelho();
+            case 153:
+                return timeZoneConstants.americaPuertoRico();
+            case 154:
+                return timeZoneConstants.americaRainyRiver();
+            case 155:
+                return timeZoneConstants.americaRankinInlet();
+            case 156:
+                return timeZoneConstants.americaRecife();
+            case 157:
+                return timeZoneConstants.americaRegina();
+            case 158:
+                return timeZoneConstants.americaRioBranco();
+            case 159:
+                return timeZoneConstants.americaSantiago();
+            case 160:
+                return timeZoneConstants.americaSantoDomingo();
+            case 161:
+                return timeZoneConstants.americaSaoPaulo();
+            case 162:
+                return timeZoneConstants.americaScoresbysund();
+            case 163:
+                return timeZoneConstants.americaShiprock();
+            case 164:
+                return timeZoneConstants.americaStJohns();
+            case 165:
+                return timeZoneConstants.americaStKitts();
+            case 166:
+                return timeZoneConstants.americaStLucia();
+            case 167:
+                return timeZoneConstants.americaStThomas();
+            case 168:
+                return timeZoneConstants.americaStVincent();
+            case 169:
+                return timeZoneConstants.americaSwiftCurrent();
+            case 170:
+                return timeZoneConstants.americaTegucigalpa();
+            case 171:
+                return timeZoneConstants.americaThule();
+            case 172:
+                return timeZoneConstants.americaThunderBay();
+            case 173:
+                return timeZoneConstants.americaTijuana();
+            case 174:
+                return timeZoneConstants.americaToronto();
+            case 175:
+                return timeZoneConstants.americaTortola();
+            case 176:
+                return timeZoneConstants.americaVancouver();
+            case 177:
+                return timeZoneConstants.americaWhitehorse();
+            case 178:
+                return timeZoneConstants.americaWinnipeg();
+            case 179:
+                return timeZoneConstants.americaYakutat();
+            case 180:
+                return timeZoneConstants.americaYellowknife();
+            case 181:
+                return timeZoneConstants.antarcticaCasey();
+            case 182:
+                return timeZoneConstants.antarcticaDavis();
+            case 183:
+                return timeZoneConstants.antarcticaDumontDUrville();
+            case 184:
+                return timeZoneConstants.antarcticaMawson();
+            case 185:
+                return timeZoneConstants.antarcticaMcMurdo();
+            case 186:
+                return timeZoneConstants.antarcticaPalmer();
+            case 187:
+                return timeZoneConstants.antarcticaRothera();
+            case 188:
+                return timeZoneConstants.antarcticaSyowa();
+            case 189:
+                return timeZoneConstants.antarcticaVostok();
+            case 190:
+                return timeZoneConstants.asiaAden();
+            case 191:
+                return timeZoneConstants.asiaAlmaty();
+            case 192:
+                return timeZoneConstants.asiaAmman();
+            case 193:
+                return timeZoneConstants.asiaAnadyr();
+            case 194:
+                return timeZoneConstants.asiaAqtau();
+            case 195:
+                return timeZoneConstants.asiaAqtobe();
+            case 196:
+                return timeZoneConstants.asiaAshgabat();
+            case 197:
+                return timeZoneConstants.asiaBaghdad();
+            case 198:
+                return timeZoneConstants.asiaBahrain();
+            case 199:
+                return timeZoneConstants.asiaBaku();
+            case 200:
+                return timeZoneConstants.asiaBangkok();
+            case 201:
+                return timeZoneConstants.asiaBeirut();
+            case 202:
+                return timeZoneConstants.asiaBishkek();
+            case 203:
+                return timeZoneConstants.asiaBrunei();
+            case 204:
+                return timeZoneConstants.asiaCalcutta();
+            case 205:
+                return timeZoneConstants.asiaChoibalsan();
+            case 206:
+                return timeZoneConstants.asiaChongqing();
+            case 207:
+                return timeZoneConstants.asiaColombo();
+            case 208:
+                return timeZoneConstants.asiaDamascus();
+            case 209:
+                return timeZoneConstants.asiaDhaka();
+            case 210:
+                return timeZoneConstants.asiaDili();
+            case 211:
+                return timeZoneConstants.asiaDubai();
+            case 212:
+                return timeZoneConstants.asiaDushanbe();
+            case 213:
+                return timeZoneConstants.asiaGaza();
+            case 214:
+                return timeZoneConstants.asiaHarbin();
+            case 215:
+                return timeZoneConstants.asiaHongKong();
+            case 216:
+                return timeZoneConstants.asiaHovd();
+            case 217:
+                return timeZoneConstants.asiaIrkutsk();
+            case 218:
+                return timeZoneConstants.asiaJakarta();
+            case 219:
+                return timeZoneConstants.asiaJayapura();
+            case 220:
+                return timeZoneConstants.asiaJerusalem();
+            case 221:
+                return timeZoneConstants.asiaKabul();
+            case 222:
+                return timeZoneConstants.asiaKamchatka();
+            case 223:
+                return timeZoneConstants.asiaKarachi();
+            case 224:
+                return timeZoneConstants.asiaKashgar();
+            case 225:
+                return timeZoneConstants.asiaKatmandu();
+            case 226:
+                return timeZoneConstants.asiaKrasnoyarsk();
+            case 227:
+                return timeZoneConstants.asiaKualaLumpur();
+            case 228:
+                return timeZoneConstants.asiaKuching();
+            case 229:
+                return timeZoneConstants.asiaKuwait();
+            case 230:
+                return timeZoneConstants.asiaMacau();
+            case 231:
+                return timeZoneConstants.asiaMagadan();
+            case 232:
+                return timeZoneConstants.asiaMakassar();
+            case 233:
+                return timeZoneConstants.asiaManila();
+            case 234:
+                return timeZoneConstants.asiaMuscat();
+            case 235:
+                return timeZoneConstants.asiaNicosia();
+            case 236:
+                return timeZoneConstants.asiaNovosibirsk();
+            case 237:
+                return timeZoneConstants.asiaOmsk();
+            case 238:
+                return timeZoneConstants.asiaOral();
+            case 239:
+                return timeZoneConstants.asiaPhnomPenh();
+            case 240:
+                return timeZoneConstants.asiaPontianak();
+            case 241:
+                return timeZoneConstants.asiaPyongyang();
+            case 242:
+                return timeZoneConstants.asiaQatar();
+            case 243:
+                return timeZoneConstants.asiaQyzylorda();
+            case 244:
+                return timeZoneConstants.asiaRangoon();
+            case 245:
+                return timeZoneConstants.asiaRiyadh();
+            case 246:
+                return timeZoneConstants.asiaSaigon();
+            case 247:
+                return timeZoneConstants.asiaSakhalin();
+            case 248:
+                return timeZoneConstants.asiaSamarkand();
+            case 249:
+                return timeZoneConstants.asiaSeoul();
+            case 250:
+                return timeZoneConstants.asiaShanghai();
+            case 251:
+                return timeZoneConstants.asiaSingapore();
+            case 252:
+                return timeZoneConstants.asiaTaipei();
+            case 253:
+                return timeZoneConstants.asiaTashkent();
+            case 254:
+                return timeZoneConstants.asiaTbilisi();
+            case 255:
+                return timeZoneConstants.asiaTehran();
+            case 256:
+                return timeZoneConstants.asiaThimphu();
+            case 257:
+                return timeZoneConstants.asiaTokyo();
+            case 258:
+                return timeZoneConstants.asiaUlaanbaatar();
+            case 259:
+                return timeZoneConstants.asiaUrumqi();
+            case 260:
+                return timeZoneConstants.asiaVientiane();
+            case 261:
+                return timeZoneConstants.asiaVladivostok();
+            case 262:
+                return timeZoneConstants.asiaYakutsk();
+            case 263:
+                return timeZoneConstants.asiaYekaterinburg();
+            case 264:
+                return timeZoneConstants.asiaYerevan();
+            case 265:
+                return timeZoneConstants.atlanticAzores();
+            case 266:
+                return timeZoneConstants.atlanticBermuda();
+            case 267:
+                return timeZoneConstants.atlanticCanary();
+            case 268:
+                return timeZoneConstants.atlanticCapeVerde();
+            case 269:
+                return timeZoneConstants.atlanticFaeroe();
+            case 270:
+                return timeZoneConstants.atlanticMadeira();
+            case 271:
+                return timeZoneConstants.atlanticReykjavik();
+            case 272:
+                return timeZoneConstants.atlanticSouthGeorgia();
+            case 273:
+                return timeZoneConstants.atlanticStanley();
+            case 274:
+                return timeZoneConstants.atlanticStHelena();
+            case 275:
+                return timeZoneConstants.australiaAdelaide();
+            case 276:
+                return timeZoneConstants.australiaBrisbane();
+            case 277:
+                return timeZoneConstants.australiaBrokenHill();
+            case 278:
+                return timeZoneConstants.australiaCurrie();
+            case 279:
+                return timeZoneConstants.australiaDarwin();
+            case 280:
+                return timeZoneConstants.australiaEucla();
+            case 281:
+                return timeZoneConstants.australiaHobart();
+            case 282:
+                return timeZoneConstants.australiaLindeman();
+            case 283:
+                return timeZoneConstants.australiaLordHowe();
+            case 284:
+                return timeZoneConstants.australiaMelbourne();
+            case 285:
+                return timeZoneConstants.australiaPerth();
+            case 286:
+                return timeZoneConstants.australiaSydney();
+            case 287:
+                return timeZoneConstants.europeAmsterdam();
+            case 288:
+                return timeZoneConstants.europeAndorra();
+            case 289:
+                return timeZoneConstants.europeAthens();
+            case 290:
+                return timeZoneConstants.europeBelgrade();
+            case 291:
+                return timeZoneConstants.europeBerlin();
+            case 292:
+                return timeZoneConstants.europeBratislava();
+            case 293:
+                return timeZoneConstants.europeBrussels();
+            case 294:
+                return timeZoneConstants.europeBucharest();
+            case 295:
+                return timeZoneConstants.europeBudapest();
+            case 296:
+                return timeZoneConstants.europeChisinau();
+            case 297:
+                return timeZoneConstants.europeCopenhagen();
+            case 298:
+                return timeZoneConstants.europeDublin();
+            case 299:
+                return timeZoneConstants.europeGibraltar();
+            case 300:
+                return timeZoneConstants.europeHelsinki();
+            case 301:
+                return timeZoneConstants.europeIstanbul();
+            case 302:
+                return timeZoneConstants.europeKaliningrad();
+            case 303:
+                return timeZoneConstants.europeKiev();
+            case 304:
+                return timeZoneConstants.europeLisbon();
+            case 305:
+                return timeZoneConstants.europeLjubljana();
+            case 306:
+                return timeZoneConstants.europeLondon();
+            case 307:
+                return timeZoneConstants.europeLuxembourg();
+            case 308:
+                return timeZoneConstants.europeMadrid();
+            case 309:
+                return timeZoneConstants.europeMalta();
+            case 310:
+                return timeZoneConstants.europeMinsk();
+            case 311:
+                return timeZoneConstants.europeMonaco();
+            case 312:
+                return timeZoneConstants.europeMoscow();
+            case 313:
+                return timeZoneConstants.europeOslo();
+            case 314:
+                return timeZoneConstants.europeParis();
+            case 315:
+                return timeZoneConstants.europePodgorica();
+            case 316:
+                return timeZoneConstants.europePrague();
+            case 317:
+                return timeZoneConstants.europeRiga();
+            case 318:
+                return timeZoneConstants.europeRome();
+            case 319:
+                return timeZoneConstants.europeSamara();
+            case 320:
+                return timeZoneConstants.europeSarajevo();
+            case 321:
+                return timeZoneConstants.europeSimferopol();
+            case 322:
+                return timeZoneConstants.europeSkopje();
+            case 323:
+                return timeZoneConstants.europeSofia();
+            case 324:
+                return timeZoneConstants.europeStockholm();
+            case 325:
+                return timeZoneConstants.europeTallinn();
+            case 326:
+                return timeZoneConstants.europeTirane();
+            case 327:
+                return timeZoneConstants.europeUzhgorod();
+            case 328:
+                return timeZoneConstants.europeVaduz();
+            case 329:
+                return timeZoneConstants.europeVienna();
+            case 330:
+                return timeZoneConstants.europeVilnius();
+            case 331:
+                return timeZoneConstants.europeVolgograd();
+            case 332:
+                return timeZoneConstants.europeWarsaw();
+            case 333:
+                return timeZoneConstants.europeZagreb();
+            case 334:
+                return timeZoneConstants.europeZaporozhye();
+            case 335:
+                return timeZoneConstants.europeZurich();
+            case 336:
+                return timeZoneConstants.indianAntananarivo();
+            case 337:
+                return timeZoneConstants.indianChagos();
+            case 338:
+                return timeZoneConstants.indianChristmas();
+            case 339:
+                return timeZoneConstants.indianCocos();
+            case 340:
+                return timeZoneConstants.indianComoro();
+            case 341:
+                return timeZoneConstants.indianKerguelen();
+            case 342:
+                return timeZoneConstants.indianMahe();
+            case 343:
+                return timeZoneConstants.indianMaldives();
+            case 344:
+                return timeZoneConstants.indianMauritius();
+            case 345:
+                return timeZoneConstants.indianMayotte();
+            case 346:
+                return timeZoneConstants.indianReunion();
+            case 347:
+                return timeZoneConstants.pacificApia();
+            case 348:
+                return timeZoneConstants.pacificAuckland();
+            case 349:
+                return timeZoneConstants.pacificChatham();
+            case 350:
+                return timeZoneConstants.pacificEaster();
+            case 351:
+                return timeZoneConstants.pacificEfate();
+            case 352:
+                return timeZoneConstants.pacificEnderbury();
+            case 353:
+                return timeZoneConstants.pacificFakaofo();
+            case 354:
+                return timeZoneConstants.pacificFiji();
+            case 355:
+                return timeZoneConstants.pacificFunafuti();
+            case 356:
+                return timeZoneConstants.pacificGalapagos();
+            case 357:
+                return timeZoneConstants.pacificGambier();
+            case 358:
+                return timeZoneConstants.pacificGuadalcanal();
+            case 359:
+                return timeZoneConstants.pacificGuam();
+            case 360:
+                return timeZoneConstants.pacificHonolulu();
+            case 361:
+                return timeZoneConstants.pacificJohnston();
+            case 362:
+                return timeZoneConstants.pacificKiritimati();
+            case 363:
+                return timeZoneConstants.pacificKosrae();
+            case 364:
+                return timeZoneConstants.pacificKwajalein();
+            case 365:
+                return timeZoneConstants.pacificMajuro();
+            case 366:
+                return timeZoneConstants.pacificMarquesas();
+            case 367:
+                return timeZoneConstants.pacificMidway();
+            case 368:
+                return timeZoneConstants.pacificNauru();
+            case 369:
+                return timeZoneConstants.pacificNiue();
+            case 370:
+                return timeZoneConstants.pacificNorfolk();
+            case 371:
+                return timeZoneConstants.pacificNoumea();
+            case 372:
+                return timeZoneConstants.pacificPagoPago();
+            case 373:
+                return timeZoneConstants.pacificPalau();
+            case 374:
+                return timeZoneConstants.pacificPitcairn();
+            case 375:
+                return timeZoneConstants.pacificPonape();
+            case 376:
+                return timeZoneConstants.pacificPortMoresby();
+            case 377:
+                return timeZoneConstants.pacificRarotonga();
+            case 378:
+                return timeZoneConstants.pacificSaipan();
+            case 379:
+                return timeZoneConstants.pacificTahiti();
+            case 380:
+                return timeZoneConstants.pacificTarawa();
+            case 381:
+                return timeZoneConstants.pacificTongatapu();
+            case 382:
+                return timeZoneConstants.pacificTruk();
+            case 383:
+                return timeZoneConstants.pacificWake();
+            case 384:
+                return timeZoneConstants.pacificWallis();
+            case 385:
+                return timeZoneConstants.americaArgentinaSalta();
+            case 386:
+                return timeZoneConstants.americaArgentinaSanLuis();
+            case 387:
+                return timeZoneConstants.americaBahiaBanderas();
+            case 388:
+                return timeZoneConstants.americaIndianaTellCity();
+            case 389:
+                return timeZoneConstants.americaIndianaWinamac();
+            case 390:
+                return timeZoneConstants.americaMarigot();
+            case 391:
+                return timeZoneConstants.americaMatamoros();
+            case 392:
+                return timeZoneConstants.americaMetlakatla();
+            case 393:
+                return timeZoneConstants.americaNorthDakotaBeulah();
+            case 394:
+                return timeZoneConstants.americaOjinaga();
+            case 395:
+                return timeZoneConstants.americaResolute();
+            case 396:
+                return timeZoneConstants.americaSantaIsabel();
+            case 397:
+                return timeZoneConstants.americaSantarem();
+            case 398:
+                return timeZoneConstants.americaSitka();
+            case 399:
+                return timeZoneConstants.americaStBarthelemy();
+            case 400:
+                return timeZoneConstants.antarcticaMacquarie();
+            case 401:
+                return timeZoneConstants.arcticLongyearbyen();
+            case 402:
+                return timeZoneConstants.asiaNovokuznetsk();
+            case 403:
+                return timeZoneConstants.europeGuernsey();
+            case 404:
+                return timeZoneConstants.europeIsleofMan();
+            case 405:
+                return timeZoneConstants.europeJersey();
+            case 406:
+                return timeZoneConstants.europeMariehamn();
+            case 407:
+                return timeZoneConstants.europeSanMarino();
+            case 408:
+                return timeZoneConstants.europeVatican();
+            case 409:
+                return timeZoneConstants.africaAsmara();
+            case 410:
+                return timeZoneConstants.africaJuba();
+            case 411:
+                return timeZoneConstants.americaAtikokan();
+            case 412:
+                return timeZoneConstants.americaCreston();
+            case 413:
+                return timeZoneConstants.americaKralendijk();
+            case 414:
+                return timeZoneConstants.americaLowerPrinces();
+            case 415:
+                return timeZoneConstants.antarcticaSouthPole();
+            case 416:
+                return timeZoneConstants.asiaHebron();
+            case 417:
+                return timeZoneConstants.asiaHoChiMinh();
+            case 418:
+                return timeZoneConstants.asiaKathmandu();
+            case 419:
+                return timeZoneConstants.asiaKolkata();
+            case 420:
+                return timeZoneConstants.atlanticFaroe();
+            case 421:
+                return timeZoneConstants.utc();
+            default:
+                return null;
+        }
     }
 }
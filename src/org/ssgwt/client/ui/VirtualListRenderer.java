@@ -0,0 +1,406 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.EventTarget;
+import com.google.gwt.event.dom.client.ScrollEvent;
+import com.google.gwt.event.dom.client.ScrollHandler;
+import com.google.gwt.user.client.ui.FlowPanel;
+import com.google.gwt.user.client.ui.SimplePanel;
+import com.google.gwt.user.client.ui.Widget;
+
+/**
+ * Renders the items of a scrollable list into a panel using widgets from a WidgetPool.
+ *
+ * With virtual scrolling only the items in the visible part of the panel are rendered,
+ * with spacers taking up the space of the items before and after them, so every item is
+ * expected to have the same height. Without it rendering starts with the first items and
+ * more are rendered as the user scrolls down the list.
+ *
+ * Every rendered widget holds the position of its item in an attribute, so a single event
+ * handler on the panel can find the item an event is for.
+ *
+ * @since 18 October 2026
+ *
+ * @param <W> The type of the widgets that display the items
+ */
+public abstract class VirtualListRenderer<W extends Widget> {
+
+    /**
+     * The name of the attribute that holds the position of the item on a rendered widget
+     */
+    public static final String ITEM_INDEX_ATTRIBUTE = "data-item-index";
+
+    /**
+     * The amount of items rendered above and below the visible items with virtual scrolling
+     */
+    public static final int VIRTUAL_SCROLL_BUFFER = 5;
+
+    /**
+     * The amount of items that are rendered at a time without virtual scrolling
+     */
+    public static final int RENDER_CHUNK_SIZE = 20;
+
+    /**
+     * The distance in pixels from the bottom of the rendered items at which more items are
+     * rendered without virtual scrolling
+     */
+    public static final int RENDER_SCROLL_THRESHOLD = 50;
+
+    /**
+     * The scrolling panel the items are rendered into
+     */
+    private final FlowPanel panel;
+
+    /**
+     * The pool the widgets of the items are retrieved from and released to
+     */
+    private final WidgetPool<W> widgetPool;
+
+    /**
+     * The height in pixels assumed for the visible part of the panel before it is displayed
+     */
+    private final int defaultViewportHeight;
+
+    /**
+     * The widgets of the items that are rendered, starting at renderedStart
+     */
+    private final ArrayList<W> renderedItems = new ArrayList<W>();
+
+    /**
+     * The position of the first rendered item, always 0 without virtual scrolling
+     */
+    private int renderedStart = 0;
+
+    /**
+     * Whether only the items in the visible part of the panel are rendered
+     */
+    private boolean virtualScrolling = false;
+
+    /**
+     * The height in pixels of a rendered item including its separator
+     */
+    private int itemHeight = 0;
+
+    /**
+     * Takes up the space of the items before the rendered items with virtual scrolling
+     */
+    private final SimplePanel topSpacer = new SimplePanel();
+
+    /**
+     * Takes up the space of the items after the rendered items with virtual scrolling
+     */
+    private final SimplePanel bottomSpacer = new SimplePanel();
+
+    /**
+     * Class constructor
+     *
+     * @param panel - The scrolling panel the items are rendered into
+     * @param widgetPool - The pool the widgets of the items are retrieved from
+     * @param defaultViewportHeight - The height in pixels assumed for the visible part of the panel before it is displayed
+     */
+    public VirtualListRenderer(FlowPanel panel, WidgetPool<W> widgetPool, int defaultViewportHeight) {
+        this.panel = panel;
+        this.widgetPool = widgetPool;
+        this.defaultViewportHeight = defaultViewportHeight;
+        panel.addDomHandler(new ScrollHandler() {
+
+            /**
+             * Renders the items that scrolled into view, or more items when the user
+             * scrolls close to the last rendered item
+             *
+             * @param event - The scroll event
+             */
+            @Override
+            public void onScroll(ScrollEvent event) {
+                if (virtualScrolling) {
+                    renderWindow(false);
+                } else {
+                    renderMoreItemsIfScrolledToEnd();
+                }
+            }
+        }, ScrollEvent.getType());
+    }
+
+    /**
+     * Retrieves the amount of items in the list
+     *
+     * @return The amount of items
+     */
+    protected abstract int getItemCount();
+
+    /**
+     * Updates a widget to display an item before it is added to the panel
+     *
+     * @param widget - The widget retrieved from the pool
+     * @param position - The position of the item in the list
+     */
+    protected abstract void updateItem(W widget, int position);
+
+    /**
+     * Creates the widget added between two items, null by default for no separator
+     *
+     * @return The separator widget or null
+     */
+    protected Widget createSeparator() {
+        return null;
+    }
+
+    /**
+     * Adds a rendered widget after the widgets already in the panel. Can be overridden
+     * to keep widgets that are not items at the end of the panel.
+     *
+     * @param widget - The widget to add
+     */
+    protected void addToPanel(Widget widget) {
+        panel.add(widget);
+    }
+
+    /**
+     * Called for every widget before it is returned to the pool
+     *
+     * @param widget - The widget that is no longer displayed
+     */
+    protected void onItemReleased(W widget) {
+    }
+
+    /**
+     * Called after items were rendered or the spacers were updated
+     */
+    protected void onItemsRendered() {
+    }
+
+    /**
+     * Enables or disables virtual scrolling. Takes effect the next time the list is rendered.
+     *
+     * @param enabled - Whether virtual scrolling should be enabled
+     * @param itemHeight - The height in pixels of a rendered item including its separator
+     */
+    public void setVirtualScrolling(boolean enabled, int itemHeight) {
+        this.virtualScrolling = enabled && itemHeight > 0;
+        this.itemHeight = itemHeight;
+    }
+
+    /**
+     * Retrieves whether only the items in the visible part of the panel are rendered
+     *
+     * @return Whether virtual scrolling is enabled
+     */
+    public boolean isVirtualScrolling() {
+        return virtualScrolling;
+    }
+
+    /**
+     * Removes everything from the panel and renders the list from the top
+     */
+    public void render() {
+        releaseRenderedItems();
+        panel.clear();
+        panel.getElement().setScrollTop(0);
+        if (virtualScrolling) {
+            renderWindow(true);
+        } else {
+            renderItems(RENDER_CHUNK_SIZE);
+        }
+    }
+
+    /**
+     * Renders the items added to the end of the list. With virtual scrolling the visible
+     * items are rendered, otherwise the first chunk is completed and more items are
+     * rendered if the user already scrolled close to the last rendered item.
+     */
+    public void renderAppendedItems() {
+        if (virtualScrolling) {
+            renderWindow(false);
+        } else {
+            renderItems(RENDER_CHUNK_SIZE);
+            renderMoreItemsIfScrolledToEnd();
+        }
+    }
+
+    /**
+     * Renders the widgets of the items in the visible part of the panel, with spacers taking
+     * up the space of the items before and after them. If the visible items did not change
+     * only the spacer after them is updated. Nothing is done for an empty list unless forced.
+     *
+     * @param force - Whether to render the widgets even if the visible items did not change
+     */
+    public void renderWindow(boolean force) {
+        int itemCount = getItemCount();
+        if (!force && itemCount == 0) {
+            return;
+        }
+        Element element = panel.getElement();
+        int viewportHeight = element.getClientHeight() > 0 ? element.getClientHeight() : defaultViewportHeight;
+        int start = Math.max(0, element.getScrollTop() / itemHeight - VIRTUAL_SCROLL_BUFFER);
+        int end = Math.min(itemCount, start + viewportHeight / itemHeight + 1 + 2 * VIRTUAL_SCROLL_BUFFER);
+        start = Math.min(start, end);
+        if (!force && start == renderedStart && end == renderedStart + renderedItems.size()
+                && topSpacer.getParent() == panel) {
+            bottomSpacer.setHeight(((itemCount - end) * itemHeight) + "px");
+            onItemsRendered();
+            return;
+        }
+        int scrollTop = element.getScrollTop();
+        releaseRenderedItems();
+        panel.clear();
+        renderedStart = start;
+        topSpacer.setHeight((start * itemHeight) + "px");
+        panel.add(topSpacer);
+        for (int position = start; position < end; position++) {
+            renderItem(position);
+        }
+        bottomSpacer.setHeight(((itemCount - end) * itemHeight) + "px");
+        panel.add(bottomSpacer);
+        onItemsRendered();
+        element.setScrollTop(scrollTop);
+    }
+
+    /**
+     * Renders the widgets of the items until the requested amount of items from the first
+     * item is rendered, used without virtual scrolling
+     *
+     * @param itemCount - The amount of items from the first item that should be rendered
+     */
+    public void renderItems(int itemCount) {
+        int renderCount = Math.min(itemCount, getItemCount());
+        while (renderedItems.size() < renderCount) {
+            renderItem(renderedItems.size());
+        }
+        onItemsRendered();
+    }
+
+    /**
+     * Renders more items when the user scrolled close to the last rendered item, used
+     * without virtual scrolling
+     */
+    public void renderMoreItemsIfScrolledToEnd() {
+        Element element = panel.getElement();
+        if (element.getScrollTop() + element.getClientHeight()
+                >= element.getScrollHeight() - RENDER_SCROLL_THRESHOLD) {
+            renderItems(renderedItems.size() + RENDER_CHUNK_SIZE);
+        }
+    }
+
+    /**
+     * Renders an item that is not rendered yet. With virtual scrolling the panel is
+     * scrolled to the item, otherwise all the items up to the item are rendered.
+     *
+     * @param position - The position of the item in the list
+     */
+    public void ensureItemRendered(int position) {
+        if (position < 0 || getRenderedItem(position) != null) {
+            return;
+        }
+        if (virtualScrolling) {
+            panel.getElement().setScrollTop(position * itemHeight);
+            renderWindow(false);
+        } else {
+            renderItems(position + 1);
+        }
+    }
+
+    /**
+     * Removes the rendered widgets and returns them to the pool
+     */
+    public void releaseRenderedItems() {
+        for (W widget : renderedItems) {
+            onItemReleased(widget);
+            widget.getElement().removeAttribute(ITEM_INDEX_ATTRIBUTE);
+            widgetPool.release(widget);
+        }
+        renderedItems.clear();
+        renderedStart = 0;
+    }
+
+    /**
+     * Retrieves the position of the item whose widget contains the event target
+     *
+     * @param eventTarget - The target of an event on the panel
+     *
+     * @return The position of the item, -1 if the target is not inside an item
+     */
+    public int getItemIndex(EventTarget eventTarget) {
+        if (!Element.is(eventTarget)) {
+            return -1;
+        }
+        Element container = panel.getElement();
+        Element element = Element.as(eventTarget);
+        while (element != null && element != container) {
+            if (element.getParentElement() == container) {
+                String itemIndex = element.getAttribute(ITEM_INDEX_ATTRIBUTE);
+                return itemIndex == null || itemIndex.length() == 0 ? -1 : Integer.parseInt(itemIndex);
+            }
+            element = element.getParentElement();
+        }
+        return -1;
+    }
+
+    /**
+     * Retrieves the widget of an item if the item is rendered
+     *
+     * @param position - The position of the item in the list
+     *
+     * @return The widget of the item, null if the item is not rendered
+     */
+    public W getRenderedItem(int position) {
+        int renderedIndex = position - renderedStart;
+        if (position < 0 || renderedIndex < 0 || renderedIndex >= renderedItems.size()) {
+            return null;
+        }
+        return renderedItems.get(renderedIndex);
+    }
+
+    /**
+     * Retrieves the position of the first rendered item
+     *
+     * @return The position of the first rendered item
+     */
+    public int getRenderedStart() {
+        return renderedStart;
+    }
+
+    /**
+     * Retrieves the widgets of the rendered items in the order they are displayed
+     *
+     * @return The rendered widgets, this list can not be changed
+     */
+    public List<W> getRenderedItems() {
+        return Collections.unmodifiableList(renderedItems);
+    }
+
+    /**
+     * Renders the widget of an item after the items that are already rendered
+     *
+     * @param position - The position of the item in the list
+     */
+    private void renderItem(int position) {
+        if (position > 0) {
+            Widget separator = createSeparator();
+            if (separator != null) {
+                addToPanel(separator);
+            }
+        }
+        W widget = widgetPool.get();
+        updateItem(widget, position);
+        widget.getElement().setAttribute(ITEM_INDEX_ATTRIBUTE, String.valueOf(position));
+        addToPanel(widget);
+        renderedItems.add(widget);
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui;
+
+import java.util.ArrayList;
+
+import com.google.gwt.user.client.ui.Widget;
+
+/**
+ * A pool of widgets that can be reused instead of creating a new widget every time one
+ * is displayed. Widgets are removed from their parent when they are released.
+ *
+ * @since 18 October 2026
+ *
+ * @param <W> The type of the widgets in the pool
+ */
+public abstract class WidgetPool<W extends Widget> {
+
+    /**
+     * The default maximum amount of released widgets kept for reuse
+     */
+    public static final int DEFAULT_MAX_SIZE = 100;
+
+    /**
+     * The maximum amount of released widgets kept for reuse
+     */
+    private final int maxSize;
+
+    /**
+     * The released widgets that are available for reuse
+     */
+    private final ArrayList<W> availableWidgets = new ArrayList<W>();
+
+    /**
+     * Class constructor using the default maximum size
+     */
+    public WidgetPool() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Class constructor
+     *
+     * @param maxSize - The maximum amount of released widgets kept for reuse
+     */
+    public WidgetPool(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Creates a new widget when there is no released widget available
+     *
+     * @return The new widget
+     */
+    protected abstract W createWidget();
+
+    /**
+     * Retrieves a released widget or creates a new one if none are available
+     *
+     * @return The widget
+     */
+    public W get() {
+        if (availableWidgets.isEmpty()) {
+            return createWidget();
+        }
+        return availableWidgets.remove(availableWidgets.size() - 1);
+    }
+
+    /**
+     * Removes the widget from its parent and keeps it for reuse if the pool is not full
+     *
+     * @param widget - The widget that is no longer displayed
+     */
+    public void release(W widget) {
+        widget.removeFromParent();
+        if (availableWidgets.size() < maxSize) {
+            availableWidgets.add(widget);
+        }
+    }
+
+    /**
+     * Discards all the released widgets
+     */
+    public void clear() {
+        availableWidgets.clear();
+    }
+}
@@ -0,0 +1,151 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.datagrid;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bounded least recently used cache of the pages of data displayed on a data grid.
+ *
+ * Pages are stored against a key describing the range, sort and filters the data
+ * was retrieved for. Once the maximum amount of pages is reached the page that was
+ * used the longest time ago is removed.
+ *
+ * Every key starts with the generation of the cache, which changes each time the cache
+ * is cleared, so data requested before the sort or filters changed can not be stored
+ * against a key that was created afterwards.
+ *
+ * @since 18 October 2026
+ *
+ * @param <T> The type of the row objects in the data grid
+ */
+class DataGridPageCache<T> {
+
+    /**
+     * The cached pages in order of use
+     */
+    private final LinkedHashMap<String, List<T>> pages;
+
+    /**
+     * The keys of the pages that have been requested for prefetching but not received yet
+     */
+    private final Set<String> pendingPrefetches = new HashSet<String>();
+
+    /**
+     * The generation of the cache, incremented each time the cache is cleared
+     */
+    private int generation;
+
+    /**
+     * Class constructor
+     *
+     * @param maxPages - The maximum amount of pages to keep in the cache
+     */
+    DataGridPageCache(final int maxPages) {
+        pages = new LinkedHashMap<String, List<T>>(16, 0.75f, true) {
+
+            /**
+             * Removes the least recently used page once the cache is full
+             *
+             * @param eldest - The least recently used page
+             *
+             * @return Whether the page should be removed
+             */
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<T>> eldest) {
+                return size() > maxPages;
+            }
+        };
+    }
+
+    /**
+     * Creates the key of a page for the current generation of the cache
+     *
+     * @param description - The description of the range, sort and filters of the page
+     *
+     * @return The key of the page
+     */
+    String createKey(String description) {
+        return generation + "|" + description;
+    }
+
+    /**
+     * Retrieves the page stored against the key and marks it as recently used
+     *
+     * @param key - The key of the page
+     *
+     * @return The rows of the page or null if the page is not cached
+     */
+    List<T> get(String key) {
+        return pages.get(key);
+    }
+
+    /**
+     * Stores the page against the key
+     *
+     * @param key - The key of the page
+     * @param rows - The rows of the page
+     */
+    void put(String key, List<T> rows) {
+        pendingPrefetches.remove(key);
+        pages.put(key, new ArrayList<T>(rows));
+    }
+
+    /**
+     * Stores a prefetched page against the key if the page is still waiting to be received.
+     * A page is no longer waiting once it was stored or the cache was cleared.
+     *
+     * @param key - The key of the page
+     * @param rows - The rows of the page
+     *
+     * @return Whether the page was stored
+     */
+    boolean putPrefetched(String key, List<T> rows) {
+        if (!pendingPrefetches.remove(key)) {
+            return false;
+        }
+        pages.put(key, new ArrayList<T>(rows));
+        return true;
+    }
+
+    /**
+     * Marks a page as requested for prefetching if it is not cached or already requested
+     *
+     * @param key - The key of the page
+     *
+     * @return Whether the page still needs to be requested
+     */
+    boolean startPrefetch(String key) {
+        if (pages.containsKey(key) || pendingPrefetches.contains(key)) {
+            return false;
+        }
+        pendingPrefetches.add(key);
+        return true;
+    }
+
+    /**
+     * Removes all the pages from the cache and starts a new generation, so pages that are
+     * still being prefetched are not stored when they are received
+     */
+    void clear() {
+        pages.clear();
+        pendingPrefetches.clear();
+        generation++;
+    }
+}
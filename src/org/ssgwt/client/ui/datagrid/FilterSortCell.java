@@ -29,6 +29,7 @@ import com.google.gwt.resources.client.ImageResource;
 import com.google.gwt.safehtml.client.SafeHtmlTemplates;
 import com.google.gwt.safehtml.shared.SafeHtml;
 import com.google.gwt.safehtml.shared.SafeHtmlBuilder;
+import com.google.gwt.safehtml.shared.SafeHtmlUtils;
 import com.google.gwt.user.client.Window;
 import com.google.gwt.user.client.ui.Image;
 
@@ -84,6 +85,31 @@ public class FilterSortCell extends AbstractCell<HeaderDetails> implements HasHa
      * The handler manager used to handle events
      */
     private HandlerManager handlerManager;
+
+    /**
+     * The html of the filter image when the filter is active, rendered once
+     */
+    private SafeHtml activeImageHtml;
+
+    /**
+     * The html of the filter image when the filter is inactive, rendered once
+     */
+    private SafeHtml inactiveImageHtml;
+
+    /**
+     * The html the header was last rendered with
+     */
+    private SafeHtml renderedHtml;
+
+    /**
+     * The label the header was last rendered with
+     */
+    private String renderedLabel;
+
+    /**
+     * The filter state the header was last rendered with
+     */
+    private boolean renderedFilterActive;
     
     /**
      * Create an instance on the default resources object if it the
@@ -165,6 +191,8 @@ public class FilterSortCell extends AbstractCell<HeaderDetails> implements HasHa
             template = GWT.create(Template.class);
         }
         handlerManager = new HandlerManager(this);
+        filterImage = new Image(resources.filterIconInactive());
+        filterImage.getElement().setAttribute("name", "filterIcon");
     }
 
     /**
@@ -174,23 +202,78 @@ public class FilterSortCell extends AbstractCell<HeaderDetails> implements HasHa
     public void render(Context context, HeaderDetails value, SafeHtmlBuilder sb) {
         this.headerDetails = value;
         this.filterActive = headerDetails.filterWidget.isFilterActive();
-        if (filterActive) {
-            filterImage = new Image(resources.filterIconActive());
-        } else {
-            filterImage = new Image(resources.filterIconInactive());
-        }
         if (value.filterWidget != null) {
             value.filterWidget.setParentHeader(this);
         }
-        filterImage.getElement().setAttribute("name", "filterIcon");
-        sb.append(template.openContainerTag());
-        sb.append(template.openContainerTagWithPadding());
-        sb.append(template.openInlineContainerTag());
-        sb.appendHtmlConstant(filterImage.toString());
-        sb.append(template.closeContainerTag());
-        sb.append(template.header(value.label));
-        sb.append(template.closeContainerTag());
-        sb.append(template.closeContainerTag());
+
+        // The header only changes when the label or the filter state changes
+        if (renderedHtml == null || renderedFilterActive != filterActive || !equalLabels(renderedLabel, value.label)) {
+            SafeHtmlBuilder headerBuilder = new SafeHtmlBuilder();
+            headerBuilder.append(template.openContainerTag());
+            headerBuilder.append(template.openContainerTagWithPadding());
+            headerBuilder.append(template.openInlineContainerTag());
+            headerBuilder.append(getImageHtml(filterActive));
+            headerBuilder.append(template.closeContainerTag());
+            headerBuilder.append(template.header(value.label));
+            headerBuilder.append(template.closeContainerTag());
+            headerBuilder.append(template.closeContainerTag());
+            renderedHtml = headerBuilder.toSafeHtml();
+            renderedLabel = value.label;
+            renderedFilterActive = filterActive;
+        }
+        sb.append(renderedHtml);
+    }
+
+    /**
+     * Retrieves the html of the filter image for the filter state. The html is only
+     * rendered the first time it is needed.
+     *
+     * @param active - Whether the filter is active
+     *
+     * @return The html of the filter image
+     *
+     * @since 18 October 2026
+     */
+    private SafeHtml getImageHtml(boolean active) {
+        if (active) {
+            if (activeImageHtml == null) {
+                activeImageHtml = renderImage(resources.filterIconActive());
+            }
+            return activeImageHtml;
+        }
+        if (inactiveImageHtml == null) {
+            inactiveImageHtml = renderImage(resources.filterIconInactive());
+        }
+        return inactiveImageHtml;
+    }
+
+    /**
+     * Renders the html of the filter image for an image resource
+     *
+     * @param imageResource - The image to render
+     *
+     * @return The html of the filter image
+     *
+     * @since 18 October 2026
+     */
+    private SafeHtml renderImage(ImageResource imageResource) {
+        Image image = new Image(imageResource);
+        image.getElement().setAttribute("name", "filterIcon");
+        return SafeHtmlUtils.fromTrustedString(image.toString());
+    }
+
+    /**
+     * Compares two header labels, either of which may be null
+     *
+     * @param first - The first label
+     * @param second - The second label
+     *
+     * @return Whether the labels are equal
+     *
+     * @since 18 October 2026
+     */
+    private static boolean equalLabels(String first, String second) {
+        return first == null ? second == null : first.equals(second);
     }
 
     /**
@@ -0,0 +1,141 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.datagrid;
+
+import java.util.HashMap;
+import java.util.List;
+
+import org.ssgwt.client.ui.datagrid.SelectAllCell.SelectionState;
+
+/**
+ * Keeps a running count of the selected rows on the displayed page and across
+ * all the pages that have been displayed, so that the select all state can be
+ * determined without walking the rows.
+ *
+ * The rows are only counted when a page is loaded, after that the counts are
+ * updated as rows change state.
+ *
+ * @since 18 October 2026
+ */
+class MultiSelectState {
+
+    /**
+     * The amount of selected rows on each page that has been displayed, keyed by the start row of the page
+     */
+    private final HashMap<Integer, Integer> pageSelectedCounts = new HashMap<Integer, Integer>();
+
+    /**
+     * The amount of selected rows across all the pages that have been displayed
+     */
+    private int totalSelectedCount = 0;
+
+    /**
+     * The start row of the displayed page
+     */
+    private int pageStart = 0;
+
+    /**
+     * The amount of rows on the displayed page
+     */
+    private int pageSize = 0;
+
+    /**
+     * The amount of selected rows on the displayed page
+     */
+    private int pageSelectedCount = 0;
+
+    /**
+     * Counts the selected rows of the page that is being displayed
+     *
+     * @param pageStart - The start row of the page
+     * @param rows - The rows on the page
+     */
+    void setPage(int pageStart, List<? extends AbstractMultiSelectObject> rows) {
+        int selectedCount = 0;
+        for (AbstractMultiSelectObject row : rows) {
+            if (row.isSelected()) {
+                selectedCount++;
+            }
+        }
+        Integer previousCount = pageSelectedCounts.put(pageStart, selectedCount);
+        totalSelectedCount += selectedCount - (previousCount == null ? 0 : previousCount);
+
+        this.pageStart = pageStart;
+        this.pageSize = rows.size();
+        this.pageSelectedCount = selectedCount;
+    }
+
+    /**
+     * Updates the counts after rows on the displayed page changed state
+     *
+     * @param selected - The state the rows changed to
+     * @param rowCount - The amount of rows that changed state
+     */
+    void rowsChanged(boolean selected, int rowCount) {
+        int delta = selected ? rowCount : -rowCount;
+        pageSelectedCount += delta;
+        totalSelectedCount += delta;
+        pageSelectedCounts.put(pageStart, pageSelectedCount);
+    }
+
+    /**
+     * Whether all the rows on the displayed page are selected
+     *
+     * @return Whether all the rows on the displayed page are selected
+     */
+    boolean isPageFullySelected() {
+        return pageSize > 0 && pageSelectedCount == pageSize;
+    }
+
+    /**
+     * Retrieves the select all state of the displayed page
+     *
+     * @return The select all state of the displayed page
+     */
+    SelectionState getPageSelectionState() {
+        if (pageSelectedCount <= 0) {
+            return SelectionState.NONE;
+        } else if (isPageFullySelected()) {
+            return SelectionState.ALL;
+        }
+        return SelectionState.PARTIAL;
+    }
+
+    /**
+     * Retrieves the amount of selected rows on the displayed page
+     *
+     * @return The amount of selected rows on the displayed page
+     */
+    int getPageSelectedCount() {
+        return pageSelectedCount;
+    }
+
+    /**
+     * Retrieves the amount of selected rows across all the pages that have been displayed
+     *
+     * @return The amount of selected rows across all the pages
+     */
+    int getTotalSelectedCount() {
+        return totalSelectedCount;
+    }
+
+    /**
+     * Forgets the counts of all the pages except the displayed page
+     */
+    void clearOtherPages() {
+        pageSelectedCounts.clear();
+        pageSelectedCounts.put(pageStart, pageSelectedCount);
+        totalSelectedCount = pageSelectedCount;
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.datagrid;
+
+import java.util.Arrays;
+
+/**
+ * Rolling statistics over the most recent render timings of a single operation.
+ *
+ * Only the most recent samples are kept, the percentiles and maximum are calculated
+ * over those samples when they are requested.
+ *
+ * @since 18 October 2026
+ */
+public class RenderStatistics {
+
+    /**
+     * The most recent samples in milliseconds, used as a ring buffer
+     */
+    private final double[] samples;
+
+    /**
+     * The index the next sample will be written to
+     */
+    private int nextIndex = 0;
+
+    /**
+     * The amount of samples currently held
+     */
+    private int sampleCount = 0;
+
+    /**
+     * The total amount of samples recorded
+     */
+    private long count = 0;
+
+    /**
+     * Class constructor
+     *
+     * @param windowSize - The amount of recent samples to keep
+     */
+    public RenderStatistics(int windowSize) {
+        samples = new double[Math.max(1, windowSize)];
+    }
+
+    /**
+     * Records a sample
+     *
+     * @param millis - The time the operation took in milliseconds
+     */
+    public void record(double millis) {
+        samples[nextIndex] = millis;
+        nextIndex = (nextIndex + 1) % samples.length;
+        if (sampleCount < samples.length) {
+            sampleCount++;
+        }
+        count++;
+    }
+
+    /**
+     * Retrieves the total amount of samples recorded
+     *
+     * @return The total amount of samples recorded
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Retrieves the median of the recent samples
+     *
+     * @return The median in milliseconds, 0 if nothing was recorded
+     */
+    public double getP50() {
+        return getPercentile(50);
+    }
+
+    /**
+     * Retrieves the 95th percentile of the recent samples
+     *
+     * @return The 95th percentile in milliseconds, 0 if nothing was recorded
+     */
+    public double getP95() {
+        return getPercentile(95);
+    }
+
+    /**
+     * Retrieves the maximum of the recent samples
+     *
+     * @return The maximum in milliseconds, 0 if nothing was recorded
+     */
+    public double getMax() {
+        double max = 0;
+        for (int i = 0; i < sampleCount; i++) {
+            max = Math.max(max, samples[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Retrieves a percentile of the recent samples using the nearest rank
+     *
+     * @param percentile - The percentile to retrieve, between 0 and 100
+     *
+     * @return The percentile in milliseconds, 0 if nothing was recorded
+     */
+    public double getPercentile(double percentile) {
+        if (sampleCount == 0) {
+            return 0;
+        }
+        double[] sorted = new double[sampleCount];
+        System.arraycopy(samples, 0, sorted, 0, sampleCount);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil((percentile / 100) * sampleCount);
+        return sorted[Math.min(sampleCount - 1, Math.max(0, rank - 1))];
+    }
+
+    /**
+     * Removes all the recorded samples
+     */
+    public void clear() {
+        nextIndex = 0;
+        sampleCount = 0;
+        count = 0;
+    }
+}
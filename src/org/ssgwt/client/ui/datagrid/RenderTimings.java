@@ -0,0 +1,154 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.datagrid;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.ssgwt.client.ui.datagrid.event.DataGridRenderTimingEvent;
+
+import com.google.gwt.event.shared.HasHandlers;
+
+/**
+ * Collects the render timings of a data grid into rolling statistics per operation.
+ *
+ * The time spent rendering each column is accumulated while the rows are rendered and
+ * recorded as one sample per column once the render completes. Every recorded sample
+ * fires a DataGridRenderTimingEvent on the data grid.
+ *
+ * @since 18 October 2026
+ */
+public class RenderTimings {
+
+    /**
+     * The operation name used for setting the row data
+     */
+    public static final String SET_ROW_DATA = "setRowData";
+
+    /**
+     * The operation name used for refreshing the data grid
+     */
+    public static final String REFRESH = "refresh";
+
+    /**
+     * The operation name used for redrawing the headers
+     */
+    public static final String REDRAW_HEADERS = "redrawHeaders";
+
+    /**
+     * The prefix of the operation name used for rendering a column, followed by the field name of the column
+     */
+    public static final String COLUMN_PREFIX = "column:";
+
+    /**
+     * The source the timing events are fired on
+     */
+    private final HasHandlers source;
+
+    /**
+     * The amount of recent samples kept per operation
+     */
+    private final int windowSize;
+
+    /**
+     * The statistics per operation name
+     */
+    private final Map<String, RenderStatistics> statistics = new LinkedHashMap<String, RenderStatistics>();
+
+    /**
+     * The time spent rendering each column since the column times were last recorded
+     */
+    private final HashMap<String, Double> pendingColumnTimes = new HashMap<String, Double>();
+
+    /**
+     * Class constructor
+     *
+     * @param source - The source the timing events are fired on
+     * @param windowSize - The amount of recent samples to keep per operation
+     */
+    public RenderTimings(HasHandlers source, int windowSize) {
+        this.source = source;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Records a sample for an operation and fires a DataGridRenderTimingEvent
+     *
+     * @param operation - The name of the operation
+     * @param millis - The time the operation took in milliseconds
+     */
+    public void record(String operation, double millis) {
+        RenderStatistics operationStatistics = statistics.get(operation);
+        if (operationStatistics == null) {
+            operationStatistics = new RenderStatistics(windowSize);
+            statistics.put(operation, operationStatistics);
+        }
+        operationStatistics.record(millis);
+        DataGridRenderTimingEvent.fire(source, operation, millis, operationStatistics);
+    }
+
+    /**
+     * Adds time spent rendering a cell of a column to the pending time of the column
+     *
+     * @param fieldName - The field name of the column
+     * @param millis - The time spent rendering the cell in milliseconds
+     */
+    public void addColumnTime(String fieldName, double millis) {
+        Double pendingTime = pendingColumnTimes.get(fieldName);
+        pendingColumnTimes.put(fieldName, pendingTime == null ? millis : pendingTime + millis);
+    }
+
+    /**
+     * Records the time accumulated for each column as one sample per column
+     */
+    public void recordColumnTimes() {
+        if (pendingColumnTimes.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<String, Double> entry : pendingColumnTimes.entrySet()) {
+            record(COLUMN_PREFIX + entry.getKey(), entry.getValue());
+        }
+        pendingColumnTimes.clear();
+    }
+
+    /**
+     * Retrieves the statistics of an operation
+     *
+     * @param operation - The name of the operation
+     *
+     * @return The statistics of the operation, null if it was never recorded
+     */
+    public RenderStatistics getStatistics(String operation) {
+        return statistics.get(operation);
+    }
+
+    /**
+     * Retrieves the names of the operations that have been recorded
+     *
+     * @return The names of the recorded operations
+     */
+    public Set<String> getOperations() {
+        return statistics.keySet();
+    }
+
+    /**
+     * Removes all the recorded samples
+     */
+    public void clear() {
+        statistics.clear();
+        pendingColumnTimes.clear();
+    }
+}
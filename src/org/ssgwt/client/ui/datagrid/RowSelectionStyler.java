@@ -0,0 +1,163 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.datagrid;
+
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.TableRowElement;
+import com.google.gwt.user.cellview.client.AbstractCellTable;
+import com.google.gwt.user.cellview.client.RowStyles;
+import com.google.gwt.user.client.Window;
+
+/**
+ * Applies the selected row style to the rows of a data grid.
+ *
+ * The style is added while a row is rendered and the state that was written
+ * to each row on the current page is kept in a bitset, so updating the style
+ * after a selection change only touches the rows whose state differs from
+ * what is already in the DOM.
+ *
+ * @since 18 October 2026
+ *
+ * @param <T> The type of the row objects in the data grid
+ */
+class RowSelectionStyler<T extends AbstractMultiSelectObject> implements RowStyles<T> {
+
+    /**
+     * The style name applied to a selected row
+     */
+    static final String SELECTED_ROW_STYLE = "selectedRow";
+
+    /**
+     * Whether the browser needs to be forced to reflow a row after its style changed
+     */
+    private static final boolean REFLOW_REQUIRED = "Microsoft Internet Explorer".equals(Window.Navigator.getAppName());
+
+    /**
+     * The number of bits held in each word of the bitset
+     */
+    private static final int BITS_PER_WORD = 32;
+
+    /**
+     * The table the rows belong to
+     */
+    private final AbstractCellTable<T> table;
+
+    /**
+     * Bitset holding the selected state last written to each row on the current page
+     */
+    private int[] appliedStates = new int[1];
+
+    /**
+     * Element that is appended to and removed from a row to force a reflow
+     */
+    private Element reflowElement;
+
+    /**
+     * Class constructor
+     *
+     * @param table - The table the rows belong to
+     */
+    RowSelectionStyler(AbstractCellTable<T> table) {
+        this.table = table;
+    }
+
+    /**
+     * Retrieves the style names for a row while it is being rendered and records
+     * the state that was rendered
+     *
+     * @param row - The object the row is rendered for
+     * @param rowIndex - The absolute index of the row
+     *
+     * @return The selected row style if the row is selected, otherwise null
+     */
+    @Override
+    public String getStyleNames(T row, int rowIndex) {
+        boolean selected = row.isSelected();
+        int pageIndex = rowIndex - table.getPageStart();
+        if (pageIndex >= 0) {
+            setApplied(pageIndex, selected);
+        }
+        return selected ? SELECTED_ROW_STYLE : null;
+    }
+
+    /**
+     * Applies the selected style to the row at the index if it is not already applied
+     *
+     * @param rowIndex - The index of the row on the current page
+     * @param selected - Whether or not the row is selected
+     */
+    void applySelectedStyle(int rowIndex, boolean selected) {
+        if (isApplied(rowIndex) == selected) {
+            return;
+        }
+        TableRowElement tableRow = table.getRowElement(rowIndex);
+        if (tableRow == null) {
+            return;
+        }
+        if (selected) {
+            tableRow.addClassName(SELECTED_ROW_STYLE);
+        } else {
+            tableRow.removeClassName(SELECTED_ROW_STYLE);
+        }
+        setApplied(rowIndex, selected);
+
+        if (REFLOW_REQUIRED) {
+            if (reflowElement == null) {
+                reflowElement = Document.get().createDivElement();
+            }
+            tableRow.appendChild(reflowElement);
+            tableRow.removeChild(reflowElement);
+        }
+    }
+
+    /**
+     * Retrieves the selected state last written to the row at the index
+     *
+     * @param rowIndex - The index of the row on the current page
+     *
+     * @return Whether the selected style is applied to the row
+     */
+    private boolean isApplied(int rowIndex) {
+        int word = rowIndex / BITS_PER_WORD;
+        if (word >= appliedStates.length) {
+            return false;
+        }
+        return (appliedStates[word] & (1 << (rowIndex % BITS_PER_WORD))) != 0;
+    }
+
+    /**
+     * Records the selected state written to the row at the index
+     *
+     * @param rowIndex - The index of the row on the current page
+     * @param selected - Whether the selected style is applied to the row
+     */
+    private void setApplied(int rowIndex, boolean selected) {
+        int word = rowIndex / BITS_PER_WORD;
+        if (word >= appliedStates.length) {
+            if (!selected) {
+                return;
+            }
+            int[] grown = new int[Math.max(word + 1, appliedStates.length * 2)];
+            System.arraycopy(appliedStates, 0, grown, 0, appliedStates.length);
+            appliedStates = grown;
+        }
+        int mask = 1 << (rowIndex % BITS_PER_WORD);
+        if (selected) {
+            appliedStates[word] |= mask;
+        } else {
+            appliedStates[word] &= ~mask;
+        }
+    }
+}
@@ -15,12 +15,16 @@ package org.ssgwt.client.ui.datagrid;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 import org.ssgwt.client.ui.datagrid.SSPager.TextLocation;
+import org.ssgwt.client.ui.datagrid.column.RenderTimedColumn;
 import org.ssgwt.client.ui.datagrid.column.SortableColumnWithName;
 import org.ssgwt.client.ui.datagrid.event.DataGridRangeChangeEvent;
+import org.ssgwt.client.ui.datagrid.event.DataGridRenderTimingEvent;
 import org.ssgwt.client.ui.datagrid.event.DataGridRowSelectionChangedEvent;
 import org.ssgwt.client.ui.datagrid.event.DataGridSortEvent;
 import org.ssgwt.client.ui.datagrid.event.FilterChangeEvent;
@@ -28,13 +32,18 @@ import org.ssgwt.client.ui.datagrid.event.IDataGridEventHandler;
 import org.ssgwt.client.ui.datagrid.event.ISelectAllEventHandler;
 import org.ssgwt.client.ui.datagrid.event.SelectAllEvent;
 import org.ssgwt.client.ui.datagrid.filter.AbstractHeaderFilter;
+import org.ssgwt.client.ui.datagrid.filter.AbstractHeaderFilter.Criteria;
 
 import com.google.gwt.cell.client.Cell;
 import com.google.gwt.cell.client.CheckboxCell;
 import com.google.gwt.cell.client.FieldUpdater;
+import com.google.gwt.core.client.Duration;
 import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
 import com.google.gwt.dom.client.Style.Unit;
-import com.google.gwt.dom.client.TableRowElement;
+import com.google.gwt.event.dom.client.ScrollEvent;
+import com.google.gwt.event.dom.client.ScrollHandler;
 import com.google.gwt.event.shared.HandlerRegistration;
 import com.google.gwt.resources.client.ClientBundle;
 import com.google.gwt.resources.client.CssResource;
@@ -45,12 +54,12 @@ import com.google.gwt.uibinder.client.UiBinder;
 import com.google.gwt.uibinder.client.UiField;
 import com.google.gwt.user.cellview.client.Column;
 import com.google.gwt.user.cellview.client.ColumnSortEvent;
+import com.google.gwt.user.cellview.client.ColumnSortList;
 import com.google.gwt.user.cellview.client.ColumnSortList.ColumnSortInfo;
 import com.google.gwt.user.cellview.client.DataGrid;
 import com.google.gwt.user.cellview.client.Header;
 import com.google.gwt.user.cellview.client.TextColumn;
 import com.google.gwt.user.cellview.client.TextHeader;
-import com.google.gwt.user.client.Window;
 import com.google.gwt.user.client.ui.Composite;
 import com.google.gwt.user.client.ui.FlowPanel;
 import com.google.gwt.user.client.ui.Image;
@@ -58,6 +67,7 @@ import com.google.gwt.user.client.ui.Label;
 import com.google.gwt.user.client.ui.LayoutPanel;
 import com.google.gwt.user.client.ui.RequiresResize;
 import com.google.gwt.user.client.ui.Widget;
+import com.google.gwt.view.client.ProvidesKey;
 import com.google.gwt.view.client.Range;
 import com.google.gwt.view.client.RangeChangeEvent;
 
@@ -100,6 +110,26 @@ public class SSDataGrid<T extends AbstractMultiSelectObject> extends Composite
         ImageResource loaderImage();
     }
 
+    /**
+     * Provides the version of a row object, used to determine whether a row with the
+     * same key changed when the data is reloaded in row diffing mode
+     *
+     * @since 18 October 2026
+     *
+     * @param <T> The type of the row objects
+     */
+    public interface ProvidesVersion<T> {
+
+        /**
+         * Retrieves the version of the row object
+         *
+         * @param item - The row object
+         *
+         * @return The version of the row object
+         */
+        Object getVersion(T item);
+    }
+
     public interface Style extends CssResource {
 
         /**
@@ -219,6 +249,126 @@ public class SSDataGrid<T extends AbstractMultiSelectObject> extends Composite
      */
     private final HashMap<AbstractHeaderFilter, String> filterColumns = new HashMap<AbstractHeaderFilter, String>();
 
+    /**
+     * Applies the selected style to the rows of the data grid
+     */
+    private final RowSelectionStyler<T> rowSelectionStyler;
+
+    /**
+     * Whether only the rows in the viewport and a buffer around it are rendered
+     */
+    private boolean virtualScrolling = false;
+
+    /**
+     * The height of a row in pixels used to position the rows in virtual scrolling mode
+     */
+    private int virtualScrollRowHeight = 1;
+
+    /**
+     * The amount of rows rendered above and below the viewport in virtual scrolling mode
+     */
+    private int virtualScrollBufferRows = 0;
+
+    /**
+     * The registration of the scroll handler used in virtual scrolling mode
+     */
+    private HandlerRegistration virtualScrollRegistration;
+
+    /**
+     * The page size of the data grid that is restored when virtual scrolling is disabled
+     */
+    private int pagedPageSize;
+
+    /**
+     * The scroll position of the data grid that is restored when virtual scrolling is disabled
+     */
+    private int pagedScrollPosition = 0;
+
+    /**
+     * The cache of pages that have already been retrieved, null if caching is disabled
+     */
+    private DataGridPageCache<T> pageCache;
+
+    /**
+     * Whether the pages before and after the displayed page should be prefetched
+     */
+    private boolean prefetchPages = false;
+
+    /**
+     * Keeps count of the selected rows when the data grid supports multiple selects
+     */
+    private final MultiSelectState multiSelectState = new MultiSelectState();
+
+    /**
+     * The header of the multi select column, null if the data grid does not support multiple selects
+     */
+    private SelectAllHeader selectAllHeader;
+
+    /**
+     * The active state of the filters the headers were last redrawn with
+     */
+    private String renderedFilterState;
+
+    /**
+     * The amount of beginUpdate calls that have not been committed yet
+     */
+    private int updateDepth = 0;
+
+    /**
+     * The amount of beginFilterChange calls that have not been committed yet
+     */
+    private int filterChangeDepth = 0;
+
+    /**
+     * The amount of filter changes made since the last filter change event was fired
+     */
+    private int pendingFilterChanges = 0;
+
+    /**
+     * Whether changes were made that still need to be applied by a render pass
+     */
+    private boolean renderPassPending = false;
+
+    /**
+     * Whether a render pass has been scheduled for the end of the current event loop
+     */
+    private boolean renderPassScheduled = false;
+
+    /**
+     * Whether the data grid was redrawn by refresh since the last render pass
+     */
+    private boolean refreshPending = false;
+
+    /**
+     * Whether the loading indicator should be hidden by the next render pass
+     */
+    private boolean hideLoadingIndicator = false;
+
+    /**
+     * Whether the selection counts of other pages should be cleared by the next render pass
+     */
+    private boolean clearOtherPageSelections = false;
+
+    /**
+     * Whether reloaded data is compared to the displayed rows so only changed rows are rendered
+     */
+    private boolean rowDiffing = false;
+
+    /**
+     * Provides the version of the rows in row diffing mode, null to compare rows using equals
+     */
+    private ProvidesVersion<T> versionProvider;
+
+    /**
+     * The amount of recent samples kept per operation when render timing is enabled
+     */
+    private static final int RENDER_TIMING_WINDOW = 100;
+
+    /**
+     * The render timings of the data grid, null when render timing is disabled
+     */
+    private RenderTimings renderTimings = null;
+
     /**
      * Class Constructor
      *
@@ -266,7 +416,23 @@ public class SSDataGrid<T extends AbstractMultiSelectObject> extends Composite
      * @param multiSelect - Whether the data grid supports multiple selects
      */
     public SSDataGrid(DataGrid.Resources dataGridResource, SSPager.Resources pagerResource, boolean multiSelect) {
-        dataGrid = new DataGrid<T>(10, dataGridResource);
+        this(dataGridResource, pagerResource, multiSelect, null);
+    }
+
+    /**
+     * Class Constructor
+     *
+     * @since 18 October 2026
+     *
+     * @param dataGridResource - The resource that needs to be used for the data grid
+     * @param pagerResource - The resource  that needs to be used for the pager
+     * @param multiSelect - Whether the data grid supports multiple selects
+     * @param keyProvider - Provides the keys of the row objects, or null if the row object should act as its own key
+     */
+    public SSDataGrid(DataGrid.Resources dataGridResource, SSPager.Resources pagerResource, boolean multiSelect, ProvidesKey<T> keyProvider) {
+        dataGrid = new DataGrid<T>(10, dataGridResource, keyProvider);
+        rowSelectionStyler = new RowSelectionStyler<T>(dataGrid);
+        dataGrid.setRowStyles(rowSelectionStyler);
 
         dataGrid.addColumnSortHandler(new ColumnSortEvent.Handler() {
 
@@ -285,6 +451,7 @@ public class SSDataGrid<T extends AbstractMultiSelectObject> extends Composite
                     columnSortDetail.put(event.getColumn(), new ColumnSortInfo(event.getColumn(), true));
                 }
                 SSDataGrid.this.dataGrid.getColumnSortList().push(columnSortDetail.get(event.getColumn()));
+                clearPageCache();
                 fireEvent(new DataGridSortEvent(event.getColumn(), columnSortDetail.get(event.getColumn()).isAscending()));
             }
         });
@@ -320,6 +487,7 @@ public class SSDataGrid<T extends AbstractMultiSelectObject> extends Composite
      * @since 17 July 2014
      */
     public void setLoadingIndicatorState(boolean loading) {
+        hideLoadingIndicator = false;
         loaderImage.setVisible(loading);
         if (loading) {
             noContentLabel.setVisible(false);
@@ -329,11 +497,24 @@ public class SSDataGrid<T extends AbstractMultiSelectObject> extends Composite
     /**
      * This function will clear the sort icon from the
      * datagrid
+     * The change is included in the FilterChangeEvent of an open filter change
      *
      * @author Ruan Naude <nauderuan777@gmail.com>
      * @since 05 April 2013
      */
     public void clearSort() {
+        removeSort();
+        if (filterChangeDepth > 0) {
+            pendingFilterChanges++;
+        }
+    }
+
+    /**
+     * Removes the sort from the datagrid without recording it as part of an open filter change
+     *
+     * @since 18 October 2026
+     */
+    private void removeSort() {
         ColumnSortInfo columnSortInfo = new ColumnSortInfo(null, false);
         SSDataGrid.this.dataGrid.getColumnSortList().push(columnSortInfo);
     }
@@ -341,6 +522,7 @@ public class SSDataGrid<T extends AbstractMultiSelectObject> extends Composite
     /**
      * This function will get the column with the specified field name and then set that
      * column as sorted, either descending or ascending.
+     * The change is included in the FilterChangeEvent of an open filter change.
      * 
      * @param columnFieldName - The field name of the column to sort
      * @param ascending - Whether to sort ascending or descending
@@ -357,6 +539,9 @@ public class SSDataGrid<T extends AbstractMultiSelectObject> extends Composite
                      if (columnFieldName.equals(((SortableColumnWithName) column).getFieldName())) {
                          ColumnSortInfo columnSortInfo = new ColumnSortInfo(column, ascending);
                          SSDataGrid.this.dataGrid.getColumnSortList().push(columnSortInfo);
+                         if (filterChangeDepth > 0) {
+                             pendingFilterChanges++;
+                         }
                      }
                  }
              }
@@ -417,7 +602,7 @@ public class SSDataGrid<T extends AbstractMultiSelectObject> extends Composite
         if (data != null && data.size() > 0) {
             noContentLabel.setVisible(false);
             dataGrid.setRowData(data);
-            refresh();
+            clearOtherPageSelections = true;
         } else {
             noContentLabel.setVisible(true);
             //No data to display so we reset the range selector 
@@ -428,10 +613,10 @@ public class SSDataGrid<T extends AbstractMultiSelectObject> extends Composite
             doRangeChange = true;
             firstDataSet = false;
         }
-        setLoadingIndicatorState(false);
+        hideLoadingIndicator = true;
 
-        //Redraw headers so we can display the active filters
-        dataGrid.redrawHeaders();
+        //Style the rows and redraw headers so we can display the active filters
+        scheduleRenderPass();
     }
 
     /**
@@ -468,13 +653,20 @@ public class SSDataGrid<T extends AbstractMultiSelectObject> extends Composite
             doRangeChange = false;
             noContentLabel.setVisible(false);
             
-            if (rowsPerPage != 0) {
-                Range range = new Range(startRow, rowsPerPage);
-                dataGrid.setVisibleRangeAndClearData(range, true);
+            if (rowDiffing && isDiffable(startRow, data, rowsPerPage)) {
+                setChangedRowData(startRow, data);
+            } else {
+                if (rowsPerPage != 0) {
+                    Range range = new Range(startRow, rowsPerPage);
+                    dataGrid.setVisibleRangeAndClearData(range, true);
+                }
+
+                dataGrid.setRowData(startRow, data);
+            }
+            if (pageCache != null && startRow == dataGrid.getVisibleRange().getStart()) {
+                pageCache.put(getPageCacheKey(dataGrid.getVisibleRange()), dataGrid.getVisibleItems());
+                prefetchAdjacentPages();
             }
-            
-            dataGrid.setRowData(startRow, data);
-            refresh();
         } else {
             noContentLabel.setVisible(true);
         }
@@ -483,10 +675,87 @@ public class SSDataGrid<T extends AbstractMultiSelectObject> extends Composite
             doRangeChange = true;
             firstDataSet = false;
         }
-        setLoadingIndicatorState(false);
-        
-        //Redraw headers so we can display the active filters
-        dataGrid.redrawHeaders();
+        hideLoadingIndicator = true;
+
+        //Style the rows and redraw headers so we can display the active filters
+        scheduleRenderPass();
+    }
+
+    /**
+     * Enables or disables row diffing. When enabled, data set for the page that is
+     * already displayed is compared to the displayed rows by key and version, and only
+     * the rows that differ are rendered again. Unchanged rows keep the displayed row
+     * object, including its selected state. The keys are taken from the key provider
+     * the data grid was created with.
+     *
+     * @param rowDiffing - Whether reloaded data should be diffed against the displayed rows
+     * @param versionProvider - Provides the version of a row, or null to compare rows using equals
+     *
+     * @since 18 October 2026
+     */
+    public void setRowDiffing(boolean rowDiffing, ProvidesVersion<T> versionProvider) {
+        this.rowDiffing = rowDiffing;
+        this.versionProvider = versionProvider;
+    }
+
+    /**
+     * Whether the data can be diffed against the displayed rows, which is only the
+     * case when it replaces the displayed page with the same amount of rows
+     *
+     * @param startRow - The start row the data is for
+     * @param data - The data the should be displayed on the data grid
+     * @param rowsPerPage - The amount of records to display per page
+     *
+     * @return Whether the data can be diffed
+     */
+    private boolean isDiffable(int startRow, List<T> data, int rowsPerPage) {
+        Range range = dataGrid.getVisibleRange();
+        return startRow == range.getStart()
+            && (rowsPerPage == 0 || rowsPerPage == range.getLength())
+            && data.size() == dataGrid.getVisibleItemCount();
+    }
+
+    /**
+     * Sets only the rows that differ from the displayed rows. Each run of adjacent
+     * changed rows is passed to the data grid as one range.
+     *
+     * @param startRow - The start row the data is for
+     * @param data - The data the should be displayed on the data grid
+     */
+    private void setChangedRowData(int startRow, List<T> data) {
+        int size = data.size();
+        int runStart = -1;
+        for (int i = 0; i <= size; i++) {
+            boolean changed = i < size && isRowChanged(dataGrid.getVisibleItem(i), data.get(i));
+            if (changed && runStart < 0) {
+                runStart = i;
+            } else if (!changed && runStart >= 0) {
+                dataGrid.setRowData(startRow + runStart, data.subList(runStart, i));
+                runStart = -1;
+            }
+        }
+    }
+
+    /**
+     * Whether the incoming row differs from the displayed row by key or version
+     *
+     * @param current - The displayed row
+     * @param incoming - The row that was received
+     *
+     * @return Whether the row needs to be rendered again
+     */
+    private boolean isRowChanged(T current, T incoming) {
+        Object currentKey = dataGrid.getValueKey(current);
+        Object incomingKey = dataGrid.getValueKey(incoming);
+        if (currentKey == null ? incomingKey != null : !currentKey.equals(incomingKey)) {
+            return true;
+        }
+        if (versionProvider != null) {
+            Object currentVersion = versionProvider.getVersion(current);
+            Object incomingVersion = versionProvider.getVersion(incoming);
+            return currentVersion == null ? incomingVersion != null : !currentVersion.equals(incomingVersion);
+        }
+        return !current.equals(incoming);
     }
 
     /**
@@ -511,6 +780,7 @@ public class SSDataGrid<T extends AbstractMultiSelectObject> extends Composite
     @Override
     public void onResize() {
         dataGrid.setHeight((this.getOffsetHeight() - 40) + "px");
+        updateVirtualWindow(false);
     }
 
     /**
@@ -787,6 +1057,7 @@ public class SSDataGrid<T extends AbstractMultiSelectObject> extends Composite
      */
     public final void setRowCount(int count) {
         dataGrid.setRowCount(count);
+        updateVirtualWindow(false);
     }
 
     /**
@@ -798,6 +1069,124 @@ public class SSDataGrid<T extends AbstractMultiSelectObject> extends Composite
      */
     public void setRowCount(int size, boolean isExact) {
         dataGrid.setRowCount(size, isExact);
+        updateVirtualWindow(false);
+    }
+
+    /**
+     * Switches the data grid between paged rendering and virtual scrolling.
+     *
+     * In virtual scrolling mode the pager is hidden and only the rows in the
+     * viewport plus a buffer above and below it are rendered. Scrolling moves
+     * the visible range of the data grid, which fires a DataGridRangeChangeEvent
+     * for the new window so that its data can be fetched and passed to
+     * setRowData(startRow, data). The total amount of rows is set through
+     * setRowCount and all rows are expected to have the same height. When
+     * virtual scrolling is disabled again the first page is displayed with the
+     * page size and scroll position the data grid had before it was enabled.
+     *
+     * @param virtualScrolling - Whether virtual scrolling should be used
+     * @param rowHeight - The height of a row in pixels
+     * @param bufferRows - The amount of rows to render above and below the viewport
+     *
+     * @since 18 October 2026
+     */
+    public void setVirtualScrolling(boolean virtualScrolling, int rowHeight, int bufferRows) {
+        if (virtualScrollRegistration != null) {
+            virtualScrollRegistration.removeHandler();
+            virtualScrollRegistration = null;
+        }
+        boolean wasVirtualScrolling = this.virtualScrolling;
+        if (virtualScrolling && !wasVirtualScrolling) {
+            pagedPageSize = dataGrid.getVisibleRange().getLength();
+            pagedScrollPosition = dataGrid.getBodyScrollPosition();
+        }
+        this.virtualScrolling = virtualScrolling;
+        this.virtualScrollRowHeight = Math.max(1, rowHeight);
+        this.virtualScrollBufferRows = Math.max(0, bufferRows);
+        pager.setVisible(!virtualScrolling);
+
+        if (virtualScrolling) {
+            virtualScrollRegistration = dataGrid.addBodyScrollHandler(new ScrollHandler() {
+
+                /**
+                 * Moves the rendered window when the data grid is scrolled
+                 *
+                 * @param event - The event that was fired
+                 */
+                @Override
+                public void onScroll(ScrollEvent event) {
+                    updateVirtualWindow(false);
+                }
+            });
+            updateVirtualWindow(!wasVirtualScrolling);
+        } else {
+            dataGrid.setBodySpacing(0, 0);
+            if (wasVirtualScrolling) {
+                dataGrid.setVisibleRange(0, pagedPageSize);
+                dataGrid.setBodyScrollPosition(pagedScrollPosition);
+            }
+        }
+    }
+
+    /**
+     * Whether the data grid is in virtual scrolling mode
+     *
+     * @return Whether only the rows around the viewport are rendered
+     *
+     * @since 18 October 2026
+     */
+    public boolean isVirtualScrolling() {
+        return this.virtualScrolling;
+    }
+
+    /**
+     * Moves the visible range of the data grid when the viewport gets close to
+     * the edge of the rendered window. The window is only moved once the viewport
+     * is within half a buffer of its edge so that small scrolls do not re-render
+     * any rows. A window of another length that was set through setRowData or
+     * the pager is kept as long as it covers the viewport, so it does not cause
+     * another range change.
+     *
+     * @param resize - Whether to set the window to the viewport and buffer length even if it covers the viewport
+     */
+    private void updateVirtualWindow(boolean resize) {
+        if (!virtualScrolling) {
+            return;
+        }
+        int rowCount = dataGrid.getRowCount();
+        int viewportRows = Math.max(1, (dataGrid.getBodyViewportHeight() + virtualScrollRowHeight - 1) / virtualScrollRowHeight);
+        int firstVisibleRow = dataGrid.getBodyScrollPosition() / virtualScrollRowHeight;
+        int windowLength = viewportRows + (2 * virtualScrollBufferRows);
+        int margin = virtualScrollBufferRows / 2;
+
+        Range range = dataGrid.getVisibleRange();
+        int windowStart = range.getStart();
+        int windowEnd = windowStart + range.getLength();
+        boolean coversViewport = !resize
+            && (windowStart == 0 || firstVisibleRow - margin >= windowStart)
+            && (windowEnd >= rowCount || firstVisibleRow + viewportRows + margin <= windowEnd);
+
+        if (!coversViewport) {
+            windowStart = Math.max(0, firstVisibleRow - virtualScrollBufferRows);
+            if (rowCount > 0 && windowStart + windowLength > rowCount) {
+                windowStart = Math.max(0, rowCount - windowLength);
+            }
+            dataGrid.setVisibleRange(windowStart, windowLength);
+        }
+        updateVirtualSpacing();
+    }
+
+    /**
+     * Sets the space above and below the rendered rows so that the scrollbar of
+     * the data grid reflects the total amount of rows in virtual scrolling mode
+     */
+    private void updateVirtualSpacing() {
+        if (!virtualScrolling) {
+            return;
+        }
+        int windowStart = dataGrid.getVisibleRange().getStart();
+        int rowsBelow = Math.max(0, dataGrid.getRowCount() - windowStart - dataGrid.getVisibleItemCount());
+        dataGrid.setBodySpacing(windowStart * virtualScrollRowHeight, rowsBelow * virtualScrollRowHeight);
     }
 
     /**
@@ -856,11 +1245,16 @@ public class SSDataGrid<T extends AbstractMultiSelectObject> extends Composite
     }
 
     /**
-     * Sets the size of the pager.
+     * Sets the size of the pager. While virtual scrolling is enabled the size
+     * is kept and applied once virtual scrolling is disabled.
      *
      * @param pageSize - The size of the pager
      */
     public void setPageSize(int pageSize) {
+      if (virtualScrolling) {
+        pagedPageSize = pageSize;
+        return;
+      }
       pager.setPageSize(pageSize);
     }
 
@@ -908,6 +1302,7 @@ public class SSDataGrid<T extends AbstractMultiSelectObject> extends Composite
 
         };
         SelectAllHeader header = new SelectAllHeader();
+        selectAllHeader = header;
         header.addEventHandler(new ISelectAllEventHandler() {
 
             /**
@@ -917,33 +1312,28 @@ public class SSDataGrid<T extends AbstractMultiSelectObject> extends Composite
              */
             @Override
             public void onSelectAllEvent(SelectAllEvent event) {
-                DataGrid dataGrid = SSDataGrid.this.dataGrid;
-
-                Range rows = dataGrid.getVisibleRange();
-
-                int end = rows.getStart() + rows.getLength();
-                int numRecordsDisplayed = rows.getLength();
-                if (end > dataGrid.getRowCount()) {
-                    end = dataGrid.getRowCount();
-                    numRecordsDisplayed = end % numRecordsDisplayed;
-                }
+                boolean allSelected = multiSelectState.isPageFullySelected();
+                int numRecordsDisplayed = dataGrid.getVisibleItemCount();
 
-                boolean allSelected = true;
+                List<T> changedRows = new ArrayList<T>();
+                int[] changedIndexes = new int[numRecordsDisplayed];
                 for (int i = 0; i < numRecordsDisplayed; i++) {
-                    if (!((T)dataGrid.getVisibleItem(i)).isSelected()) {
-                        allSelected = false;
-                        break;
+                    T item = dataGrid.getVisibleItem(i);
+                    if (item.isSelected() == allSelected) {
+                        item.setSelected(!allSelected);
+                        changedIndexes[changedRows.size()] = i;
+                        changedRows.add(item);
                     }
                 }
+                multiSelectState.rowsChanged(!allSelected, changedRows.size());
 
-                for (int i = 0; i < numRecordsDisplayed; i++) {
-                    ((T)dataGrid.getVisibleItem(i)).setSelected(!allSelected);
-                }
-                DataGridRowSelectionChangedEvent<T> eventX = new DataGridRowSelectionChangedEvent<T>(
-                        dataGrid.getVisibleItems());
-
+                DataGridRowSelectionChangedEvent<T> eventX = new DataGridRowSelectionChangedEvent<T>(changedRows);
                 SSDataGrid.this.fireEvent(eventX);
-                refresh();
+
+                int[] rowsToRefresh = new int[changedRows.size()];
+                System.arraycopy(changedIndexes, 0, rowsToRefresh, 0, changedRows.size());
+                refreshRows(rowsToRefresh);
+                updateSelectAllHeader();
             }
         });
         dataGrid.addColumn(selectedColumn, header);
@@ -959,8 +1349,12 @@ public class SSDataGrid<T extends AbstractMultiSelectObject> extends Composite
              */
             @Override
             public void update(int index, T object, Boolean value) {
-                object.setSelected(value);
-                refresh();
+                if (object.isSelected() != value) {
+                    object.setSelected(value);
+                    multiSelectState.rowsChanged(value, 1);
+                }
+                refreshRows(index - dataGrid.getPageStart());
+                updateSelectAllHeader();
                 List<T> selectedRowList = new ArrayList<T>();
                 selectedRowList.add(object);
                 DataGridRowSelectionChangedEvent<T> eventX = new DataGridRowSelectionChangedEvent<T>(selectedRowList);
@@ -970,61 +1364,331 @@ public class SSDataGrid<T extends AbstractMultiSelectObject> extends Composite
     }
 
     /**
-     * Refresh the data grid
+     * Refresh the data grid. The rows are redrawn and their selected styles applied
+     * by the next render pass, which records the time it took as a refresh if render
+     * timing is enabled.
      */
     private void refresh() {
         dataGrid.redraw();
+        refreshPending = true;
+        scheduleRenderPass();
+    }
+
+    /**
+     * Redraws the headers of the data grid and records the time it took if render
+     * timing is enabled
+     */
+    private void redrawHeaders() {
+        if (renderTimings == null) {
+            dataGrid.redrawHeaders();
+            return;
+        }
+        double start = Duration.currentTimeMillis();
+        dataGrid.redrawHeaders();
+        renderTimings.record(RenderTimings.REDRAW_HEADERS, Duration.currentTimeMillis() - start);
+    }
+
+    /**
+     * Enables or disables the recording of render timings. While enabled the time spent
+     * rendering row data, refreshing, redrawing the headers and rendering each column
+     * implementing RenderTimedColumn is recorded and a DataGridRenderTimingEvent is
+     * fired for every recorded sample. Nothing is timed while disabled.
+     *
+     * @param enabled - Whether render timing should be enabled
+     *
+     * @since 18 October 2026
+     */
+    public void setRenderTimingEnabled(boolean enabled) {
+        if (enabled == (renderTimings != null)) {
+            return;
+        }
+        renderTimings = enabled ? new RenderTimings(this, RENDER_TIMING_WINDOW) : null;
+        attachRenderTimings();
+    }
 
-        Range rows = dataGrid.getVisibleRange();
+    /**
+     * Retrieves the render timings that can be polled for the rolling statistics
+     *
+     * @return The render timings, null if render timing is disabled
+     *
+     * @since 18 October 2026
+     */
+    public RenderTimings getRenderTimings() {
+        return renderTimings;
+    }
 
-        int end = rows.getStart() + rows.getLength();
-        int numRecordsDisplayed = rows.getLength();
-        if (end > dataGrid.getRowCount()) {
-            end = dataGrid.getRowCount();
-            numRecordsDisplayed = end % numRecordsDisplayed;
+    /**
+     * Passes the current render timings to all the columns that can be timed, so that
+     * columns added after render timing was enabled are timed as well
+     */
+    private void attachRenderTimings() {
+        for (int i = 0; i < dataGrid.getColumnCount(); i++) {
+            Column<T, ?> column = dataGrid.getColumn(i);
+            if (column instanceof RenderTimedColumn) {
+                ((RenderTimedColumn) column).setRenderTimings(renderTimings);
+            }
         }
+    }
+
+    /**
+     * Applies the selected style to the rows on the current page and recounts the
+     * selected rows on the page
+     */
+    private void applyRowSelectedStyles() {
+        int numRecordsDisplayed = dataGrid.getVisibleItemCount();
         for (int i = 0; i < numRecordsDisplayed; i++) {
             setRowSelectedStyle(i, dataGrid.getVisibleItem(i).isSelected());
         }
+        multiSelectState.setPage(dataGrid.getPageStart(), dataGrid.getVisibleItems());
     }
 
     /**
-     * Sets the style of a selected row at a certain index
+     * Starts a batch of updates. Changes made to the data grid until the matching
+     * commitUpdate call are applied in a single render pass when the batch is committed.
      *
-     * @param rowIndex - The index of the row that needs to change
-     * @param selected - Whether or not the row is selected
+     * @since 18 October 2026
      */
-    private void setRowSelectedStyle(int rowIndex, boolean selected) {
-        TableRowElement tableRow = dataGrid.getRowElement(rowIndex);
-
-        String styleNames = tableRow.getClassName();
-        String newStyles = styleNames;
-        boolean containsStyle = styleNames.contains("selectedRow");
-        if (containsStyle && !selected) {
-            newStyles = "";
-            String[] styles = styleNames.split(" ");
-            for (int i = 0; i < styles.length; i++) {
-                if (!styles[i].equals("selectedRow")) {
-                    newStyles += " " + styles[i];
-                }
+    public void beginUpdate() {
+        updateDepth++;
+    }
+
+    /**
+     * Completes a batch of updates started with beginUpdate and applies the changes
+     * made during the batch in a single render pass
+     *
+     * @since 18 October 2026
+     */
+    public void commitUpdate() {
+        if (updateDepth > 0) {
+            updateDepth--;
+        }
+        if (updateDepth == 0 && renderPassPending) {
+            flushRenderPass();
+        }
+    }
+
+    /**
+     * Starts a filter change. Changes made to the filters and the sort until the matching
+     * commitFilterChange call fire a single FilterChangeEvent when the change is committed,
+     * instead of an event for every filter.
+     *
+     * @since 18 October 2026
+     */
+    public void beginFilterChange() {
+        filterChangeDepth++;
+    }
+
+    /**
+     * Completes a filter change started with beginFilterChange. A single FilterChangeEvent
+     * holding the active filters and the sort is fired if any filter or the sort was changed
+     * during the filter change.
+     *
+     * @since 18 October 2026
+     */
+    public void commitFilterChange() {
+        if (filterChangeDepth > 0) {
+            filterChangeDepth--;
+        }
+        if (filterChangeDepth == 0 && pendingFilterChanges > 0) {
+            fireFilterChangeEvent();
+        }
+    }
+
+    /**
+     * Records a filter change and fires the FilterChangeEvent unless a filter change
+     * started with beginFilterChange is open
+     *
+     * @since 18 October 2026
+     */
+    private void filterChanged() {
+        pendingFilterChanges++;
+        if (filterChangeDepth == 0) {
+            fireFilterChangeEvent();
+        }
+    }
+
+    /**
+     * Fires a FilterChangeEvent holding copies of the criteria of the active filters and
+     * the sort for the filter changes made since the last event. The criteria are stored by
+     * the field name of their column as getFilters exposes it, or by the label of the column
+     * if it has no field name.
+     *
+     * @since 18 October 2026
+     */
+    private void fireFilterChangeEvent() {
+        int changeCount = pendingFilterChanges;
+        pendingFilterChanges = 0;
+        LinkedHashMap<String, Criteria> activeCriteria = new LinkedHashMap<String, Criteria>();
+        for (Map.Entry<String, AbstractHeaderFilter> entry : filterWidgets.entrySet()) {
+            AbstractHeaderFilter filter = entry.getValue();
+            if (filter.isFilterActive() && filter.getCriteria() != null) {
+                String fieldName = filterColumns.get(filter);
+                activeCriteria.put(fieldName != null ? fieldName : entry.getKey(), filter.getCriteria().copy());
             }
-        } else if (!containsStyle && selected) {
-            if (!newStyles.equals("")) {
-                newStyles += " ";
+        }
+        String sortFieldName = null;
+        boolean sortAscending = false;
+        if (dataGrid.getColumnSortList().size() > 0) {
+            ColumnSortInfo columnSortInfo = dataGrid.getColumnSortList().get(0);
+            if (columnSortInfo.getColumn() instanceof SortableColumnWithName) {
+                sortFieldName = ((SortableColumnWithName)columnSortInfo.getColumn()).getFieldName();
+                sortAscending = columnSortInfo.isAscending();
+            }
+        }
+        fireEvent(new FilterChangeEvent(activeCriteria, sortFieldName, sortAscending, changeCount));
+    }
+
+    /**
+     * Schedules a render pass for the end of the current event loop, so that all the
+     * changes made during the event loop are applied together. No render pass is
+     * scheduled while a batch started with beginUpdate is open.
+     */
+    private void scheduleRenderPass() {
+        renderPassPending = true;
+        if (updateDepth > 0 || renderPassScheduled) {
+            return;
+        }
+        renderPassScheduled = true;
+        Scheduler.get().scheduleFinally(new ScheduledCommand() {
+
+            /**
+             * Applies the pending changes unless a batch has been opened since
+             */
+            @Override
+            public void execute() {
+                renderPassScheduled = false;
+                if (updateDepth == 0 && renderPassPending) {
+                    flushRenderPass();
+                }
             }
-            newStyles += "selectedRow ";
+        });
+    }
+
+    /**
+     * Renders the pending rows of the data grid and applies the pending row selection
+     * styles, select all state, spacing, loading indicator and header state. The
+     * headers are redrawn at most once. The rows are rendered with or without render
+     * timing, so the recorded time is the time of the same work.
+     */
+    private void flushRenderPass() {
+        renderPassPending = false;
+        boolean refreshed = refreshPending;
+        refreshPending = false;
+
+        double start = 0;
+        if (renderTimings != null) {
+            attachRenderTimings();
+            start = Duration.currentTimeMillis();
+        }
+        dataGrid.flush();
+
+        applyRowSelectedStyles();
+        if (clearOtherPageSelections) {
+            clearOtherPageSelections = false;
+            multiSelectState.clearOtherPages();
+        }
+        updateVirtualSpacing();
+        if (hideLoadingIndicator) {
+            setLoadingIndicatorState(false);
+        }
+
+        boolean selectAllChanged = selectAllHeader != null
+            && selectAllHeader.setSelectionState(multiSelectState.getPageSelectionState());
+        if (updateRenderedFilterState() || selectAllChanged) {
+            redrawHeaders();
+        }
+
+        if (renderTimings != null) {
+            renderTimings.record(refreshed ? RenderTimings.REFRESH : RenderTimings.SET_ROW_DATA,
+                Duration.currentTimeMillis() - start);
+            renderTimings.recordColumnTimes();
+        }
+    }
+
+    /**
+     * Records the active state of the filters that the headers will be redrawn with
+     *
+     * @return Whether the active state of any of the filters changed since the headers
+     *         were last redrawn
+     */
+    private boolean updateRenderedFilterState() {
+        StringBuilder filterState = new StringBuilder();
+        for (AbstractHeaderFilter filter : filterWidgets.values()) {
+            filterState.append(filter.isFilterActive() ? '1' : '0');
+        }
+        String currentFilterState = filterState.toString();
+        if (currentFilterState.equals(renderedFilterState)) {
+            return false;
+        }
+        renderedFilterState = currentFilterState;
+        return true;
+    }
+
+    /**
+     * Updates the state displayed by the select all header and redraws the headers
+     * only if the state changed
+     */
+    private void updateSelectAllHeader() {
+        if (selectAllHeader != null && selectAllHeader.setSelectionState(multiSelectState.getPageSelectionState())) {
+            redrawHeaders();
         }
+    }
 
-        tableRow.setClassName(newStyles);
+    /**
+     * Retrieves the amount of selected rows on the displayed page
+     *
+     * @return The amount of selected rows on the displayed page
+     *
+     * @since 18 October 2026
+     */
+    public int getSelectedRowCount() {
+        return multiSelectState.getPageSelectedCount();
+    }
 
-        Label l = new Label(" ");
-        if (Window.Navigator.getAppName().equals("Microsoft Internet Explorer")) {
-            tableRow.appendChild(l.getElement());
+    /**
+     * Retrieves the amount of selected rows across all the pages that have been displayed
+     * since the data was last set without a start row
+     *
+     * @return The amount of selected rows across the displayed pages
+     *
+     * @since 18 October 2026
+     */
+    public int getTotalSelectedRowCount() {
+        return multiSelectState.getTotalSelectedCount();
+    }
 
-            tableRow.removeChild(l.getElement());
+    /**
+     * Redraws only the rows at the specified indexes and re-applies their
+     * selected style, leaving the rest of the page untouched. This is used
+     * by the multi select column so that toggling a row does not rebuild
+     * the whole table.
+     *
+     * @param indexes - The indexes of the rows on the current page that need to be redrawn
+     *
+     * @since 18 October 2026
+     */
+    public void refreshRows(int... indexes) {
+        int pageStart = dataGrid.getPageStart();
+        int visibleItemCount = dataGrid.getVisibleItemCount();
+        for (int index : indexes) {
+            if (index < 0 || index >= visibleItemCount) {
+                continue;
+            }
+            dataGrid.redrawRow(pageStart + index);
+            setRowSelectedStyle(index, dataGrid.getVisibleItem(index).isSelected());
         }
     }
 
+    /**
+     * Sets the style of a selected row at a certain index
+     *
+     * @param rowIndex - The index of the row that needs to change
+     * @param selected - Whether or not the row is selected
+     */
+    private void setRowSelectedStyle(int rowIndex, boolean selected) {
+        rowSelectionStyler.applySelectedStyle(rowIndex, selected);
+    }
+
     /**
      * Gets the current click action state for the data grid
      *
@@ -1165,10 +1829,11 @@ public class SSDataGrid<T extends AbstractMultiSelectObject> extends Composite
                 entry.getValue().clearFilter();
             }
         }
-        clearSort();
+        removeSort();
+        clearPageCache();
 
         if (fireFilterChangeEvent) {
-            FilterChangeEvent.fire(this);
+            filterChanged();
         }
     }
 
@@ -1205,6 +1870,20 @@ public class SSDataGrid<T extends AbstractMultiSelectObject> extends Composite
         return this.addHandler(handler, DataGridRangeChangeEvent.TYPE);
     }
 
+    /**
+     * Adds a handler that is notified of every render timing recorded while render
+     * timing is enabled
+     *
+     * @param handler - The handler that will act on the DataGridRenderTimingEvent
+     *
+     * @return The handler registration object
+     *
+     * @since 18 October 2026
+     */
+    public HandlerRegistration addDataGridRenderTimingHandler(DataGridRenderTimingEvent.Handler handler) {
+        return this.addHandler(handler, DataGridRenderTimingEvent.TYPE);
+    }
+
     /**
      * Adds a column to the data grid with a help icon as a header
      *
@@ -1238,7 +1917,8 @@ public class SSDataGrid<T extends AbstractMultiSelectObject> extends Composite
     @Override
     public void onFilterChange(FilterChangeEvent event) {
         doRangeChange = false;
-        FilterChangeEvent.fire(this);
+        clearPageCache();
+        filterChanged();
     }
 
     /**
@@ -1279,13 +1959,161 @@ public class SSDataGrid<T extends AbstractMultiSelectObject> extends Composite
     @Override
     public void onRangeChange(RangeChangeEvent event) {
         if (doRangeChange && !firstDataSet) {
-            DataGridRangeChangeEvent.fire(this, event.getNewRange());
+            Range newRange = event.getNewRange();
+            List<T> cachedPage = null;
+            if (pageCache != null) {
+                cachedPage = pageCache.get(getPageCacheKey(newRange));
+            }
+            if (cachedPage != null) {
+                setRowData(newRange.getStart(), cachedPage);
+            } else {
+                DataGridRangeChangeEvent.fire(this, newRange);
+            }
         } else {
             doRangeChange = true;
             firstDataSet = false;
         }
     }
     
+    /**
+     * Enables or disables the client side cache of pages that have been displayed.
+     *
+     * When enabled, moving back to a page that was already retrieved is answered from
+     * the cache instead of firing a DataGridRangeChangeEvent. Pages are cached against
+     * their range, the sort and the active filters, and the cache is cleared whenever
+     * the filters or the sort change. If prefetching is enabled, a DataGridRangeChangeEvent
+     * for which isPrefetch() returns true is fired for the pages before and after the
+     * displayed page, the data for it should be passed to setPrefetchedRowData.
+     *
+     * @param maxPages - The maximum amount of pages to cache, 0 to disable the cache
+     * @param prefetch - Whether the pages around the displayed page should be prefetched
+     *
+     * @since 18 October 2026
+     */
+    public void setPageCache(int maxPages, boolean prefetch) {
+        if (maxPages > 0) {
+            pageCache = new DataGridPageCache<T>(maxPages);
+            prefetchPages = prefetch;
+        } else {
+            pageCache = null;
+            prefetchPages = false;
+        }
+    }
+
+    /**
+     * Removes all the pages from the page cache
+     *
+     * @since 18 October 2026
+     */
+    public void clearPageCache() {
+        if (pageCache != null) {
+            pageCache.clear();
+        }
+    }
+
+    /**
+     * Stores the data for a range that was requested to be prefetched in the page cache
+     * without displaying it. The data is ignored if the range is no longer waiting to be
+     * prefetched, which is the case once the sort or filters changed after the request.
+     *
+     * @param startRow - The start row the data is for
+     * @param data - The data retrieved for the range
+     *
+     * @since 18 October 2026
+     *
+     * @return Whether the data was stored in the page cache
+     */
+    public boolean setPrefetchedRowData(int startRow, List<T> data) {
+        if (pageCache == null || data == null || data.size() == 0) {
+            return false;
+        }
+        return pageCache.putPrefetched(getPageCacheKey(new Range(startRow, dataGrid.getVisibleRange().getLength())), data);
+    }
+
+    /**
+     * Builds the key a page is cached against from the generation of the page cache, the
+     * range, the sort and the criteria of the active filters. Filters are named by the field
+     * name of their column, or by the label of the column if it has no field name.
+     *
+     * @param range - The range of the page
+     *
+     * @return The key of the page
+     */
+    private String getPageCacheKey(Range range) {
+        StringBuilder key = new StringBuilder();
+        key.append(range.getStart()).append(':').append(range.getLength());
+
+        ColumnSortList columnSortList = dataGrid.getColumnSortList();
+        if (columnSortList.size() > 0 && columnSortList.get(0).getColumn() != null) {
+            Column<?, ?> sortColumn = columnSortList.get(0).getColumn();
+            key.append("|sort:");
+            if (sortColumn instanceof SortableColumnWithName) {
+                key.append(((SortableColumnWithName) sortColumn).getFieldName());
+            } else {
+                key.append(dataGrid.getColumnIndex((Column<T, ?>) sortColumn));
+            }
+            key.append(columnSortList.get(0).isAscending() ? ":asc" : ":desc");
+        }
+
+        // Sorted by name so the key does not depend on the order of the hash map
+        TreeMap<String, String> filterKeys = new TreeMap<String, String>();
+        for (Map.Entry<String, AbstractHeaderFilter> entry : filterWidgets.entrySet()) {
+            AbstractHeaderFilter filter = entry.getValue();
+            if (filter.isFilterActive() && filter.getCriteria() != null) {
+                String fieldName = filterColumns.get(filter);
+                filterKeys.put(fieldName != null ? fieldName : entry.getKey(), filter.getCriteria().getKey());
+            }
+        }
+        for (Map.Entry<String, String> entry : filterKeys.entrySet()) {
+            key.append("|filter:").append(entry.getKey()).append('=').append(entry.getValue());
+        }
+        return pageCache.createKey(key.toString());
+    }
+
+    /**
+     * Requests the pages before and after the displayed page to be prefetched once the
+     * current event loop has completed
+     */
+    private void prefetchAdjacentPages() {
+        if (!prefetchPages) {
+            return;
+        }
+        Scheduler.get().scheduleDeferred(new ScheduledCommand() {
+
+            /**
+             * Fires the prefetch events for the pages that are not cached yet
+             */
+            @Override
+            public void execute() {
+                if (pageCache == null) {
+                    return;
+                }
+                Range range = dataGrid.getVisibleRange();
+                int length = range.getLength();
+                if (length <= 0) {
+                    return;
+                }
+                if (range.getStart() + length < dataGrid.getRowCount()) {
+                    requestPrefetch(new Range(range.getStart() + length, length));
+                }
+                if (range.getStart() > 0) {
+                    requestPrefetch(new Range(Math.max(0, range.getStart() - length), length));
+                }
+            }
+        });
+    }
+
+    /**
+     * Fires a prefetch event for the range if it is not cached or already requested
+     *
+     * @param range - The range to prefetch
+     */
+    private void requestPrefetch(Range range) {
+        if (pageCache.startPrefetch(getPageCacheKey(range))) {
+            DataGridRangeChangeEvent.firePrefetch(this, range);
+        }
+    }
+
     /**
      * This function is used to apply a custom width for a datagrid column
      * 
@@ -30,6 +30,7 @@ import com.google.gwt.resources.client.ImageResource;
 import com.google.gwt.safehtml.client.SafeHtmlTemplates;
 import com.google.gwt.safehtml.shared.SafeHtml;
 import com.google.gwt.safehtml.shared.SafeHtmlBuilder;
+import com.google.gwt.safehtml.shared.SafeHtmlUtils;
 import com.google.gwt.user.client.Window;
 import com.google.gwt.user.client.ui.Image;
 
@@ -52,9 +53,9 @@ public class SelectAllCell extends AbstractCell<String> implements HasHandlers {
     private static Resources DEFAULT_RESOURCES;
 
     /**
-     * Flag indicating if the filter connected to the header is active
+     * The selection state of the rows displayed in the data grid
      */
-    private boolean filterActive = false;
+    private SelectionState selectionState = SelectionState.NONE;
 
     /**
      * Holds an instance of resources
@@ -73,6 +74,11 @@ public class SelectAllCell extends AbstractCell<String> implements HasHandlers {
     
     private boolean doMouseOver = true;
 
+    /**
+     * The html rendered for each selection state, indexed by the ordinal of the state
+     */
+    private final SafeHtml[] renderedHtml = new SafeHtml[SelectionState.values().length];
+
     /**
      * Create an instance on the default resources object if it the
      * DEFAULT_RESOURCES variable is null if not it just return the object in
@@ -87,6 +93,28 @@ public class SelectAllCell extends AbstractCell<String> implements HasHandlers {
         return DEFAULT_RESOURCES;
     }
 
+    /**
+     * The selection states the select all header can display
+     *
+     * @since 18 October 2026
+     */
+    public static enum SelectionState {
+        /**
+         * None of the displayed rows are selected
+         */
+        NONE,
+
+        /**
+         * Some of the displayed rows are selected
+         */
+        PARTIAL,
+
+        /**
+         * All of the displayed rows are selected
+         */
+        ALL
+    }
+
     /**
      * A ClientBundle that provides images for this widget.
      * 
@@ -118,6 +146,9 @@ public class SelectAllCell extends AbstractCell<String> implements HasHandlers {
         @Template("<div style=\"\">")
         SafeHtml openContainerTag();
 
+        @Template("<div style=\"opacity: 0.5;\">")
+        SafeHtml openPartialContainerTag();
+
         @Template("<img src=\"\" />")
         SafeHtml imageTag();
 
@@ -144,6 +175,7 @@ public class SelectAllCell extends AbstractCell<String> implements HasHandlers {
             template = GWT.create(Template.class);
         }
         handlerManager = new HandlerManager(this);
+        filterImage = new Image(resources.filterIconInactive());
     }
 
     /**
@@ -151,14 +183,26 @@ public class SelectAllCell extends AbstractCell<String> implements HasHandlers {
      */
     @Override
     public void render(Context context, String value, SafeHtmlBuilder sb) {
-        if (filterActive) {
-            filterImage = new Image(resources.filterIconActive());
-        } else {
-            filterImage = new Image(resources.filterIconInactive());
+        SafeHtml html = renderedHtml[selectionState.ordinal()];
+        if (html == null) {
+            ImageResource imageResource;
+            if (selectionState != SelectionState.NONE) {
+                imageResource = resources.filterIconActive();
+            } else {
+                imageResource = resources.filterIconInactive();
+            }
+            SafeHtmlBuilder stateBuilder = new SafeHtmlBuilder();
+            if (selectionState == SelectionState.PARTIAL) {
+                stateBuilder.append(template.openPartialContainerTag());
+            } else {
+                stateBuilder.append(template.openContainerTag());
+            }
+            stateBuilder.append(SafeHtmlUtils.fromTrustedString(new Image(imageResource).toString()));
+            stateBuilder.append(template.closeContainerTag());
+            html = stateBuilder.toSafeHtml();
+            renderedHtml[selectionState.ordinal()] = html;
         }
-        sb.append(template.openContainerTag());
-        sb.appendHtmlConstant(filterImage.toString());
-        sb.append(template.closeContainerTag());
+        sb.append(html);
     }
 
     /**
@@ -192,7 +236,7 @@ public class SelectAllCell extends AbstractCell<String> implements HasHandlers {
                 if (Window.Navigator.getAppName().equals("Microsoft Internet Explorer")) {
                     doMouseOver = true;
                 }
-                if (filterActive) {
+                if (selectionState != SelectionState.NONE) {
                     replaceImageElement(resources.filterIconActive(), filterImageElement, filterImageParentElement);
                 } else {
                     replaceImageElement(resources.filterIconInactive(), filterImageElement, filterImageParentElement);
@@ -204,6 +248,35 @@ public class SelectAllCell extends AbstractCell<String> implements HasHandlers {
         }
     }
 
+    /**
+     * Sets the selection state displayed by the cell. The header needs to be
+     * redrawn for the new state to be displayed.
+     *
+     * @param selectionState - The selection state of the displayed rows
+     *
+     * @return Whether the state changed
+     *
+     * @since 18 October 2026
+     */
+    public boolean setSelectionState(SelectionState selectionState) {
+        if (this.selectionState == selectionState) {
+            return false;
+        }
+        this.selectionState = selectionState;
+        return true;
+    }
+
+    /**
+     * Retrieves the selection state displayed by the cell
+     *
+     * @return The selection state of the displayed rows
+     *
+     * @since 18 October 2026
+     */
+    public SelectionState getSelectionState() {
+        return selectionState;
+    }
+
     /**
      * This replaces the image that is displayed in the Cell
      * 
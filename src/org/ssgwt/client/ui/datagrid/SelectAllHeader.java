@@ -48,6 +48,19 @@ public class SelectAllHeader extends Header<String> {
         return null;
     }
     
+    /**
+     * Sets the selection state displayed by the header
+     *
+     * @param selectionState - The selection state of the displayed rows
+     *
+     * @return Whether the state changed and the header needs to be redrawn
+     *
+     * @since 18 October 2026
+     */
+    public boolean setSelectionState(SelectAllCell.SelectionState selectionState) {
+        return selectAllCell.setSelectionState(selectionState);
+    }
+
     /**
      * Adds a handler to the handler manager
      * 
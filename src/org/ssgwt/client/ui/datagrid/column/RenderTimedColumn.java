@@ -0,0 +1,31 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.datagrid.column;
+
+import org.ssgwt.client.ui.datagrid.RenderTimings;
+
+/**
+ * Implemented by columns that can report the time spent rendering their cells
+ *
+ * @since 18 October 2026
+ */
+public interface RenderTimedColumn extends SortableColumnWithName {
+
+    /**
+     * Sets the timings the render time of the cells should be added to
+     *
+     * @param renderTimings - The render timings, null to stop timing the column
+     */
+    void setRenderTimings(RenderTimings renderTimings);
+}
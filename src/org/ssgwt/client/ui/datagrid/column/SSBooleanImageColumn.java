@@ -13,6 +13,11 @@
  */
 package org.ssgwt.client.ui.datagrid.column;
 
+import org.ssgwt.client.ui.datagrid.RenderTimings;
+
+import com.google.gwt.cell.client.Cell.Context;
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.safehtml.shared.SafeHtmlBuilder;
 import com.google.gwt.user.cellview.client.Column;
 
 /**
@@ -21,7 +26,12 @@ import com.google.gwt.user.cellview.client.Column;
  * @author Alec Erasmus
  * @since 02 April 2013
  */
-public abstract class SSBooleanImageColumn<T> extends Column<T, Boolean> implements SortableColumnWithName {
+public abstract class SSBooleanImageColumn<T> extends Column<T, Boolean> implements RenderTimedColumn {
+
+    /**
+     * The timings the render time of the cells is added to, null when the column is not timed
+     */
+    private RenderTimings renderTimings = null;
 
     /**
      * Construct a new BooleanImageColumn.
@@ -35,4 +45,32 @@ public abstract class SSBooleanImageColumn<T> extends Column<T, Boolean> impleme
     public SSBooleanImageColumn(String trueImageUrl, String falseImageUrl) {
       super(new SSBooleanImageCell(trueImageUrl, falseImageUrl));
     }
+
+    /**
+     * Sets the timings the render time of the cells should be added to
+     *
+     * @param renderTimings - The render timings, null to stop timing the column
+     */
+    @Override
+    public void setRenderTimings(RenderTimings renderTimings) {
+        this.renderTimings = renderTimings;
+    }
+
+    /**
+     * Renders the cell and adds the time it took to the render timings if the column is timed
+     *
+     * @param context - The context of the cell
+     * @param object - The row value
+     * @param sb - The builder the cell is rendered to
+     */
+    @Override
+    public void render(Context context, T object, SafeHtmlBuilder sb) {
+        if (renderTimings == null) {
+            super.render(context, object, sb);
+            return;
+        }
+        double start = Duration.currentTimeMillis();
+        super.render(context, object, sb);
+        renderTimings.addColumnTime(getFieldName(), Duration.currentTimeMillis() - start);
+    }
 }
@@ -13,6 +13,9 @@
  */
 package org.ssgwt.client.ui.datagrid.column;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.ssgwt.client.i18n.DateTimeFormat;
 import org.ssgwt.client.i18n.SSDate;
 import org.ssgwt.client.ui.datagrid.column.ImageHoverColumn.AbstractImageColumnPopup;
@@ -28,7 +31,6 @@ import com.google.gwt.event.shared.HasHandlers;
 import com.google.gwt.safehtml.client.SafeHtmlTemplates;
 import com.google.gwt.safehtml.shared.SafeHtml;
 import com.google.gwt.safehtml.shared.SafeHtmlBuilder;
-import com.google.gwt.safehtml.shared.SafeHtmlUtils;
 import com.google.gwt.user.client.Window;
 
 /**
@@ -90,6 +92,26 @@ public class SSTextCell<T> extends AbstractCell<String> implements HasHandlers {
      */
     private static Template template;
 
+    /**
+     * The maximum amount of date tooltips that are remembered per column
+     */
+    private final static int MAX_CACHED_TOOLTIPS = 500;
+
+    /**
+     * The tooltips already calculated for date values, keyed by the raw cell value
+     */
+    private Map<String, String> tooltipCache;
+
+    /**
+     * The format used to parse date values, created on first use
+     */
+    private DateTimeFormat dateFormat;
+
+    /**
+     * The format used to display date values in the tooltip, created on first use
+     */
+    private DateTimeFormat tooltipDateFormat;
+
     /**
      * The left position of the popup
      */
@@ -202,25 +224,113 @@ public class SSTextCell<T> extends AbstractCell<String> implements HasHandlers {
         }
         
         String tooltip = value;
-        //html encoding the string
-        value = SafeHtmlUtils.fromString(value).asString();
-
         if (this.sDateDisplayTooltipFormat != null && this.sDateDisplayTooltipFormat != ""
             && this.sDateFormat != null && this.sDateFormat != "") {
-            try {
-                // Convert date from sDateFormat to sDateDisplayTooltipFormat
-                SSDate date = DateTimeFormat.getFormat(this.sDateFormat).parse(value);
-                tooltip = date.format(this.sDateDisplayTooltipFormat);
-            } catch (Exception e){
-                // Ignore exception, resulting in default tooltip
-            }
+            tooltip = getDateTooltip(value);
         }
 
         sb.append(template.openTag(styleName, tooltip));
-        sb.appendHtmlConstant(value.replace(" ", "&nbsp;"));
+        sb.appendHtmlConstant(escapeHtmlWithNonBreakingSpaces(value));
         sb.append(template.closeTag());
     }
 
+    /**
+     * Converts a date value from sDateFormat to sDateDisplayTooltipFormat for the tooltip.
+     * Values that are not valid dates result in the value itself being used as the tooltip.
+     * The result is remembered so that each distinct value is only converted once.
+     *
+     * @since 18 October 2026
+     *
+     * @param value - The raw value of the cell
+     *
+     * @return The tooltip for the value
+     */
+    @SuppressWarnings("deprecation")
+    String getDateTooltip(String value) {
+        if (tooltipCache == null) {
+            tooltipCache = new LinkedHashMap<String, String>(16, 0.75f, true) {
+
+                /**
+                 * Removes the least recently used tooltip once the cache is full
+                 *
+                 * @param eldest - The least recently used tooltip
+                 *
+                 * @return Whether the tooltip should be removed
+                 */
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                    return size() > MAX_CACHED_TOOLTIPS;
+                }
+            };
+            dateFormat = DateTimeFormat.getFormat(this.sDateFormat);
+            tooltipDateFormat = DateTimeFormat.getFormat(this.sDateDisplayTooltipFormat);
+        }
+
+        String tooltip = tooltipCache.get(value);
+        if (tooltip == null) {
+            tooltip = value;
+            if (value.length() > 0) {
+                // The parse reports how many characters it consumed instead of throwing on bad values.
+                // Fields missing from the pattern keep the value of the seed, so it starts at midnight.
+                SSDate today = new SSDate();
+                SSDate date = new SSDate(today.getYear(), today.getMonth(), today.getDate());
+                if (dateFormat.parse(value, 0, date) == value.length()) {
+                    tooltip = tooltipDateFormat.format(date);
+                }
+            }
+            tooltipCache.put(value, tooltip);
+        }
+        return tooltip;
+    }
+
+    /**
+     * Html encodes the value and replaces spaces with non breaking spaces in a single pass
+     *
+     * @since 18 October 2026
+     *
+     * @param value - The value to encode
+     *
+     * @return The encoded value
+     */
+    static String escapeHtmlWithNonBreakingSpaces(String value) {
+        StringBuilder escaped = null;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            String replacement;
+            switch (value.charAt(i)) {
+                case ' ':
+                    replacement = "&nbsp;";
+                    break;
+                case '&':
+                    replacement = "&amp;";
+                    break;
+                case '<':
+                    replacement = "&lt;";
+                    break;
+                case '>':
+                    replacement = "&gt;";
+                    break;
+                case '"':
+                    replacement = "&quot;";
+                    break;
+                case '\'':
+                    replacement = "&#39;";
+                    break;
+                default:
+                    if (escaped != null) {
+                        escaped.append(value.charAt(i));
+                    }
+                    continue;
+            }
+            if (escaped == null) {
+                escaped = new StringBuilder(length + 16);
+                escaped.append(value, 0, i);
+            }
+            escaped.append(replacement);
+        }
+        return escaped == null ? value : escaped.toString();
+    }
+
     /**
      * Handle a browser event that took place within the cell. The default
      * implementation returns null.
@@ -13,8 +13,12 @@
  */
 package org.ssgwt.client.ui.datagrid.column;
 
+import org.ssgwt.client.ui.datagrid.RenderTimings;
 import org.ssgwt.client.ui.datagrid.column.ImageHoverColumn.AbstractImageColumnPopup;
 
+import com.google.gwt.cell.client.Cell.Context;
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.safehtml.shared.SafeHtmlBuilder;
 import com.google.gwt.user.cellview.client.Column;
 
 /**
@@ -23,7 +27,12 @@ import com.google.gwt.user.cellview.client.Column;
  * @author Alec Erasmus
  * @since 14 Aug 2012
  */
-public abstract class SSTextColumn<T> extends Column<T, String> implements SortableColumnWithName {
+public abstract class SSTextColumn<T> extends Column<T, String> implements RenderTimedColumn {
+
+    /**
+     * The timings the render time of the cells is added to, null when the column is not timed
+     */
+    private RenderTimings renderTimings = null;
 
     /**
      * The vo used in the row for the column
@@ -91,4 +100,32 @@ public abstract class SSTextColumn<T> extends Column<T, String> implements Sorta
     public boolean showPopup(T data) {
         return true;
     }
+
+    /**
+     * Sets the timings the render time of the cells should be added to
+     *
+     * @param renderTimings - The render timings, null to stop timing the column
+     */
+    @Override
+    public void setRenderTimings(RenderTimings renderTimings) {
+        this.renderTimings = renderTimings;
+    }
+
+    /**
+     * Renders the cell and adds the time it took to the render timings if the column is timed
+     *
+     * @param context - The context of the cell
+     * @param object - The row value
+     * @param sb - The builder the cell is rendered to
+     */
+    @Override
+    public void render(Context context, T object, SafeHtmlBuilder sb) {
+        if (renderTimings == null) {
+            super.render(context, object, sb);
+            return;
+        }
+        double start = Duration.currentTimeMillis();
+        super.render(context, object, sb);
+        renderTimings.addColumnTime(getFieldName(), Duration.currentTimeMillis() - start);
+    }
 }
@@ -35,6 +35,11 @@ public class DataGridRangeChangeEvent extends GwtEvent<DataGridRangeChangeEvent.
      * The new range on the datagrid
      */
     private final Range range;
+
+    /**
+     * Whether the range is only requested to be prefetched and not displayed
+     */
+    private final boolean prefetch;
     
     /**
      * Handler interface for {@link DataGridRangeChangeEvent} events.
@@ -67,6 +72,20 @@ public class DataGridRangeChangeEvent extends GwtEvent<DataGridRangeChangeEvent.
         source.fireEvent(event);
     }
 
+    /**
+     * Fires a {@link DataGridRangeChangeEvent} that requests the data for a range
+     * to be prefetched on all registered handlers in the handler manager.
+     *
+     * @param source the source of the handlers
+     * @param range the range to prefetch
+     *
+     * @since 18 October 2026
+     */
+    public static void firePrefetch(HasHandlers source, Range range) {
+        DataGridRangeChangeEvent event = new DataGridRangeChangeEvent(range, true);
+        source.fireEvent(event);
+    }
+
     /**
      * Gets the type associated with this event.
      *
@@ -91,7 +110,20 @@ public class DataGridRangeChangeEvent extends GwtEvent<DataGridRangeChangeEvent.
      * @since 04 March 2013
      */
     protected DataGridRangeChangeEvent(Range range) {
+        this(range, false);
+    }
+
+    /**
+     * Creates a {@link DataGridRangeChangeEvent}.
+     *
+     * @param range the new range
+     * @param prefetch whether the range is only requested to be prefetched
+     *
+     * @since 18 October 2026
+     */
+    protected DataGridRangeChangeEvent(Range range, boolean prefetch) {
         this.range = range;
+        this.prefetch = prefetch;
     }
 
     /**
@@ -119,6 +151,18 @@ public class DataGridRangeChangeEvent extends GwtEvent<DataGridRangeChangeEvent.
         return range;
     }
 
+    /**
+     * Whether the range is only requested to be prefetched. The data for a prefetch
+     * should be passed to SSDataGrid.setPrefetchedRowData instead of setRowData.
+     *
+     * @since 18 October 2026
+     *
+     * @return Whether the range is only requested to be prefetched
+     */
+    public boolean isPrefetch() {
+        return prefetch;
+    }
+
     /**
      * Dispatches the event
      * 
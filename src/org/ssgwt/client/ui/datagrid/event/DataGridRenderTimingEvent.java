@@ -0,0 +1,134 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.datagrid.event;
+
+import org.ssgwt.client.ui.datagrid.RenderStatistics;
+
+import com.google.gwt.event.shared.EventHandler;
+import com.google.gwt.event.shared.GwtEvent;
+import com.google.gwt.event.shared.HasHandlers;
+
+/**
+ * Event that is dispatched when a render timing was recorded on the datagrid
+ *
+ * @since 18 October 2026
+ */
+public class DataGridRenderTimingEvent extends GwtEvent<DataGridRenderTimingEvent.Handler> {
+
+    /**
+     * The handler type for the event
+     */
+    public static Type<Handler> TYPE = new Type<Handler>();
+
+    /**
+     * The name of the operation that was timed
+     */
+    private final String operation;
+
+    /**
+     * The time the operation took in milliseconds
+     */
+    private final double millis;
+
+    /**
+     * The rolling statistics of the operation
+     */
+    private final RenderStatistics statistics;
+
+    /**
+     * Handler interface for {@link DataGridRenderTimingEvent} events.
+     */
+    public static interface Handler extends EventHandler {
+
+        /**
+         * Called when a {@link DataGridRenderTimingEvent} is fired.
+         *
+         * @param event the {@link DataGridRenderTimingEvent} that was fired
+         */
+        void onRenderTiming(DataGridRenderTimingEvent event);
+    }
+
+    /**
+     * Fires a {@link DataGridRenderTimingEvent} on all registered handlers in the handler
+     * manager.
+     *
+     * @param source the source of the handlers
+     * @param operation the name of the operation that was timed
+     * @param millis the time the operation took in milliseconds
+     * @param statistics the rolling statistics of the operation
+     */
+    public static void fire(HasHandlers source, String operation, double millis, RenderStatistics statistics) {
+        source.fireEvent(new DataGridRenderTimingEvent(operation, millis, statistics));
+    }
+
+    /**
+     * Creates a {@link DataGridRenderTimingEvent}.
+     *
+     * @param operation the name of the operation that was timed
+     * @param millis the time the operation took in milliseconds
+     * @param statistics the rolling statistics of the operation
+     */
+    protected DataGridRenderTimingEvent(String operation, double millis, RenderStatistics statistics) {
+        this.operation = operation;
+        this.millis = millis;
+        this.statistics = statistics;
+    }
+
+    /**
+     * Gets the name of the operation that was timed
+     *
+     * @return the name of the operation
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * Gets the time the operation took
+     *
+     * @return the time in milliseconds
+     */
+    public double getMillis() {
+        return millis;
+    }
+
+    /**
+     * Gets the rolling statistics of the operation
+     *
+     * @return the statistics of the operation
+     */
+    public RenderStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Gets the type associated with this event.
+     *
+     * @return returns the handler type
+     */
+    @Override
+    public final Type<Handler> getAssociatedType() {
+        return TYPE;
+    }
+
+    /**
+     * Dispatches the event
+     *
+     * @param handler - The function that will handle the event
+     */
+    @Override
+    protected void dispatch(Handler handler) {
+        handler.onRenderTiming(this);
+    }
+}
@@ -1,5 +1,11 @@
 package org.ssgwt.client.ui.datagrid.event;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.ssgwt.client.ui.datagrid.filter.AbstractHeaderFilter.Criteria;
+
 import com.google.gwt.event.shared.EventHandler;
 import com.google.gwt.event.shared.GwtEvent;
 import com.google.gwt.event.shared.HasHandlers;
@@ -17,6 +23,27 @@ public class FilterChangeEvent extends GwtEvent<FilterChangeEvent.FilterChangeHa
      */
     public static Type<FilterChangeHandler> TYPE = new Type<FilterChangeHandler>();
 
+    /**
+     * Copies of the criteria of the filters that were active when the event was fired,
+     * by the field name of their column
+     */
+    private final Map<String, Criteria> activeCriteria;
+
+    /**
+     * The field name of the column the data was sorted on when the event was fired
+     */
+    private final String sortFieldName;
+
+    /**
+     * Whether the data was sorted ascending when the event was fired
+     */
+    private final boolean sortAscending;
+
+    /**
+     * The amount of filter changes the event was fired for
+     */
+    private final int changeCount;
+
     /**
      * The event handler interface for the event
      * 
@@ -37,6 +64,77 @@ public class FilterChangeEvent extends GwtEvent<FilterChangeEvent.FilterChangeHa
      * The event constructor
      */
     public FilterChangeEvent() {
+        this(null, null, false, 1);
+    }
+
+    /**
+     * The event constructor for an event that holds the state of the filters and the sort
+     * 
+     * @since 18 October 2026
+     * 
+     * @param activeCriteria - Copies of the criteria of the active filters, by the field name of their column
+     * @param sortFieldName - The field name of the column the data is sorted on, null if the data is not sorted
+     * @param sortAscending - Whether the data is sorted ascending
+     * @param changeCount - The amount of filter changes the event is fired for
+     */
+    public FilterChangeEvent(Map<String, Criteria> activeCriteria, String sortFieldName,
+            boolean sortAscending, int changeCount) {
+        if (activeCriteria == null) {
+            this.activeCriteria = Collections.emptyMap();
+        } else {
+            this.activeCriteria = Collections.unmodifiableMap(new LinkedHashMap<String, Criteria>(activeCriteria));
+        }
+        this.sortFieldName = sortFieldName;
+        this.sortAscending = sortAscending;
+        this.changeCount = changeCount;
+    }
+
+    /**
+     * Retrieves copies of the criteria of the filters that were active when the event was fired.
+     * The copies do not change when the filters are changed afterwards, so the data can be loaded
+     * with them later.
+     * 
+     * @since 18 October 2026
+     * 
+     * @return The criteria by the field name of their column, or by the label of the column if it
+     *         has no field name, empty if the event was not fired by a data grid
+     */
+    public Map<String, Criteria> getActiveCriteria() {
+        return activeCriteria;
+    }
+
+    /**
+     * Retrieves the field name of the column the data was sorted on when the event was fired
+     * 
+     * @since 18 October 2026
+     * 
+     * @return The field name, null if the data was not sorted or the event was not fired by a data grid
+     */
+    public String getSortFieldName() {
+        return sortFieldName;
+    }
+
+    /**
+     * Retrieves whether the data was sorted ascending when the event was fired
+     * 
+     * @since 18 October 2026
+     * 
+     * @return Whether the data was sorted ascending
+     */
+    public boolean isSortAscending() {
+        return sortAscending;
+    }
+
+    /**
+     * Retrieves the amount of filter changes the event was fired for. This is more than one
+     * if the changes were made between beginFilterChange and commitFilterChange on the data grid.
+     * 
+     * @since 18 October 2026
+     * 
+     * @return The amount of filter changes
+     */
+    public int getChangeCount() {
+        return changeCount;
     }
 
     /**
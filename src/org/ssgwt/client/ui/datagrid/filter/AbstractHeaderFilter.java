@@ -82,8 +82,42 @@ public abstract class AbstractHeaderFilter extends PopupPanel {
      * @author Johannes Gryffenberg
      * @since 5 July 2012
      */
-    abstract static class Criteria {
-        
+    public abstract static class Criteria {
+
+        /**
+         * Creates a copy of the criteria that does not change when the filter changes
+         * 
+         * @since 18 October 2026
+         * 
+         * @return The copy of the criteria
+         */
+        public abstract Criteria copy();
+
+        /**
+         * Retrieves a key that is the same for criteria that filter the same data and
+         * differs for criteria that filter different data
+         * 
+         * @since 18 October 2026
+         * 
+         * @return The key of the criteria
+         */
+        public abstract String getKey();
+
+        /**
+         * Appends a value to a key so that it can not run into the values appended after it
+         * 
+         * @since 18 October 2026
+         * 
+         * @param key - The key to append to
+         * @param value - The value to append, may be null
+         */
+        protected static void appendKeyValue(StringBuilder key, String value) {
+            if (value == null) {
+                key.append('-');
+            } else {
+                key.append(value.length()).append(':').append(value);
+            }
+        }
     }
     
     /**
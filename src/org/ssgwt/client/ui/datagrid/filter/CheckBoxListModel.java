@@ -0,0 +1,230 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.datagrid.filter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The items, filter text and selection of a VirtualCheckBoxList, kept apart from the
+ * check boxes that display them.
+ *
+ * The visible items are the items whose text contains the filter text, ignoring case.
+ * Items without text, like the empty item of the filter, only match while there is no
+ * filter text, so they can still be selected.
+ * The selected items are kept in a set that is updated as items are checked, so the
+ * selection can be retrieved without looking at every item.
+ *
+ * @since 18 October 2026
+ */
+class CheckBoxListModel {
+
+    /**
+     * The text of every item
+     */
+    private List<String> itemTexts = new ArrayList<String>();
+
+    /**
+     * The lower case text of every item, used to match the filter text
+     */
+    private String[] lowerCaseTexts = new String[0];
+
+    /**
+     * The indexes of the items that match the filter text, in list order
+     */
+    private int[] visibleItems = new int[0];
+
+    /**
+     * The lower case filter text the visible items were matched against
+     */
+    private String filterText = "";
+
+    /**
+     * The indexes of the selected items, in list order
+     */
+    private final TreeSet<Integer> selectedItems = new TreeSet<Integer>();
+
+    /**
+     * Sets the items, clearing the selection and the filter text
+     *
+     * @since 18 October 2026
+     *
+     * @param itemTexts - The text of every item, items without text are only visible without filter text
+     */
+    void setItems(List<String> itemTexts) {
+        this.itemTexts = new ArrayList<String>(itemTexts);
+        this.lowerCaseTexts = new String[itemTexts.size()];
+        for (int x = 0; x < lowerCaseTexts.length; x++) {
+            String text = this.itemTexts.get(x);
+            lowerCaseTexts[x] = text == null ? "" : text.toLowerCase();
+        }
+        selectedItems.clear();
+        filterText = "";
+        visibleItems = findMatchingItems(null, "");
+    }
+
+    /**
+     * Retrieves the amount of items
+     *
+     * @since 18 October 2026
+     *
+     * @return The amount of items
+     */
+    int getItemCount() {
+        return itemTexts.size();
+    }
+
+    /**
+     * Retrieves the text of an item
+     *
+     * @since 18 October 2026
+     *
+     * @param itemIndex - The index of the item
+     *
+     * @return The text of the item
+     */
+    String getItemText(int itemIndex) {
+        return itemTexts.get(itemIndex);
+    }
+
+    /**
+     * Narrows the visible items to the items whose text contains the filter text, ignoring
+     * case. If the filter text only adds to the previous filter text, only the items that
+     * matched the previous filter text are checked.
+     *
+     * @since 18 October 2026
+     *
+     * @param text - The text the items should contain
+     *
+     * @return Whether the filter text changed
+     */
+    boolean setFilterText(String text) {
+        String lowerCaseText = text == null ? "" : text.trim().toLowerCase();
+        if (lowerCaseText.equals(filterText)) {
+            return false;
+        }
+        boolean narrowing = filterText.length() > 0 && lowerCaseText.startsWith(filterText);
+        visibleItems = findMatchingItems(narrowing ? visibleItems : null, lowerCaseText);
+        filterText = lowerCaseText;
+        return true;
+    }
+
+    /**
+     * Retrieves the amount of items that match the filter text
+     *
+     * @since 18 October 2026
+     *
+     * @return The amount of visible items
+     */
+    int getVisibleItemCount() {
+        return visibleItems.length;
+    }
+
+    /**
+     * Retrieves the index of a visible item
+     *
+     * @since 18 October 2026
+     *
+     * @param position - The position of the item in the visible items
+     *
+     * @return The index of the item
+     */
+    int getVisibleItem(int position) {
+        return visibleItems[position];
+    }
+
+    /**
+     * Selects or deselects an item
+     *
+     * @since 18 October 2026
+     *
+     * @param itemIndex - The index of the item
+     * @param selected - Whether the item should be selected
+     *
+     * @return Whether the index is the index of an item
+     */
+    boolean setItemSelected(int itemIndex, boolean selected) {
+        if (itemIndex < 0 || itemIndex >= itemTexts.size()) {
+            return false;
+        }
+        if (selected) {
+            selectedItems.add(itemIndex);
+        } else {
+            selectedItems.remove(itemIndex);
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether an item is selected
+     *
+     * @since 18 October 2026
+     *
+     * @param itemIndex - The index of the item
+     *
+     * @return Whether the item is selected
+     */
+    boolean isItemSelected(int itemIndex) {
+        return selectedItems.contains(itemIndex);
+    }
+
+    /**
+     * Retrieves the indexes of the selected items
+     *
+     * @since 18 October 2026
+     *
+     * @return The indexes of the selected items in list order, this set can not be changed
+     */
+    Set<Integer> getSelectedItems() {
+        return Collections.unmodifiableSet(selectedItems);
+    }
+
+    /**
+     * Deselects all the items
+     *
+     * @since 18 October 2026
+     */
+    void clearSelection() {
+        selectedItems.clear();
+    }
+
+    /**
+     * Finds the items with text that contains the filter text
+     *
+     * @since 18 October 2026
+     *
+     * @param candidates - The indexes of the items to check, null to check every item
+     * @param lowerCaseText - The lower case text the items should contain
+     *
+     * @return The indexes of the matching items, in list order
+     */
+    private int[] findMatchingItems(int[] candidates, String lowerCaseText) {
+        int candidateCount = candidates == null ? lowerCaseTexts.length : candidates.length;
+        int[] matches = new int[candidateCount];
+        int matchCount = 0;
+        for (int x = 0; x < candidateCount; x++) {
+            int itemIndex = candidates == null ? x : candidates[x];
+            String itemText = lowerCaseTexts[itemIndex];
+            if (itemText.contains(lowerCaseText)) {
+                matches[matchCount++] = itemIndex;
+            }
+        }
+        int[] result = new int[matchCount];
+        System.arraycopy(matches, 0, result, 0, matchCount);
+        return result;
+    }
+}
@@ -408,6 +408,42 @@ public class DateFilter extends AbstractHeaderFilter {
             this.findEmptyEntriesOnly = findEmptyEntriesOnly;
         }
 
+        /**
+         * Creates a copy of the criteria that does not change when the filter changes
+         *
+         * @since 18 October 2026
+         *
+         * @return The copy of the criteria
+         */
+        @Override
+        public DateFilterCriteria copy() {
+            DateFilterCriteria copy = new DateFilterCriteria();
+            if (fromDate != null) {
+                copy.setFromDate(fromDate.clone());
+            }
+            if (toDate != null) {
+                copy.setToDate(toDate.clone());
+            }
+            copy.setFindEmptyEntriesOnly(findEmptyEntriesOnly);
+            return copy;
+        }
+
+        /**
+         * Retrieves a key that is the same for criteria that filter the same data
+         *
+         * @since 18 October 2026
+         *
+         * @return The key of the criteria
+         */
+        @Override
+        public String getKey() {
+            StringBuilder key = new StringBuilder("date:");
+            key.append(fromDate == null ? "-" : String.valueOf(fromDate.getTime()));
+            key.append(':').append(toDate == null ? "-" : String.valueOf(toDate.getTime()));
+            key.append(findEmptyEntriesOnly ? ":empty" : "");
+            return key.toString();
+        }
+
     }
 
     /**
@@ -14,12 +14,20 @@
 package org.ssgwt.client.ui.datagrid.filter;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 import com.google.gwt.core.client.GWT;
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.EventTarget;
+import com.google.gwt.dom.client.Node;
+import com.google.gwt.dom.client.OptionElement;
+import com.google.gwt.dom.client.SelectElement;
 import com.google.gwt.event.dom.client.KeyCodes;
 import com.google.gwt.event.dom.client.KeyUpEvent;
 import com.google.gwt.event.dom.client.KeyUpHandler;
@@ -42,6 +50,7 @@ import com.google.gwt.user.client.ui.FocusPanel;
 import com.google.gwt.user.client.ui.Image;
 import com.google.gwt.user.client.ui.Label;
 import com.google.gwt.user.client.ui.ListBox;
+import com.google.gwt.user.client.ui.TextBox;
 import com.google.gwt.user.client.ui.Widget;
 
 /**
@@ -103,6 +112,29 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
     @UiField(provided = true)
     ListBox listBox;
 
+    /**
+     * The text box used to search the items of the searchable multiselect list
+     */
+    @UiField
+    TextBox searchTextBox;
+
+    /**
+     * The check box list displayed instead of the list box in searchable multiselect mode
+     */
+    @UiField(provided = true)
+    VirtualCheckBoxList checkBoxList;
+
+    /**
+     * The height in pixels of an item in the searchable multiselect list, this should match the
+     * checkBoxListItemStyle
+     */
+    private static final int CHECK_BOX_LIST_ITEM_HEIGHT = 20;
+
+    /**
+     * Whether the filter displays a searchable check box list instead of the multiselect list box
+     */
+    private final boolean searchable;
+
     /**
      * The icon that clears a the filter criteria
      */
@@ -148,6 +180,70 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
      */
     private boolean bIsAdvancedMap = false;
 
+    /**
+     * Maps each value in the values array to the index of its first occurrence
+     * Built once when the list is set so that finding a value does not scan the list
+     */
+    private HashMap<String, Integer> valueIndexMap = new HashMap<String, Integer>();
+
+    /**
+     * Maps each key of the advanced value map to the index of its item in the list box
+     * Built once when the list is set so that finding a key does not scan the list
+     */
+    private HashMap<String, Integer> keyIndexMap = new HashMap<String, Integer>();
+
+    /**
+     * Maps each value of the advanced value map to its key
+     * Built once when the list is set so that finding a key does not scan the value map
+     */
+    private HashMap<String, String> valueKeyMap = new HashMap<String, String>();
+
+    /**
+     * The order in which the items passed to setListBoxData are displayed
+     */
+    private ListBoxDataOrder listBoxDataOrder = ListBoxDataOrder.INSERTION;
+
+    /**
+     * Compares the display text of items ignoring case, used to sort the list box items
+     */
+    private static final Comparator<String> TEXT_COMPARATOR = new Comparator<String>() {
+
+        /**
+         * Compares two display texts ignoring case
+         *
+         * @since 18 October 2026
+         *
+         * @param text1 - The first text to compare
+         * @param text2 - The second text to compare
+         *
+         * @return A negative number, zero or a positive number if the first text sorts before, with or after the second
+         */
+        @Override
+        public int compare(String text1, String text2) {
+            return text1.compareToIgnoreCase(text2);
+        }
+    };
+
+    /**
+     * The order in which the items passed to setListBoxData are displayed in the list box
+     *
+     * @since 18 October 2026
+     */
+    public static enum ListBoxDataOrder {
+
+        /**
+         * The items are displayed in the order they are passed in, for a map this is the iteration
+         * order of the map, so use a LinkedHashMap to keep the order stable
+         */
+        INSERTION,
+
+        /**
+         * The items are displayed sorted by their text ignoring case, items with the same text
+         * keep the order they were passed in
+         */
+        SORTED;
+    }
+
     /**
      * UiBinder interface for the composite
      *
@@ -305,6 +401,33 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
         */
        String multiListBoxStyle();
 
+        /**
+         * The style for the text box used to search the items of the searchable multiselect list
+         *
+         * @since 18 October 2026
+         *
+         * @return The name of the compiled style
+         */
+        String searchTextBoxStyle();
+
+        /**
+         * The style for the searchable multiselect list
+         *
+         * @since 18 October 2026
+         *
+         * @return The name of the compiled style
+         */
+        String checkBoxListStyle();
+
+        /**
+         * The style for an item in the searchable multiselect list
+         *
+         * @since 18 October 2026
+         *
+         * @return The name of the compiled style
+         */
+        String checkBoxListItemStyle();
+
         /**
          * The style for the container that holds the apply button
          *
@@ -407,6 +530,36 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
         public void setCriteria(String criteria) {
             this.criteria = criteria;
         }
+
+        /**
+         * Creates a copy of the criteria that does not change when the filter changes
+         *
+         * @since 18 October 2026
+         *
+         * @return The copy of the criteria
+         */
+        @Override
+        public SelectBoxFilterCriteria copy() {
+            SelectBoxFilterCriteria copy = new SelectBoxFilterCriteria();
+            copy.setCriteria(criteria);
+            copy.setFindEmptyEntriesOnly(findEmptyEntriesOnly);
+            return copy;
+        }
+
+        /**
+         * Retrieves a key that is the same for criteria that filter the same data
+         *
+         * @since 18 October 2026
+         *
+         * @return The key of the criteria
+         */
+        @Override
+        public String getKey() {
+            StringBuilder key = new StringBuilder("select:");
+            appendKeyValue(key, criteria);
+            key.append(findEmptyEntriesOnly ? ":empty" : "");
+            return key.toString();
+        }
     }
 
     /**
@@ -448,6 +601,19 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
         this(getDefaultResources(), multiselect);
     }
 
+    /**
+     * Class constructor that uses the default resources class
+     *
+     * @since 18 October 2026
+     *
+     * @param multiselect - Specifies if multiple selection is enabled
+     * @param searchable - Specifies if a multiple selection filter displays a check box list
+     *                     that can be searched instead of a list box
+     */
+    public SelectBoxFilter(boolean multiselect, boolean searchable) {
+        this(getDefaultResources(), multiselect, searchable);
+    }
+
     /**
      * Class constructor that takes a custom resources class
      *
@@ -458,17 +624,46 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
      * @param multiselect - Specifies if multiple selection is enabled
      */
     public SelectBoxFilter(SelectBoxFilterResources resources, boolean multiselect) {
+        this(resources, multiselect, false);
+    }
+
+    /**
+     * Class constructor that takes a custom resources class
+     *
+     * A searchable multiple selection filter displays a text box and a check box list instead of
+     * the list box. Typing in the text box narrows the list to the items containing the text and
+     * only the check boxes in view are rendered, so the filter stays usable with thousands of items.
+     *
+     * @since 18 October 2026
+     *
+     * @param resources - The resources the select box filter should use
+     * @param multiselect - Specifies if multiple selection is enabled
+     * @param searchable - Specifies if a multiple selection filter displays a check box list
+     *                     that can be searched instead of a list box
+     */
+    public SelectBoxFilter(SelectBoxFilterResources resources, boolean multiselect, boolean searchable) {
         super(true);
         this.resources = resources;
         this.resources.selectBoxFilterStyle().ensureInjected();
+        this.searchable = multiselect && searchable;
         this.setStyleName("");
         this.listBox = new ListBox(multiselect);
+        this.checkBoxList = new VirtualCheckBoxList(
+            resources.selectBoxFilterStyle().checkBoxListStyle(),
+            resources.selectBoxFilterStyle().checkBoxListItemStyle(),
+            CHECK_BOX_LIST_ITEM_HEIGHT
+        );
         this.setWidget(uiBinder.createAndBindUi(this));
         if (multiselect) {
             this.listBox.setStyleName(resources.selectBoxFilterStyle().multiListBoxStyle());
         } else {
             this.listBox.setStyleName(resources.selectBoxFilterStyle().listBoxStyle());
         }
+        if (this.searchable) {
+            this.listBox.setVisible(false);
+            this.searchTextBox.setVisible(true);
+            this.checkBoxList.setVisible(true);
+        }
         setCriteria(new SelectBoxFilterCriteria());
         addKeyEventHandlers();
         addRemoveIconEventHandlers();
@@ -500,11 +695,26 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
                 ) {
                     applyButton.removeStyleName(resources.selectBoxFilterStyle().applyButtonDown());
                     closeFilterPopup(false);
+                } else if (searchable && isSearchTextBoxEvent(event.getNativeEvent().getEventTarget())) {
+                    checkBoxList.setFilterText(searchTextBox.getText());
                 }
             }
         });
     }
 
+    /**
+     * Checks whether an event was fired on the search text box
+     *
+     * @since 18 October 2026
+     *
+     * @param eventTarget - The target of the event
+     *
+     * @return Whether the target is the search text box
+     */
+    private boolean isSearchTextBoxEvent(EventTarget eventTarget) {
+        return Element.is(eventTarget) && searchTextBox.getElement().isOrHasChild(Element.as(eventTarget));
+    }
+
     /**
      * Sets the title of the Filter popup
      *
@@ -558,7 +768,9 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
     @Override
     protected void updateCriteriaObject() {
         getCriteria().setFindEmptyEntriesOnly(checkBox.getValue());
-        if (bIsAdvancedMap){
+        if (searchable && checkBox.getValue()) {
+            getCriteria().setCriteria(bIsAdvancedMap ? sEmptyKey : "");
+        } else if (bIsAdvancedMap){
             if (listBox.isMultipleSelect()) {
                 getCriteria().setCriteria(getMultiselectListBoxAdvancedSelectedItems());
             } else {
@@ -583,6 +795,18 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
      * @return the selected items separated with a ","
      */
     public String getMultiselectListBoxAdvancedSelectedItems() {
+        if (searchable) {
+            StringBuilder selectedItems = null;
+            for (int index : checkBoxList.getSelectedItems()) {
+                if (selectedItems == null) {
+                    selectedItems = new StringBuilder();
+                } else {
+                    selectedItems.append(",");
+                }
+                selectedItems.append(getKeyFromValueMap(listBox.getItemText(index)));
+            }
+            return selectedItems == null ? null : selectedItems.toString();
+        }
         String selectedItem = null;
         for (int i = 0; i < listBox.getItemCount(); i++) {
             if (listBox.isItemSelected(i)) {
@@ -605,6 +829,18 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
      * @return the selected items separated with a ","
      */
     public String getMultiselectListBoxSelectedItems() {
+        if (searchable) {
+            StringBuilder selectedItems = null;
+            for (int index : checkBoxList.getSelectedItems()) {
+                if (selectedItems == null) {
+                    selectedItems = new StringBuilder();
+                } else {
+                    selectedItems.append(",");
+                }
+                selectedItems.append(values[index]);
+            }
+            return selectedItems == null ? null : selectedItems.toString();
+        }
         String selectedItem = null;
         for (int i = 0; i < listBox.getItemCount(); i++) {
             if (listBox.isItemSelected(i)) {
@@ -647,6 +883,7 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
         }
         
         listBox.setEnabled(!checkBox.getValue());
+        setCheckBoxListEnabled(!checkBox.getValue());
     }
     
     /**
@@ -656,6 +893,10 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
      * @since  09 July 2013
      */
     private void setMultiSelectListBoxValues() {
+        if (searchable) {
+            setCheckBoxListValues();
+            return;
+        }
         ArrayList<Integer> selectedIndexes = new ArrayList<Integer>();
         String[] selectedValues = null;
         
@@ -681,7 +922,7 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
                 }
             } else {
                 for (Integer integer : selectedIndexes) {
-                    if (listBox.getItemCount() > 0) {
+                    if (integer >= 0 && integer < listBox.getItemCount()) {
                         listBox.setItemSelected(integer, true);
                     }
                 }
@@ -693,6 +934,40 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
         }
     }
     
+    /**
+     * This function will check the items of the searchable multiselect list that are in the criteria
+     *
+     * @since 18 October 2026
+     */
+    private void setCheckBoxListValues() {
+        checkBoxList.clearSelection();
+        if (getCriteria().getCriteria() == null || getCriteria().getCriteria().trim().equals("")) {
+            return;
+        }
+        for (String value : getCriteria().getCriteria().split(",")) {
+            if (bIsAdvancedMap) {
+                checkBoxList.setItemSelected(findAdvancedIndexValue(value), true);
+            } else {
+                checkBoxList.setItemSelected(findIndexOf(value), true);
+            }
+        }
+    }
+
+    /**
+     * Sets whether the search text box and the check box list of the searchable multiselect list
+     * can be used
+     *
+     * @since 18 October 2026
+     *
+     * @param enabled - Whether the searchable multiselect list is enabled
+     */
+    private void setCheckBoxListEnabled(boolean enabled) {
+        if (searchable) {
+            searchTextBox.setEnabled(enabled);
+            checkBoxList.setEnabled(enabled);
+        }
+    }
+
     /**
      * This function will set the selected item of the listbox on the filter
      * 
@@ -724,6 +999,12 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
         checkBox.setValue(false);
         listBox.setSelectedIndex(0);
         listBox.setEnabled(true);
+        if (searchable) {
+            searchTextBox.setText("");
+            checkBoxList.setFilterText("");
+            checkBoxList.clearSelection();
+            setCheckBoxListEnabled(true);
+        }
     }
 
     /**
@@ -745,6 +1026,7 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
              */
             @Override
             public void onValueChange(ValueChangeEvent<Boolean> event) {
+                setCheckBoxListEnabled(!event.getValue());
                 if (event.getValue()) {
                     listBox.setEnabled(false);
                     previousIndex = listBox.getSelectedIndex();
@@ -904,6 +1186,8 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
     /**
      * Used to set the list in the filter drop down list
      * Will add an empty item if specified
+     * The items are displayed in the order of the map unless sorted ordering is set, pass a
+     * LinkedHashMap to keep the order of the items stable
      *
      * @author Michael Barnard <michael.barnard@a24group.com>
      * @since  11 January 2012
@@ -925,19 +1209,43 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
             }
         }
         previousIndex = 0;
-        if (emptyInclude) {
-            listBox.addItem("", sEmptyKey);
+        ArrayList<String> itemTexts = new ArrayList<String>(listItems.size() + 1);
+        ArrayList<String> itemValues = new ArrayList<String>(listItems.size() + 1);
+        if (emptyInclude || listItems.size() == 0) {
+            itemTexts.add("");
+            itemValues.add(sEmptyKey);
+        }
+        ArrayList<Map.Entry<String, String>> entries = new ArrayList<Map.Entry<String, String>>(listItems.entrySet());
+        if (listBoxDataOrder == ListBoxDataOrder.SORTED) {
+            Collections.sort(entries, new Comparator<Map.Entry<String, String>>() {
+
+                /**
+                 * Compares the display text of two entries ignoring case
+                 *
+                 * @since 18 October 2026
+                 *
+                 * @param entry1 - The first entry to compare
+                 * @param entry2 - The second entry to compare
+                 *
+                 * @return A negative number, zero or a positive number if the first entry sorts before, with or after the second
+                 */
+                @Override
+                public int compare(Map.Entry<String, String> entry1, Map.Entry<String, String> entry2) {
+                    return TEXT_COMPARATOR.compare(entry1.getValue(), entry2.getValue());
+                }
+            });
         }
-        Map<String, String> map = valueMap;
-        Iterator<Map.Entry<String, String>> entries = map.entrySet().iterator();
-        while (entries.hasNext()) {
-            Map.Entry<String, String> entry = entries.next();
-            listBox.addItem(entry.getValue(), entry.getKey());
+        for (Map.Entry<String, String> entry : entries) {
+            itemTexts.add(entry.getValue());
+            itemValues.add(entry.getKey());
         }
+        addListBoxItems(itemTexts, itemValues);
+        setCheckBoxListItems(itemTexts);
         if (emptyInclude) {
             valueMap.put(sEmptyKey, "");
         }
         bIsAdvancedMap = true;
+        buildLookupMaps();
         updateFieldData();
     }
 
@@ -952,6 +1260,12 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
      */
     public void setListBoxData(String[] listItems) {
         emptyListBox();
+        if (listBoxDataOrder == ListBoxDataOrder.SORTED && listItems.length > 1) {
+            String[] sortedItems = new String[listItems.length];
+            System.arraycopy(listItems, 0, sortedItems, 0, listItems.length);
+            Arrays.sort(sortedItems, TEXT_COMPARATOR);
+            listItems = sortedItems;
+        }
         if (listItems.length == 0){
             values = new String[]{""};
         } else {
@@ -967,13 +1281,126 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
             }
         }
         previousIndex = 0;
-        for (int x = 0; x < this.values.length; x++) {
-            listBox.addItem(this.values[x]);
-        }
+        List<String> itemTexts = Arrays.asList(this.values);
+        addListBoxItems(itemTexts, itemTexts);
+        setCheckBoxListItems(itemTexts);
         bIsAdvancedMap = false;
+        buildLookupMaps();
         updateFieldData();
     }
 
+    /**
+     * Adds the items to the list box in one go. The option elements are created while the list box
+     * is removed from the document and the list box is then put back, so the document is only
+     * changed once no matter how many items are added.
+     *
+     * @since 18 October 2026
+     *
+     * @param itemTexts - The text of each item
+     * @param itemValues - The value of each item
+     */
+    private void addListBoxItems(List<String> itemTexts, List<String> itemValues) {
+        SelectElement select = listBox.getElement().cast();
+        Element parent = select.getParentElement();
+        Node nextSibling = select.getNextSibling();
+        if (parent != null) {
+            parent.removeChild(select);
+        }
+        Document document = Document.get();
+        int itemCount = itemTexts.size();
+        for (int x = 0; x < itemCount; x++) {
+            OptionElement option = document.createOptionElement();
+            option.setText(itemTexts.get(x));
+            option.setValue(itemValues.get(x));
+            select.add(option, null);
+        }
+        if (parent != null) {
+            parent.insertBefore(select, nextSibling);
+        }
+    }
+
+    /**
+     * Sets the items of the searchable multiselect list and clears its search text
+     *
+     * @since 18 October 2026
+     *
+     * @param itemTexts - The text of each item in the list box
+     */
+    private void setCheckBoxListItems(List<String> itemTexts) {
+        if (searchable) {
+            searchTextBox.setText("");
+            checkBoxList.setItems(itemTexts);
+        }
+    }
+
+    /**
+     * Sets the order in which the items passed to setListBoxData are displayed.
+     * This should be set before the data is set.
+     *
+     * @since 18 October 2026
+     *
+     * @param listBoxDataOrder - The order of the items in the list box
+     */
+    public void setListBoxDataOrder(ListBoxDataOrder listBoxDataOrder) {
+        this.listBoxDataOrder = listBoxDataOrder;
+    }
+
+    /**
+     * Retrieves the order in which the items passed to setListBoxData are displayed
+     *
+     * @since 18 October 2026
+     *
+     * @return The order of the items in the list box
+     */
+    public ListBoxDataOrder getListBoxDataOrder() {
+        return listBoxDataOrder;
+    }
+
+    /**
+     * Builds the maps used to find the index of a value, the index of a key and the key of a
+     * value from the data currently in the list box. The first occurrence of a duplicate
+     * value is kept so that the lookups return the same result the list scans used to.
+     *
+     * @since 18 October 2026
+     */
+    private void buildLookupMaps() {
+        clearLookupMaps();
+        if (bIsAdvancedMap) {
+            HashMap<String, Integer> textIndexMap = new HashMap<String, Integer>();
+            int listCount = listBox.getItemCount();
+            for (int x = 0; x < listCount; x++) {
+                String text = listBox.getItemText(x);
+                if (!textIndexMap.containsKey(text)) {
+                    textIndexMap.put(text, x);
+                }
+            }
+            for (Map.Entry<String, String> entry : valueMap.entrySet()) {
+                Integer index = textIndexMap.get(entry.getValue());
+                keyIndexMap.put(entry.getKey(), index == null ? -1 : index);
+                if (!valueKeyMap.containsKey(entry.getValue())) {
+                    valueKeyMap.put(entry.getValue(), entry.getKey());
+                }
+            }
+        } else {
+            for (int x = 0; x < values.length; x++) {
+                if (!valueIndexMap.containsKey(values[x])) {
+                    valueIndexMap.put(values[x], x);
+                }
+            }
+        }
+    }
+
+    /**
+     * Clears the maps used to look up values, keys and indexes
+     *
+     * @since 18 October 2026
+     */
+    private void clearLookupMaps() {
+        valueIndexMap.clear();
+        keyIndexMap.clear();
+        valueKeyMap.clear();
+    }
+
     /**
      * Gets the value from the dropdown list in the filter item
      *
@@ -1076,12 +1503,8 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
             getCriteria().setCriteria(sEmptyKey);
             item = "";
         }
-        for (int x = 0; x < values.length; x++) {
-            if (item.equals(values[x])) {
-                return x;
-            }
-        }
-        return -1;
+        Integer index = valueIndexMap.get(item);
+        return index == null ? -1 : index;
     }
 
     /**
@@ -1095,23 +1518,8 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
      * @return the index of the current item's key passed in
      */
     public int findAdvancedIndexValue(String item) {
-        Map<String, String> map = valueMap;
-        Iterator<Map.Entry<String, String>> entries = map.entrySet().iterator();
-        while (entries.hasNext()) {
-            Map.Entry<String, String> entry = entries.next();
-            if (item.equals((entry.getKey()))) {
-                item = entry.getValue();
-                int listCount = listBox.getItemCount();
-                for (int x = 0; x < listCount; x++) {
-                    if (item.equals(listBox.getItemText(x))) {
-                        return x;
-                    }
-                }
-
-                return -1;
-            }
-        }
-        return -1;
+        Integer index = keyIndexMap.get(item);
+        return index == null ? -1 : index;
     }
 
     /**
@@ -1128,16 +1536,8 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
         if (includeEmptyValue && value.equals("")) {
             return sEmptyKey;
         }
-        Map<String, String> map = valueMap;
-        Iterator<Map.Entry<String, String>> entries = map.entrySet().iterator();
-        while (entries.hasNext()) {
-            Map.Entry<String, String> entry = entries.next();
-            if (value.equals((entry.getValue()))) {
-                return "" + entry.getKey();
-
-            }
-        }
-        return "";
+        String key = valueKeyMap.get(value);
+        return key == null ? "" : "" + key;
     }
 
     /**
@@ -1162,6 +1562,8 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
         listBox.clear();
         valueMap.clear();
         values = new String[]{""};
+        clearLookupMaps();
+        setCheckBoxListItems(Collections.<String>emptyList());
     }
 
     /**
@@ -1172,7 +1574,11 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
      */
     @Override
     public void setFocusOnMainInput() {
-        listBox.setFocus(true);
+        if (searchable) {
+            searchTextBox.setFocus(true);
+        } else {
+            listBox.setFocus(true);
+        }
     }
     
     /**
@@ -1186,5 +1592,16 @@ public class SelectBoxFilter extends AbstractHeaderFilter {
     public boolean isMultiSelect() {
         return listBox.isMultipleSelect();
     }
+
+    /**
+     * Checks whether the filter displays a searchable check box list instead of the multiselect list box
+     *
+     * @since 18 October 2026
+     *
+     * @return Whether the multiselect list is searchable
+     */
+    public boolean isSearchable() {
+        return searchable;
+    }
     
 }
@@ -358,6 +358,37 @@ public class TextFilter extends AbstractHeaderFilter {
             this.criteria = criteria;
         }
 
+        /**
+         * Creates a copy of the criteria that does not change when the filter changes
+         * 
+         * @since 18 October 2026
+         * 
+         * @return The copy of the criteria
+         */
+        @Override
+        public TextFilterCriteria copy() {
+            TextFilterCriteria copy = new TextFilterCriteria();
+            copy.setCriteria(criteria);
+            copy.setFindEmptyEntriesOnly(findEmptyEntriesOnly);
+            copy.setExactMatchEntries(exactMatchEntries);
+            return copy;
+        }
+
+        /**
+         * Retrieves a key that is the same for criteria that filter the same data
+         * 
+         * @since 18 October 2026
+         * 
+         * @return The key of the criteria
+         */
+        @Override
+        public String getKey() {
+            StringBuilder key = new StringBuilder("text:");
+            appendKeyValue(key, criteria);
+            key.append(findEmptyEntriesOnly ? ":empty" : "").append(exactMatchEntries ? ":exact" : "");
+            return key.toString();
+        }
+
     }
     
     /**
@@ -0,0 +1,282 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.datagrid.filter;
+
+import java.util.List;
+import java.util.Set;
+
+import org.ssgwt.client.ui.VirtualListRenderer;
+import org.ssgwt.client.ui.WidgetPool;
+
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.EventTarget;
+import com.google.gwt.event.dom.client.ClickEvent;
+import com.google.gwt.event.dom.client.ClickHandler;
+import com.google.gwt.user.client.ui.CheckBox;
+import com.google.gwt.user.client.ui.Composite;
+import com.google.gwt.user.client.ui.FlowPanel;
+
+/**
+ * A scrollable list of check boxes used by the searchable multiselect SelectBoxFilter.
+ *
+ * Only the check boxes in the visible part of the list are rendered by a VirtualListRenderer,
+ * with spacers taking up the space of the items before and after them, and the check box
+ * widgets are reused as the list scrolls. The items, filter text and selection are kept in a
+ * CheckBoxListModel. Items without text, like the empty item of the filter, are displayed
+ * with the EMPTY_ITEM_TEXT label while there is no filter text.
+ *
+ * @since 18 October 2026
+ */
+class VirtualCheckBoxList extends Composite {
+
+    /**
+     * The label displayed for an item without text
+     */
+    static final String EMPTY_ITEM_TEXT = "~ Empty ~";
+
+    /**
+     * The height used for the visible part of the list while the list is not displayed
+     */
+    private static final int DEFAULT_VIEWPORT_HEIGHT = 150;
+
+    /**
+     * The panel that scrolls and holds the spacers and rendered check boxes
+     */
+    private final FlowPanel mainPanel = new FlowPanel();
+
+    /**
+     * Renders the check boxes of the visible items into the main panel
+     */
+    private final VirtualListRenderer<CheckBox> listRenderer;
+
+    /**
+     * The items, filter text and selection of the list
+     */
+    private final CheckBoxListModel model = new CheckBoxListModel();
+
+    /**
+     * Whether the user can change the selection
+     */
+    private boolean enabled = true;
+
+    /**
+     * Class constructor
+     *
+     * @since 18 October 2026
+     *
+     * @param styleName - The style of the scrolling list
+     * @param itemStyleName - The style of the check box of every item
+     * @param itemHeight - The height of every item in pixels, this should match the item style
+     */
+    VirtualCheckBoxList(String styleName, final String itemStyleName, int itemHeight) {
+        WidgetPool<CheckBox> widgetPool = new WidgetPool<CheckBox>() {
+
+            /**
+             * Creates a check box with the item style
+             *
+             * @return The new check box
+             */
+            @Override
+            protected CheckBox createWidget() {
+                CheckBox checkBox = new CheckBox();
+                checkBox.setStyleName(itemStyleName);
+                return checkBox;
+            }
+        };
+        mainPanel.setStyleName(styleName);
+        initWidget(mainPanel);
+        listRenderer = new VirtualListRenderer<CheckBox>(mainPanel, widgetPool, DEFAULT_VIEWPORT_HEIGHT) {
+
+            /**
+             * Retrieves the amount of items that match the filter text
+             *
+             * @return The amount of visible items
+             */
+            @Override
+            protected int getItemCount() {
+                return model.getVisibleItemCount();
+            }
+
+            /**
+             * Updates a check box to display a visible item
+             *
+             * @param checkBox - The check box retrieved from the pool
+             * @param position - The position of the item in the visible items
+             */
+            @Override
+            protected void updateItem(CheckBox checkBox, int position) {
+                int itemIndex = model.getVisibleItem(position);
+                String text = model.getItemText(itemIndex);
+                checkBox.setText(text == null || text.length() == 0 ? EMPTY_ITEM_TEXT : text);
+                checkBox.setValue(model.isItemSelected(itemIndex));
+                checkBox.setEnabled(enabled);
+            }
+        };
+        listRenderer.setVirtualScrolling(true, itemHeight);
+        mainPanel.addDomHandler(new ClickHandler() {
+
+            /**
+             * Updates the selection when the input of one of the check boxes is clicked.
+             * Clicks on the label of a check box are ignored as the browser also clicks
+             * the input for them.
+             *
+             * @param event - The click event
+             */
+            @Override
+            public void onClick(ClickEvent event) {
+                EventTarget eventTarget = event.getNativeEvent().getEventTarget();
+                if (!enabled || !Element.is(eventTarget)
+                        || !"input".equalsIgnoreCase(Element.as(eventTarget).getTagName())) {
+                    return;
+                }
+                int position = listRenderer.getItemIndex(eventTarget);
+                CheckBox checkBox = listRenderer.getRenderedItem(position);
+                if (checkBox != null) {
+                    model.setItemSelected(model.getVisibleItem(position), checkBox.getValue());
+                }
+            }
+        }, ClickEvent.getType());
+    }
+
+    /**
+     * Renders the visible items once the list is displayed
+     *
+     * @since 18 October 2026
+     */
+    @Override
+    protected void onLoad() {
+        super.onLoad();
+        listRenderer.renderWindow(true);
+    }
+
+    /**
+     * Sets the items displayed in the list, clearing the selection and the filter text
+     *
+     * @since 18 October 2026
+     *
+     * @param itemTexts - The text of every item, items without text are displayed with the empty item label
+     */
+    public void setItems(List<String> itemTexts) {
+        model.setItems(itemTexts);
+        mainPanel.getElement().setScrollTop(0);
+        listRenderer.renderWindow(true);
+    }
+    /**
+     * Narrows the displayed items to the items whose text contains the filter text, ignoring
+     * case. If the filter text only adds to the previous filter text, only the items that
+     * matched the previous filter text are checked.
+     *
+     * @since 18 October 2026
+     *
+     * @param text - The text the items should contain
+     */
+    public void setFilterText(String text) {
+        if (!model.setFilterText(text)) {
+            return;
+        }
+        mainPanel.getElement().setScrollTop(0);
+        listRenderer.renderWindow(true);
+    }
+
+    /**
+     * Selects or deselects an item
+     *
+     * @since 18 October 2026
+     *
+     * @param itemIndex - The index of the item
+     * @param selected - Whether the item should be selected
+     */
+    public void setItemSelected(int itemIndex, boolean selected) {
+        if (!model.setItemSelected(itemIndex, selected)) {
+            return;
+        }
+        CheckBox checkBox = getRenderedItem(itemIndex);
+        if (checkBox != null) {
+            checkBox.setValue(selected);
+        }
+    }
+
+    /**
+     * Checks whether an item is selected
+     *
+     * @since 18 October 2026
+     *
+     * @param itemIndex - The index of the item
+     *
+     * @return Whether the item is selected
+     */
+    public boolean isItemSelected(int itemIndex) {
+        return model.isItemSelected(itemIndex);
+    }
+
+    /**
+     * Retrieves the indexes of the selected items
+     *
+     * @since 18 October 2026
+     *
+     * @return The indexes of the selected items in list order, this set can not be changed
+     */
+    public Set<Integer> getSelectedItems() {
+        return model.getSelectedItems();
+    }
+
+    /**
+     * Deselects all the items
+     *
+     * @since 18 October 2026
+     */
+    public void clearSelection() {
+        model.clearSelection();
+        for (CheckBox checkBox : listRenderer.getRenderedItems()) {
+            checkBox.setValue(false);
+        }
+    }
+
+    /**
+     * Sets whether the user can change the selection
+     *
+     * @since 18 October 2026
+     *
+     * @param enabled - Whether the check boxes are enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        for (CheckBox checkBox : listRenderer.getRenderedItems()) {
+            checkBox.setEnabled(enabled);
+        }
+    }
+
+    /**
+     * Retrieves the check box of an item if the item is rendered
+     *
+     * @since 18 October 2026
+     *
+     * @param itemIndex - The index of the item
+     *
+     * @return The check box of the item, null if the item is not rendered
+     */
+    private CheckBox getRenderedItem(int itemIndex) {
+        if (itemIndex < 0) {
+            return null;
+        }
+        List<CheckBox> renderedItems = listRenderer.getRenderedItems();
+        int renderedStart = listRenderer.getRenderedStart();
+        for (int x = 0; x < renderedItems.size(); x++) {
+            if (model.getVisibleItem(renderedStart + x) == itemIndex) {
+                return renderedItems.get(x);
+            }
+        }
+        return null;
+    }
+}
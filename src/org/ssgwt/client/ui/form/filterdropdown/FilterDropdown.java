@@ -16,6 +16,7 @@ package org.ssgwt.client.ui.form.filterdropdown;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.ssgwt.client.ui.WidgetPool;
 import org.ssgwt.client.ui.form.InputField;
 import org.ssgwt.client.ui.form.filterdropdown.recorddisplays.FilterDropdownRecordWidget;
 
@@ -105,15 +106,35 @@ public abstract class FilterDropdown<T, ListType>
     private FilterDropdownResources resources;
 
     /**
-     * The selected display item
+     * The items that can be selected
      */
-    private FilterDropdownRecordWidget<ListType> selectedDisplayItem;
+    private final ArrayList<ListType> currentItems = new ArrayList<ListType>();
 
     /**
-     * The selected display item
+     * The pool of display widgets used by the drop down, only the items that are
+     * rendered on the drop down have a display widget
      */
-    private final ArrayList<FilterDropdownRecordWidget<ListType>> currentDisplayItems =
-        new ArrayList<FilterDropdownRecordWidget<ListType>>();
+    private final WidgetPool<FilterDropdownRecordWidget<ListType>> displayWidgetPool =
+        new WidgetPool<FilterDropdownRecordWidget<ListType>>() {
+
+            /**
+             * Creates a display widget for the drop down
+             *
+             * @return The display widget
+             */
+            @Override
+            protected FilterDropdownRecordWidget<ListType> createWidget() {
+                FilterDropdownRecordWidget<ListType> displayItem = createDisplayWidgetInstance();
+                displayItem.setParentSearchBox(FilterDropdown.this);
+                return displayItem;
+            }
+        };
+
+    /**
+     * A display widget that is never displayed, used to retrieve the selection text of
+     * an item and to compare an item to the criteria without a widget per item
+     */
+    private FilterDropdownRecordWidget<ListType> itemReader = null;
 
     /**
      * The string that has previously been searched for
@@ -125,6 +146,21 @@ public abstract class FilterDropdown<T, ListType>
      */
     private FilterDropdownListBox<ListType> dropDownPopup = null;
 
+    /**
+     * Filters the items using the filter index, null if every item should be compared to the criteria
+     */
+    private FilterDropdownSearch filterSearch = null;
+
+    /**
+     * Whether the drop down only renders the visible items
+     */
+    private boolean virtualScrolling = false;
+
+    /**
+     * The height in pixels of an item on the drop down, used for virtual scrolling
+     */
+    private int virtualScrollItemHeight = 0;
+
     /**
      * UiBinder interface for the composite
      *
@@ -330,10 +366,9 @@ public abstract class FilterDropdown<T, ListType>
      */
     public void setSelectedDisplayItem(FilterDropdownRecordWidget<ListType> selectedDisplayItem) {
         if (selectedDisplayItem != null) {
-            this.selectedDisplayItem = selectedDisplayItem;
-            this.selectedDisplayItem.setSelectedState(false);
-            this.selectedObject = this.selectedDisplayItem.getItemValue();
-            textBox.setText(this.selectedDisplayItem.getItemSelectionText());
+            selectedDisplayItem.setSelectedState(false);
+            this.selectedObject = selectedDisplayItem.getItemValue();
+            textBox.setText(selectedDisplayItem.getItemSelectionText());
             destroyDropDownPopup();
         }
     }
@@ -404,16 +439,67 @@ public abstract class FilterDropdown<T, ListType>
      * @since  10 Jul 2014
      */
     private void applyFilter() {
-        ArrayList<FilterDropdownRecordWidget<ListType>> tempListing =
-            new ArrayList<FilterDropdownRecordWidget<ListType>>();
+        ArrayList<ListType> tempListing = new ArrayList<ListType>();
         
-        for (FilterDropdownRecordWidget<ListType> item : currentDisplayItems) {
-            if (item.compareToSearchCriteria(textBox.getText())) {
-                tempListing.add(item);
+        if (filterSearch != null) {
+            for (int position : filterSearch.getFilteredPositions(textBox.getText())) {
+                tempListing.add(currentItems.get(position));
+            }
+        } else {
+            FilterDropdownRecordWidget<ListType> reader = getItemReader();
+            for (ListType item : currentItems) {
+                reader.setItemValue(item);
+                if (reader.compareToSearchCriteria(textBox.getText())) {
+                    tempListing.add(item);
+                }
             }
         }
         dropDownPopup.setSelectableItems(tempListing);
     }
+
+    /**
+     * Sets the index used to filter the items instead of comparing every item to the
+     * criteria using compareToSearchCriteria on every key stroke. The index is built over
+     * the selection text of the items whenever the data is set.
+     *
+     * @since 18 October 2026
+     *
+     * @param filterIndex - The index to filter with, null to compare every item to the criteria
+     */
+    public void setFilterIndex(FilterDropdownIndex filterIndex) {
+        filterSearch = filterIndex != null ? new FilterDropdownSearch(filterIndex) : null;
+        buildFilterIndex();
+    }
+
+    /**
+     * Builds the filter index over the selection text of the current items
+     */
+    private void buildFilterIndex() {
+        if (filterSearch != null) {
+            FilterDropdownRecordWidget<ListType> reader = getItemReader();
+            List<String> texts = new ArrayList<String>(currentItems.size());
+            for (ListType item : currentItems) {
+                reader.setItemValue(item);
+                texts.add(reader.getItemSelectionText());
+            }
+            filterSearch.build(texts);
+        }
+    }
+
+    /**
+     * Retrieves the display widget used to read the selection text of items and compare
+     * them to the criteria, creating it the first time it is needed
+     *
+     * @since 18 October 2026
+     *
+     * @return The display widget used to read items
+     */
+    private FilterDropdownRecordWidget<ListType> getItemReader() {
+        if (itemReader == null) {
+            itemReader = createDisplayWidgetInstance();
+        }
+        return itemReader;
+    }
     
     /**
      * Creates the drop down that displays the search results
@@ -423,7 +509,8 @@ public abstract class FilterDropdown<T, ListType>
      */
     private void createDropDownPopup() {
         if (dropDownPopup == null) {
-            dropDownPopup = new FilterDropdownListBox<ListType>(resources);
+            dropDownPopup = new FilterDropdownListBox<ListType>(resources, displayWidgetPool);
+            dropDownPopup.setVirtualScrolling(virtualScrolling, virtualScrollItemHeight);
             //setting popup dropdown style overflow to hidden
             dropDownPopup.setStyleName(this.resources.filterDropdownStyle().dropDownPopUpContainer());
             dropDownPopup.setPopupPosition(this.getAbsoluteLeft(), this.getAbsoluteTop() + this.getOffsetHeight());
@@ -447,6 +534,24 @@ public abstract class FilterDropdown<T, ListType>
         }
     }
 
+    /**
+     * Enables or disables virtual scrolling on the drop down. When enabled only the
+     * items in the visible part of the drop down are rendered, which keeps long result
+     * lists responsive. Every item is expected to have the same height.
+     *
+     * @since 18 October 2026
+     *
+     * @param enabled - Whether virtual scrolling should be enabled
+     * @param itemHeight - The height in pixels of an item including the splitter between items
+     */
+    public void setVirtualScrolling(boolean enabled, int itemHeight) {
+        virtualScrolling = enabled;
+        virtualScrollItemHeight = itemHeight;
+        if (dropDownPopup != null) {
+            dropDownPopup.setVirtualScrolling(enabled, itemHeight);
+        }
+    }
+
     /**
      * Destroys the drop down that displays the search results
      *
@@ -469,15 +574,11 @@ public abstract class FilterDropdown<T, ListType>
      * @since  10 Jul 2014
      */
     public void setData(List<ListType> searchResults) {
-        currentDisplayItems.clear();
-        for (ListType resultItem : searchResults) {
-            FilterDropdownRecordWidget<ListType> tempDisplayItem = createDisplayWidgetInstance();
-            tempDisplayItem.setItemValue(resultItem);
-            tempDisplayItem.setParentSearchBox(this);
-            currentDisplayItems.add(tempDisplayItem);
-        }
+        currentItems.clear();
+        currentItems.addAll(searchResults);
+        buildFilterIndex();
         if (dropDownPopup != null) {
-            dropDownPopup.setSelectableItems(currentDisplayItems);
+            dropDownPopup.setSelectableItems(currentItems);
         }
     }
 
@@ -607,7 +708,7 @@ public abstract class FilterDropdown<T, ListType>
     public void onClick(ClickEvent event) {
         if (textBox.getText().length() == 0) {
             createDropDownPopup();
-            dropDownPopup.setSelectableItems(currentDisplayItems);
+            dropDownPopup.setSelectableItems(currentItems);
         } else {
             createDropDownPopup();
             applyFilter();
@@ -0,0 +1,57 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.form.filterdropdown;
+
+import java.util.List;
+
+/**
+ * An index over the selection text of the items in a FilterDropdown that is built once
+ * when the data is set, so that filtering does not need to compare every item on every
+ * key stroke.
+ *
+ * Items are identified by their position in the list the index was built with. Matching
+ * is expected to narrow as criteria grows, so that anything matching a criteria also
+ * matches every prefix of that criteria.
+ *
+ * @since 18 October 2026
+ */
+public interface FilterDropdownIndex {
+
+    /**
+     * Builds the index over the selection text of the items
+     *
+     * @param texts - The selection text of the items in display order
+     */
+    void build(List<String> texts);
+
+    /**
+     * Retrieves the positions of all the items matching the criteria
+     *
+     * @param criteria - The criteria entered in the filter box
+     *
+     * @return The positions of the matching items in ascending order
+     */
+    int[] search(String criteria);
+
+    /**
+     * Checks whether a single item matches the criteria. Used to narrow the previous
+     * result when the user only appended characters to the criteria.
+     *
+     * @param position - The position of the item
+     * @param criteria - The criteria entered in the filter box
+     *
+     * @return Whether the item matches the criteria
+     */
+    boolean matches(int position, String criteria);
+}
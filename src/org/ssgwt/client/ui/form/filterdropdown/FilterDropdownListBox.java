@@ -15,20 +15,24 @@ package org.ssgwt.client.ui.form.filterdropdown;
 
 import java.util.List;
 
+import org.ssgwt.client.ui.VirtualListRenderer;
+import org.ssgwt.client.ui.WidgetPool;
 import org.ssgwt.client.ui.form.filterdropdown.FilterDropdown.FilterDropdownResources;
 import org.ssgwt.client.ui.form.filterdropdown.recorddisplays.FilterDropdownRecordWidget;
 import org.ssgwt.client.ui.searchbox.SearchBox.SearchBoxResources;
 
 import com.google.gwt.core.client.GWT;
-import com.google.gwt.dom.client.Style.Unit;
 import com.google.gwt.event.dom.client.MouseOutEvent;
 import com.google.gwt.event.dom.client.MouseOutHandler;
 import com.google.gwt.event.dom.client.MouseOverEvent;
 import com.google.gwt.event.dom.client.MouseOverHandler;
+import com.google.gwt.event.logical.shared.CloseEvent;
+import com.google.gwt.event.logical.shared.CloseHandler;
 import com.google.gwt.user.client.ui.FlowPanel;
 import com.google.gwt.user.client.ui.Label;
 import com.google.gwt.user.client.ui.PopupPanel;
 import com.google.gwt.user.client.ui.SimplePanel;
+import com.google.gwt.user.client.ui.Widget;
 
 /**
  * The drop down section of the filter dropdown list
@@ -48,7 +52,17 @@ public class FilterDropdownListBox<ListType> extends PopupPanel {
     /**
      * The items that should be displayed in the drop down
      */
-    private List<FilterDropdownRecordWidget<ListType>> resultDisplayItems = null;
+    private List<ListType> resultItems = null;
+
+    /**
+     * Renders the display widgets of the items into the main panel
+     */
+    private final VirtualListRenderer<FilterDropdownRecordWidget<ListType>> listRenderer;
+
+    /**
+     * The height in pixels assumed for the visible part of the drop down before it is displayed
+     */
+    private static final int DEFAULT_VIEWPORT_HEIGHT = 250;
     
     /**
      * The main panel that holds the result display items
@@ -84,11 +98,13 @@ public class FilterDropdownListBox<ListType> extends PopupPanel {
      * Class constructor
      * 
      * @param resources
+     * @param widgetPool - The pool the display widgets of the items are retrieved from
      * 
      * @author Michael Barnard <michael.barnard@a24group.com>
      * @since  10 Jul 2014
      */
-    public FilterDropdownListBox(FilterDropdownResources resources) {
+    public FilterDropdownListBox(FilterDropdownResources resources,
+            WidgetPool<FilterDropdownRecordWidget<ListType>> widgetPool) {
         super(true);
         this.setStyleName("");
         this.resources = resources;
@@ -97,6 +113,95 @@ public class FilterDropdownListBox<ListType> extends PopupPanel {
         this.add(mainPanel);
         addInfoMessages();
         mainPanel.getElement().getStyle().setProperty("overflow", "auto");
+        listRenderer = new VirtualListRenderer<FilterDropdownRecordWidget<ListType>>(mainPanel, widgetPool,
+                DEFAULT_VIEWPORT_HEIGHT) {
+
+            /**
+             * Retrieves the amount of items, 0 while there are no items to display
+             *
+             * @return The amount of items
+             */
+            @Override
+            protected int getItemCount() {
+                return hasResults && resultItems != null ? resultItems.size() : 0;
+            }
+
+            /**
+             * Updates a display widget to display an item
+             *
+             * @param displayItem - The display widget retrieved from the pool
+             * @param itemIndex - The index of the item in the list of items
+             */
+            @Override
+            protected void updateItem(FilterDropdownRecordWidget<ListType> displayItem, int itemIndex) {
+                displayItem.setItemValue(resultItems.get(itemIndex));
+                displayItem.setSelectedState(itemIndex == selectedIndex);
+            }
+
+            /**
+             * Creates the splitter displayed between two items
+             *
+             * @return The splitter
+             */
+            @Override
+            protected Widget createSeparator() {
+                SimplePanel recordsSplitter = new SimplePanel();
+                recordsSplitter.setStyleName("itemSplitter");
+                return recordsSplitter;
+            }
+
+            /**
+             * Clears the selected style of a display widget before it is returned to the pool
+             *
+             * @param displayItem - The display widget that is no longer displayed
+             */
+            @Override
+            protected void onItemReleased(FilterDropdownRecordWidget<ListType> displayItem) {
+                displayItem.setSelectedState(false);
+            }
+        };
+        mainPanel.addDomHandler(new MouseOverHandler() {
+
+            /**
+             * The event that fire on mouse over of any of the items
+             *
+             * @param event - Mouse Over Event
+             */
+            @Override
+            public void onMouseOver(MouseOverEvent event) {
+                int itemIndex = listRenderer.getItemIndex(event.getNativeEvent().getEventTarget());
+                if (itemIndex >= 0) {
+                    listRenderer.getRenderedItem(itemIndex).setSelectedState(true);
+                }
+            }
+        }, MouseOverEvent.getType());
+        mainPanel.addDomHandler(new MouseOutHandler() {
+
+            /**
+             * The event that fire on mouse out of any of the items
+             *
+             * @param event - Mouse out Event
+             */
+            @Override
+            public void onMouseOut(MouseOutEvent event) {
+                FilterDropdownRecordWidget<ListType> displayItem = listRenderer.getRenderedItem(listRenderer.getItemIndex(event.getNativeEvent().getEventTarget()));
+                if (displayItem != null) {
+                    displayItem.setSelectedState(false);
+                }
+            }
+        }, MouseOutEvent.getType());
+        this.addCloseHandler(new CloseHandler<PopupPanel>() {
+
+            /**
+             * Returns the display widgets to the pool once the drop down is closed
+             *
+             * @param event - The close event
+             */
+            @Override
+            public void onClose(CloseEvent<PopupPanel> event) {
+                listRenderer.releaseRenderedItems();
+            }
+        });
     }
     
     /**
@@ -123,16 +228,14 @@ public class FilterDropdownListBox<ListType> extends PopupPanel {
      * @return The display text for the item
      */
     public String selectNextItem() {
-        if (hasResults && selectedIndex < resultDisplayItems.size() - 1) {
-            if (selectedIndex >= 0) {
-                resultDisplayItems.get(selectedIndex).setSelectedState(false);
-            }
+        if (hasResults && selectedIndex < resultItems.size() - 1) {
+            setItemSelectedState(selectedIndex, false);
             selectedIndex++;
-            resultDisplayItems.get(selectedIndex).setSelectedState(true);
-            resultDisplayItems.get(selectedIndex).getElement().scrollIntoView();
+            showSelectedItem();
         }
-        if (selectedIndex >= 0 && resultDisplayItems.size() > selectedIndex) {
-            return resultDisplayItems.get(selectedIndex).getItemSelectionText();
+        FilterDropdownRecordWidget<ListType> selectedItem = getSelectedItem();
+        if (selectedItem != null) {
+            return selectedItem.getItemSelectionText();
         } else {
             return null;
         }
@@ -148,15 +251,15 @@ public class FilterDropdownListBox<ListType> extends PopupPanel {
      */
     public String selectPreviousItem() {
         if (hasResults && selectedIndex >= 0) {
-            resultDisplayItems.get(selectedIndex).setSelectedState(false);
+            setItemSelectedState(selectedIndex, false);
             selectedIndex--;
             if (selectedIndex >= 0) {
-                resultDisplayItems.get(selectedIndex).setSelectedState(true);
-                resultDisplayItems.get(selectedIndex).getElement().scrollIntoView();
+                showSelectedItem();
             }
         }
-        if (selectedIndex >= 0 && resultDisplayItems.size() > selectedIndex) {
-            return resultDisplayItems.get(selectedIndex).getItemSelectionText();
+        FilterDropdownRecordWidget<ListType> selectedItem = getSelectedItem();
+        if (selectedItem != null) {
+            return selectedItem.getItemSelectionText();
         } else {
             return null;
         }
@@ -192,62 +295,73 @@ public class FilterDropdownListBox<ListType> extends PopupPanel {
     }
     
     /**
-     * Updates the items that should be displayed on the drop down for the user
+     * Enables or disables virtual scrolling. When enabled only the items in the visible
+     * part of the drop down are rendered and the space of the other items is taken up by
+     * spacers, so every item is expected to have the same height.
+     * 
+     * @since 18 October 2026
+     * 
+     * @param enabled - Whether virtual scrolling should be enabled
+     * @param itemHeight - The height in pixels of a rendered item including the splitter
+     */
+    public void setVirtualScrolling(boolean enabled, int itemHeight) {
+        listRenderer.setVirtualScrolling(enabled, itemHeight);
+        if (resultItems != null) {
+            setSelectableItems(resultItems);
+        }
+    }
+
+    /**
+     * Updates the items that should be displayed on the drop down for the user. Display
+     * widgets are only created for the items that are rendered. With virtual scrolling
+     * only the visible items are rendered, otherwise rendering starts with the first items
+     * and more are rendered as the user scrolls or selects further down the list.
      * 
-     * @param resultDisplayItems - The items that can be filtered using the filter box
+     * @param resultItems - The items that can be filtered using the filter box
      * 
      * @author Michael Barnard <michael.barnard@a24group.com>
      * @since  10 Jul 2014
      */
-    public void setSelectableItems(List<FilterDropdownRecordWidget<ListType>> resultDisplayItems) {
-        hasResults = !(resultDisplayItems.size() == 0);
-        this.resultDisplayItems = resultDisplayItems;
+    public void setSelectableItems(List<ListType> resultItems) {
+        listRenderer.releaseRenderedItems();
+        hasResults = !(resultItems.size() == 0);
+        this.resultItems = resultItems;
+        selectedIndex = -1;
         if (hasResults) {
-            mainPanel.clear();
-            int count = 0;
-            for (final FilterDropdownRecordWidget<ListType> displayItem : this.resultDisplayItems) {
-                if (count > 0) {
-                    SimplePanel recordsSplitter = new SimplePanel();
-                    recordsSplitter.setStyleName("itemSplitter");
-                    mainPanel.add(recordsSplitter);
-                }
-                mainPanel.add(displayItem);
-                displayItem.addMouseOverHandler(new MouseOverHandler() {
-                    
-                    /**
-                     * The event that fire on mouse over
-                     * 
-                     * @author Michael Barnard <michael.barnard@a24group.com>
-                     * @since  10 Jul 2014
-                     * 
-                     * @param event - Mouse Over Event
-                     */
-                    @Override
-                    public void onMouseOver(MouseOverEvent event) {
-                        displayItem.setSelectedState(true);
-                    }
-                });
-                displayItem.addMouseOutHandler(new MouseOutHandler() {
-                    
-                    /**
-                     * The event that fire on mouse out
-                     * 
-                     * @author Michael Barnard <michael.barnard@a24group.com>
-                     * @since  10 Jul 2014
-                     * 
-                     * @param event - Mouse out Event
-                     */
-                    @Override
-                    public void onMouseOut(MouseOutEvent event) {
-                        displayItem.setSelectedState(false);
-                    }
-                });
-                count++;
-            }
+            listRenderer.render();
         } else {
             addInfoMessages();
         }
     }
+
+    /**
+     * Sets the selected state of an item if the item is rendered
+     * 
+     * @since 18 October 2026
+     * 
+     * @param itemIndex - The index of the item in the list of items
+     * @param selected - Whether the item should be in the selected state
+     */
+    private void setItemSelectedState(int itemIndex, boolean selected) {
+        FilterDropdownRecordWidget<ListType> displayItem = listRenderer.getRenderedItem(itemIndex);
+        if (displayItem != null) {
+            displayItem.setSelectedState(selected);
+        }
+    }
+
+    /**
+     * Renders the selected item if needed, scrolls it into view and changes it to the selected style
+     * 
+     * @since 18 October 2026
+     */
+    private void showSelectedItem() {
+        listRenderer.ensureItemRendered(selectedIndex);
+        FilterDropdownRecordWidget<ListType> displayItem = listRenderer.getRenderedItem(selectedIndex);
+        if (displayItem != null) {
+            displayItem.setSelectedState(true);
+            displayItem.getElement().scrollIntoView();
+        }
+    }
     
     /**
      * Retrieves the currently selected item
@@ -258,8 +372,9 @@ public class FilterDropdownListBox<ListType> extends PopupPanel {
      * @return The item that is currently selected
      */
     public FilterDropdownRecordWidget<ListType> getSelectedItem() {
-        if (selectedIndex >= 0 && selectedIndex < resultDisplayItems.size()) {
-            return resultDisplayItems.get(selectedIndex);
+        if (selectedIndex >= 0 && resultItems != null && selectedIndex < resultItems.size()) {
+            listRenderer.ensureItemRendered(selectedIndex);
+            return listRenderer.getRenderedItem(selectedIndex);
         } else {
             return null;
         }
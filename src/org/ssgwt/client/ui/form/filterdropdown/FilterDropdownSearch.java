@@ -0,0 +1,91 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.form.filterdropdown;
+
+import java.util.List;
+
+/**
+ * Filters the items of a FilterDropdown using a FilterDropdownIndex and remembers the
+ * result, so that when the user only appends characters to the criteria the previous
+ * matches are narrowed instead of searching the index again.
+ *
+ * @since 18 October 2026
+ */
+class FilterDropdownSearch {
+
+    /**
+     * The index used to filter the items
+     */
+    private final FilterDropdownIndex filterIndex;
+
+    /**
+     * The criteria the items were last filtered with
+     */
+    private String filteredCriteria = null;
+
+    /**
+     * The positions of the items that matched the criteria the items were last filtered with
+     */
+    private int[] filteredPositions = null;
+
+    /**
+     * Class constructor
+     *
+     * @param filterIndex - The index used to filter the items
+     */
+    FilterDropdownSearch(FilterDropdownIndex filterIndex) {
+        this.filterIndex = filterIndex;
+    }
+
+    /**
+     * Builds the index over the selection text of the items and forgets the previous result
+     *
+     * @param texts - The selection text of the items in display order
+     */
+    void build(List<String> texts) {
+        filteredCriteria = null;
+        filteredPositions = null;
+        filterIndex.build(texts);
+    }
+
+    /**
+     * Retrieves the positions of the items matching the criteria using the filter index.
+     * If the criteria only has characters appended to the criteria that was previously
+     * filtered on, only the previous matches are checked instead of searching the index.
+     *
+     * @param criteria - The criteria entered in the text box
+     *
+     * @return The positions of the matching items in ascending order
+     */
+    int[] getFilteredPositions(String criteria) {
+        if (criteria.equals(filteredCriteria)) {
+            return filteredPositions;
+        }
+        if (filteredCriteria != null && criteria.startsWith(filteredCriteria)) {
+            int[] narrowed = new int[filteredPositions.length];
+            int matchCount = 0;
+            for (int position : filteredPositions) {
+                if (filterIndex.matches(position, criteria)) {
+                    narrowed[matchCount++] = position;
+                }
+            }
+            filteredPositions = new int[matchCount];
+            System.arraycopy(narrowed, 0, filteredPositions, 0, matchCount);
+        } else {
+            filteredPositions = filterIndex.search(criteria);
+        }
+        filteredCriteria = criteria;
+        return filteredPositions;
+    }
+}
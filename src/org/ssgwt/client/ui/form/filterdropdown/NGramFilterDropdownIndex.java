@@ -0,0 +1,177 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.form.filterdropdown;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index that matches items whose selection text contains the criteria, ignoring case.
+ * Every n-gram of the selection texts maps to the positions of the items containing it,
+ * so only the items sharing the rarest n-gram of the criteria have to be checked.
+ * Criteria shorter than an n-gram is matched by checking every item.
+ *
+ * @since 18 October 2026
+ */
+public class NGramFilterDropdownIndex implements FilterDropdownIndex {
+
+    /**
+     * The default length of the n-grams
+     */
+    public static final int DEFAULT_GRAM_LENGTH = 3;
+
+    /**
+     * The length of the n-grams
+     */
+    private final int gramLength;
+
+    /**
+     * The lower case selection text of the items by position
+     */
+    private String[] texts = new String[0];
+
+    /**
+     * The positions of the items containing each n-gram in ascending order
+     */
+    private final Map<String, int[]> postings = new HashMap<String, int[]>();
+
+    /**
+     * Class constructor using the default n-gram length
+     */
+    public NGramFilterDropdownIndex() {
+        this(DEFAULT_GRAM_LENGTH);
+    }
+
+    /**
+     * Class constructor
+     *
+     * @param gramLength - The length of the n-grams
+     */
+    public NGramFilterDropdownIndex(int gramLength) {
+        this.gramLength = Math.max(1, gramLength);
+    }
+
+    /**
+     * Builds the index over the selection text of the items
+     *
+     * @param texts - The selection text of the items in display order
+     */
+    @Override
+    public void build(List<String> texts) {
+        this.texts = new String[texts.size()];
+        Map<String, List<Integer>> positionsByGram = new HashMap<String, List<Integer>>();
+        for (int position = 0; position < texts.size(); position++) {
+            String text = normalize(texts.get(position));
+            this.texts[position] = text;
+            for (int i = 0; i + gramLength <= text.length(); i++) {
+                String gram = text.substring(i, i + gramLength);
+                List<Integer> positions = positionsByGram.get(gram);
+                if (positions == null) {
+                    positions = new ArrayList<Integer>();
+                    positionsByGram.put(gram, positions);
+                }
+                // Positions are added in ascending order so a repeated gram is always the last one added
+                if (positions.isEmpty() || positions.get(positions.size() - 1) != position) {
+                    positions.add(position);
+                }
+            }
+        }
+        postings.clear();
+        for (Map.Entry<String, List<Integer>> entry : positionsByGram.entrySet()) {
+            List<Integer> positions = entry.getValue();
+            int[] posting = new int[positions.size()];
+            for (int i = 0; i < posting.length; i++) {
+                posting[i] = positions.get(i);
+            }
+            postings.put(entry.getKey(), posting);
+        }
+    }
+
+    /**
+     * Retrieves the positions of all the items whose text contains the criteria
+     *
+     * @param criteria - The criteria entered in the filter box
+     *
+     * @return The positions of the matching items in ascending order
+     */
+    @Override
+    public int[] search(String criteria) {
+        String normalizedCriteria = normalize(criteria);
+        if (normalizedCriteria.length() < gramLength) {
+            int[] candidates = new int[texts.length];
+            for (int i = 0; i < candidates.length; i++) {
+                candidates[i] = i;
+            }
+            return filter(candidates, normalizedCriteria);
+        }
+        int[] rarest = null;
+        for (int i = 0; i + gramLength <= normalizedCriteria.length(); i++) {
+            int[] posting = postings.get(normalizedCriteria.substring(i, i + gramLength));
+            if (posting == null) {
+                return new int[0];
+            }
+            if (rarest == null || posting.length < rarest.length) {
+                rarest = posting;
+            }
+        }
+        return filter(rarest, normalizedCriteria);
+    }
+
+    /**
+     * Checks whether the text of a single item contains the criteria
+     *
+     * @param position - The position of the item
+     * @param criteria - The criteria entered in the filter box
+     *
+     * @return Whether the item matches the criteria
+     */
+    @Override
+    public boolean matches(int position, String criteria) {
+        return texts[position].contains(normalize(criteria));
+    }
+
+    /**
+     * Retrieves the candidates whose text contains the criteria
+     *
+     * @param candidates - The candidate positions in ascending order
+     * @param normalizedCriteria - The normalized criteria
+     *
+     * @return The matching positions in ascending order
+     */
+    private int[] filter(int[] candidates, String normalizedCriteria) {
+        int[] matches = new int[candidates.length];
+        int matchCount = 0;
+        for (int position : candidates) {
+            if (texts[position].contains(normalizedCriteria)) {
+                matches[matchCount++] = position;
+            }
+        }
+        int[] result = new int[matchCount];
+        System.arraycopy(matches, 0, result, 0, matchCount);
+        return result;
+    }
+
+    /**
+     * Normalizes a text for matching
+     *
+     * @param text - The text to normalize
+     *
+     * @return The normalized text
+     */
+    private String normalize(String text) {
+        return text == null ? "" : text.toLowerCase();
+    }
+}
@@ -0,0 +1,151 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.form.filterdropdown;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Index that matches items whose selection text starts with the criteria, in the same
+ * way as the default FilterDropdownRecord. The positions are kept sorted by text so the
+ * matching items are found using a binary search.
+ *
+ * @since 18 October 2026
+ */
+public class PrefixFilterDropdownIndex implements FilterDropdownIndex {
+
+    /**
+     * Whether the matching should ignore case
+     */
+    private final boolean ignoreCase;
+
+    /**
+     * The selection text of the items by position, lower case if the case is ignored
+     */
+    private String[] texts = new String[0];
+
+    /**
+     * The positions of the items sorted by their text
+     */
+    private int[] sortedPositions = new int[0];
+
+    /**
+     * Class constructor for a case sensitive index
+     */
+    public PrefixFilterDropdownIndex() {
+        this(false);
+    }
+
+    /**
+     * Class constructor
+     *
+     * @param ignoreCase - Whether the matching should ignore case
+     */
+    public PrefixFilterDropdownIndex(boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+    }
+
+    /**
+     * Builds the index over the selection text of the items
+     *
+     * @param texts - The selection text of the items in display order
+     */
+    @Override
+    public void build(List<String> texts) {
+        this.texts = new String[texts.size()];
+        Integer[] positions = new Integer[texts.size()];
+        for (int i = 0; i < texts.size(); i++) {
+            this.texts[i] = normalize(texts.get(i));
+            positions[i] = i;
+        }
+        final String[] sortTexts = this.texts;
+        Arrays.sort(positions, new Comparator<Integer>() {
+
+            /**
+             * Compares two positions by their text
+             *
+             * @param position1 - The first position
+             * @param position2 - The second position
+             *
+             * @return The comparison of the texts of the positions
+             */
+            @Override
+            public int compare(Integer position1, Integer position2) {
+                return sortTexts[position1].compareTo(sortTexts[position2]);
+            }
+        });
+        sortedPositions = new int[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            sortedPositions[i] = positions[i];
+        }
+    }
+
+    /**
+     * Retrieves the positions of all the items whose text starts with the criteria
+     *
+     * @param criteria - The criteria entered in the filter box
+     *
+     * @return The positions of the matching items in ascending order
+     */
+    @Override
+    public int[] search(String criteria) {
+        String prefix = normalize(criteria);
+        int low = 0;
+        int high = sortedPositions.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (texts[sortedPositions[middle]].compareTo(prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        int end = low;
+        while (end < sortedPositions.length && texts[sortedPositions[end]].startsWith(prefix)) {
+            end++;
+        }
+        int[] result = new int[end - low];
+        System.arraycopy(sortedPositions, low, result, 0, result.length);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Checks whether the text of a single item starts with the criteria
+     *
+     * @param position - The position of the item
+     * @param criteria - The criteria entered in the filter box
+     *
+     * @return Whether the item matches the criteria
+     */
+    @Override
+    public boolean matches(int position, String criteria) {
+        return texts[position].startsWith(normalize(criteria));
+    }
+
+    /**
+     * Normalizes a text for matching
+     *
+     * @param text - The text to normalize
+     *
+     * @return The normalized text
+     */
+    private String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return ignoreCase ? text.toLowerCase() : text;
+    }
+}
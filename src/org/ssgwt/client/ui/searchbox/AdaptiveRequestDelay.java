@@ -0,0 +1,135 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.searchbox;
+
+/**
+ * Calculates how long a search box should wait after a key stroke before making a
+ * service call, based on how fast the user types and how long the service takes to
+ * respond.
+ *
+ * The delay is a bit longer than the usual time between the user's key strokes, so the
+ * call is made once the user pauses rather than between key strokes. A slow service
+ * makes every unnecessary call more expensive, so a part of the response time is added.
+ * The result is kept between a minimum and maximum delay.
+ *
+ * @since 18 October 2026
+ */
+class AdaptiveRequestDelay {
+
+    /**
+     * The weight of a new measurement in the running averages
+     */
+    private static final double SMOOTHING = 0.3;
+
+    /**
+     * The time between key strokes in milliseconds above which the user is considered to
+     * have paused rather than to be typing
+     */
+    private static final double MAX_KEY_INTERVAL = 1000;
+
+    /**
+     * How much longer than the average time between key strokes the delay should be
+     */
+    private static final double KEY_INTERVAL_FACTOR = 1.5;
+
+    /**
+     * The part of the average response time that is added to the delay
+     */
+    private static final double RESPONSE_TIME_FACTOR = 0.25;
+
+    /**
+     * The time between key strokes in milliseconds assumed before it is measured
+     */
+    private static final double INITIAL_KEY_INTERVAL = 150;
+
+    /**
+     * The minimum delay in milliseconds
+     */
+    private final int minDelay;
+
+    /**
+     * The maximum delay in milliseconds
+     */
+    private final int maxDelay;
+
+    /**
+     * The running average of the time between key strokes in milliseconds
+     */
+    private double averageKeyInterval = INITIAL_KEY_INTERVAL;
+
+    /**
+     * The running average of the response time of the service in milliseconds
+     */
+    private double averageResponseTime = 0;
+
+    /**
+     * Whether a response time has been measured
+     */
+    private boolean responseTimeMeasured = false;
+
+    /**
+     * The time of the previous key stroke, 0 if there was none
+     */
+    private double previousKeyStrokeTime = 0;
+
+    /**
+     * Class constructor
+     *
+     * @param minDelay - The minimum delay in milliseconds
+     * @param maxDelay - The maximum delay in milliseconds
+     */
+    AdaptiveRequestDelay(int minDelay, int maxDelay) {
+        this.minDelay = minDelay;
+        this.maxDelay = Math.max(minDelay, maxDelay);
+    }
+
+    /**
+     * Records a key stroke that changed the search string
+     *
+     * @param time - The time of the key stroke in milliseconds
+     */
+    void recordKeyStroke(double time) {
+        if (previousKeyStrokeTime > 0) {
+            double interval = time - previousKeyStrokeTime;
+            if (interval >= 0 && interval <= MAX_KEY_INTERVAL) {
+                averageKeyInterval += SMOOTHING * (interval - averageKeyInterval);
+            }
+        }
+        previousKeyStrokeTime = time;
+    }
+
+    /**
+     * Records the time the service took to respond to a request
+     *
+     * @param responseTime - The response time in milliseconds
+     */
+    void recordResponseTime(double responseTime) {
+        if (responseTimeMeasured) {
+            averageResponseTime += SMOOTHING * (responseTime - averageResponseTime);
+        } else {
+            averageResponseTime = responseTime;
+            responseTimeMeasured = true;
+        }
+    }
+
+    /**
+     * Retrieves the delay to wait after a key stroke before making a service call
+     *
+     * @return The delay in milliseconds
+     */
+    int getDelay() {
+        double delay = KEY_INTERVAL_FACTOR * averageKeyInterval + RESPONSE_TIME_FACTOR * averageResponseTime;
+        return (int) Math.max(minDelay, Math.min(maxDelay, Math.round(delay)));
+    }
+}
@@ -17,8 +17,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.ssgwt.client.ui.ImageButton;
+import org.ssgwt.client.ui.WidgetPool;
 import org.ssgwt.client.ui.searchbox.recorddisplays.SearchBoxRecordWidget;
 
+import com.google.gwt.core.client.Duration;
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.dom.client.Style.Unit;
 import com.google.gwt.event.dom.client.ClickEvent;
@@ -93,20 +95,56 @@ public abstract class SearchBox<T> extends Composite implements KeyUpHandler, Cl
     private SearchBoxResources resources;
 
     /**
-     * The selected display item
+     * The results of the last search
      */
-    private SearchBoxRecordWidget<T> selectedDisplayItem;
+    private final ArrayList<T> currentResults = new ArrayList<T>();
 
     /**
-     * The selected display item
+     * The pool of display widgets used by the drop down, only the results that are
+     * rendered on the drop down have a display widget
      */
-    private final ArrayList<SearchBoxRecordWidget<T>> currentDisplayItems = new ArrayList();
+    private final WidgetPool<SearchBoxRecordWidget<T>> displayWidgetPool = new WidgetPool<SearchBoxRecordWidget<T>>() {
+
+        /**
+         * Creates a display widget for the drop down
+         *
+         * @return The display widget
+         */
+        @Override
+        protected SearchBoxRecordWidget<T> createWidget() {
+            SearchBoxRecordWidget<T> displayItem = createDisplayWidgetInstance();
+            displayItem.setParentSearchBox(SearchBox.this);
+            return displayItem;
+        }
+    };
 
     /**
      * The request id
      */
     private int requestId;
 
+    /**
+     * The search string of the current request
+     */
+    private String requestedSearchString = null;
+
+    /**
+     * The default amount of searches kept in the result cache
+     */
+    public static final int DEFAULT_RESULT_CACHE_SIZE = 20;
+
+    /**
+     * The results of recent searches, so repeated searches and searches that narrow a
+     * complete result do not require a service call
+     */
+    private final SearchResultCache<T> resultCache = new SearchResultCache<T>(DEFAULT_RESULT_CACHE_SIZE);
+
+    /**
+     * A display widget that is never displayed, used to read the selection text of results
+     * when narrowing cached results
+     */
+    private SearchBoxRecordWidget<T> itemReader = null;
+
     /**
      * The string the last delay time was created for
      */
@@ -122,10 +160,41 @@ public abstract class SearchBox<T> extends Composite implements KeyUpHandler, Cl
      */
     private int requestDelayTime = 200;
 
+    /**
+     * Calculates the delay from the typing speed and response time, null if the fixed
+     * request delay time should be used
+     */
+    private AdaptiveRequestDelay adaptiveRequestDelay = null;
+
+    /**
+     * Whether the current request has been made and is still waiting for its results
+     */
+    private boolean requestPending = false;
+
+    /**
+     * The time the current request was made in milliseconds
+     */
+    private double requestStartTime = 0;
+
+    /**
+     * Whether results have been received for the current request
+     */
+    private boolean resultsReceived = false;
+
     /**
      * The drop down popup that will display the results
      */
-    private SearchBoxDropDown dropDownPopup = null;
+    private SearchBoxDropDown<T> dropDownPopup = null;
+
+    /**
+     * Whether the drop down only renders the visible items
+     */
+    private boolean virtualScrolling = false;
+
+    /**
+     * The height in pixels of an item on the drop down, used for virtual scrolling
+     */
+    private int virtualScrollItemHeight = 0;
 
     /**
      * UiBinder interface for the composite
@@ -335,9 +404,8 @@ public abstract class SearchBox<T> extends Composite implements KeyUpHandler, Cl
      */
     public void setSelectedDisplayItem(SearchBoxRecordWidget<T> selectedDisplayItem) {
         if (selectedDisplayItem != null) {
-            this.selectedDisplayItem = selectedDisplayItem;
-            this.selectedObject = this.selectedDisplayItem.getItemVO();
-            textBox.setText(this.selectedDisplayItem.getItemSelectionText());
+            this.selectedObject = selectedDisplayItem.getItemVO();
+            textBox.setText(selectedDisplayItem.getItemSelectionText());
             destroyDropDownPopup();
         }
     }
@@ -387,28 +455,37 @@ public abstract class SearchBox<T> extends Composite implements KeyUpHandler, Cl
                 setSelectedDisplayItem(dropDownPopup.getSelectedItem());
             }
             onSubmit(selectedObject);
-        } else if (textBox.getText().length() >= 3 && !textBox.getText().equals(previousSearchString)) {
+        } else if (textBox.getText().length() >= this.minCharCount && !textBox.getText().equals(previousSearchString)) {
+            if (adaptiveRequestDelay != null) {
+                adaptiveRequestDelay.recordKeyStroke(Duration.currentTimeMillis());
+            }
             selectedObject = null;
             previousSearchString = textBox.getText();
             createDropDownPopup();
-            dropDownPopup.setCurrentSearchString(textBox.getText());
             if (delayedRequest != null) {
                 delayedRequest.cancel();
                 delayedRequest = null;
             }
-            delayedRequest = new Timer() {
-
-                @Override
-                public void run() {
-                    requestId++;
-                    retrieveResult(textBox.getText(), requestId);
-                    delayedRequest = null;
-                }
-            };
-            delayedRequest.schedule(requestDelayTime);
-        } else if (textBox.getText().length() < 3) {
+            if (!showCachedResults(textBox.getText())) {
+                dropDownPopup.setCurrentSearchString(textBox.getText());
+                delayedRequest = new Timer() {
+
+                    @Override
+                    public void run() {
+                        delayedRequest = null;
+                        makeRequest(textBox.getText());
+                    }
+                };
+                delayedRequest.schedule(adaptiveRequestDelay != null ? adaptiveRequestDelay.getDelay() : requestDelayTime);
+            }
+        } else if (textBox.getText().length() < this.minCharCount) {
             selectedObject = null;
             previousSearchString = textBox.getText();
+            if (delayedRequest != null) {
+                delayedRequest.cancel();
+                delayedRequest = null;
+            }
+            cancelPendingRequest();
             destroyDropDownPopup();
         }
     }
@@ -422,7 +499,8 @@ public abstract class SearchBox<T> extends Composite implements KeyUpHandler, Cl
      */
     private void createDropDownPopup() {
         if (dropDownPopup == null) {
-            dropDownPopup = new SearchBoxDropDown(resources);
+            dropDownPopup = new SearchBoxDropDown<T>(resources, displayWidgetPool);
+            dropDownPopup.setVirtualScrolling(virtualScrolling, virtualScrollItemHeight);
             //setting popup dropdown style overflow to hidden
             dropDownPopup.setStyleName(this.resources.searchBoxStyle().dropDownPopUpContainer());
             dropDownPopup.setPopupPosition(this.getAbsoluteLeft(), this.getAbsoluteTop() + this.getOffsetHeight());
@@ -438,6 +516,24 @@ public abstract class SearchBox<T> extends Composite implements KeyUpHandler, Cl
         }
     }
 
+    /**
+     * Enables or disables virtual scrolling on the drop down. When enabled only the
+     * items in the visible part of the drop down are rendered, which keeps long result
+     * lists responsive. Every item is expected to have the same height.
+     *
+     * @since 18 October 2026
+     *
+     * @param enabled - Whether virtual scrolling should be enabled
+     * @param itemHeight - The height in pixels of an item including the splitter between items
+     */
+    public void setVirtualScrolling(boolean enabled, int itemHeight) {
+        virtualScrolling = enabled;
+        virtualScrollItemHeight = itemHeight;
+        if (dropDownPopup != null) {
+            dropDownPopup.setVirtualScrolling(enabled, itemHeight);
+        }
+    }
+
     /**
      * Destroys the drop down that displays the search results
      *
@@ -463,7 +559,51 @@ public abstract class SearchBox<T> extends Composite implements KeyUpHandler, Cl
     public abstract void retrieveResult(String searchString, final int requestId);
 
     /**
-     * Sets the delay time before a request is made after a user has released a button
+     * Makes the request for the results of the search string, superseding the current
+     * request if it is still waiting for its results
+     *
+     * @since 18 October 2026
+     *
+     * @param searchString - The search string the user entered
+     */
+    private void makeRequest(String searchString) {
+        cancelPendingRequest();
+        requestId++;
+        requestedSearchString = searchString;
+        requestPending = true;
+        resultsReceived = false;
+        requestStartTime = Duration.currentTimeMillis();
+        retrieveResult(searchString, requestId);
+    }
+
+    /**
+     * Calls cancelRetrieveResult for the current request if it is still waiting for its results
+     *
+     * @since 18 October 2026
+     */
+    private void cancelPendingRequest() {
+        if (requestPending) {
+            requestPending = false;
+            cancelRetrieveResult(requestedSearchString, requestId);
+        }
+    }
+
+    /**
+     * Called when a request made using retrieveResult is superseded before its results were
+     * set, because the user changed the search string or the results were found in the cache.
+     * The results of the request will be discarded, override this to abort the service call.
+     *
+     * @since 18 October 2026
+     *
+     * @param searchString - The search string of the superseded request
+     * @param requestId - The id of the superseded request
+     */
+    public void cancelRetrieveResult(String searchString, int requestId) {
+    }
+
+    /**
+     * Sets the delay time before a request is made after a user has released a button.
+     * This disables the adaptive request delay.
      *
      * @param millisecondsDelay - The delay time in milliseconds
      *
@@ -472,10 +612,27 @@ public abstract class SearchBox<T> extends Composite implements KeyUpHandler, Cl
      */
     public void setRequestDelayTime(int millisecondsDelay) {
         requestDelayTime = millisecondsDelay;
+        adaptiveRequestDelay = null;
     }
 
     /**
-     * Set the data on the search box that was returned by the service call
+     * Adapts the delay before a request is made to how fast the user types and how long
+     * the service takes to respond, within the given bounds. The delay is slightly longer than
+     * the usual time between the user's key strokes with a part of the response time added.
+     *
+     * @since 18 October 2026
+     *
+     * @param minDelay - The minimum delay in milliseconds
+     * @param maxDelay - The maximum delay in milliseconds
+     */
+    public void setAdaptiveRequestDelay(int minDelay, int maxDelay) {
+        adaptiveRequestDelay = new AdaptiveRequestDelay(minDelay, maxDelay);
+    }
+
+    /**
+     * Set the data on the search box that was returned by the service call. The results
+     * are cached for the search string but are not used to narrow longer search strings,
+     * use setData(List, int, boolean) if the results are known to be complete.
      *
      * @param searchResults - The search results
      * @param requestId - The id of the request
@@ -484,18 +641,170 @@ public abstract class SearchBox<T> extends Composite implements KeyUpHandler, Cl
      * @since  22 January 2013
      */
     public void setData(List<T> searchResults, int requestId) {
+        setData(searchResults, requestId, false);
+    }
+
+    /**
+     * Set the data on the search box that was returned by the service call. Results of
+     * requests that have been superseded are discarded.
+     *
+     * @param searchResults - The search results
+     * @param requestId - The id of the request
+     * @param complete - Whether the results contain every item matching the search string, in
+     *                   which case searches that extend the search string are narrowed locally
+     *
+     * @since 18 October 2026
+     */
+    public void setData(List<T> searchResults, int requestId, boolean complete) {
         if (requestId == this.requestId) {
-            currentDisplayItems.clear();
-            for (T resultItem : searchResults) {
-                SearchBoxRecordWidget<T> tempDisplayItem = createDisplayWidgetInstance();
-                tempDisplayItem.setItemVO(resultItem);
-                tempDisplayItem.setParentSearchBox(this);
-                currentDisplayItems.add(tempDisplayItem);
+            recordResultsReceived();
+            requestPending = false;
+            resultCache.put(requestedSearchString, searchResults, complete);
+            showResults(searchResults);
+        }
+    }
+
+    /**
+     * Adds results to the results already returned for the request, for services that
+     * return the first results of a search before the rest. The results set for the request
+     * are replaced when the first results are added, after that the results are added to the
+     * drop down without rendering the displayed results again. A progress message is shown
+     * until the last results are added. Results of requests that have been superseded are
+     * discarded.
+     *
+     * @since 18 October 2026
+     *
+     * @param searchResults - The results that were returned since the previous call
+     * @param requestId - The id of the request
+     * @param done - Whether these are the last results of the request
+     */
+    public void appendData(List<T> searchResults, int requestId, boolean done) {
+        if (requestId != this.requestId) {
+            return;
+        }
+        boolean firstResults = !resultsReceived;
+        recordResultsReceived();
+        if (firstResults) {
+            currentResults.clear();
+        }
+        currentResults.addAll(searchResults);
+        if (dropDownPopup != null) {
+            if (firstResults) {
+                dropDownPopup.setSelectableItems(currentResults, !done);
+            } else {
+                dropDownPopup.appendSelectableItems(searchResults, done);
             }
-            if (dropDownPopup != null) {
-                dropDownPopup.setSelectableItems(currentDisplayItems);
+        }
+        if (done) {
+            requestPending = false;
+            resultCache.put(requestedSearchString, currentResults, false);
+        }
+    }
+
+    /**
+     * Records that results were received for the current request, measuring the response
+     * time when the first results are received
+     *
+     * @since 18 October 2026
+     */
+    private void recordResultsReceived() {
+        if (!resultsReceived && requestPending && adaptiveRequestDelay != null) {
+            adaptiveRequestDelay.recordResponseTime(Duration.currentTimeMillis() - requestStartTime);
+        }
+        resultsReceived = true;
+    }
+
+    /**
+     * Displays results on the drop down
+     *
+     * @since 18 October 2026
+     *
+     * @param searchResults - The results to display
+     */
+    private void showResults(List<T> searchResults) {
+        currentResults.clear();
+        currentResults.addAll(searchResults);
+        if (dropDownPopup != null) {
+            dropDownPopup.setSelectableItems(currentResults);
+        }
+    }
+
+    /**
+     * Displays the cached results for the search string, or narrows the complete cached
+     * results of a shorter search string the search string starts with. Any request that is
+     * still busy is superseded when cached results are displayed.
+     *
+     * @since 18 October 2026
+     *
+     * @param searchString - The search string the user entered
+     *
+     * @return Whether cached results were displayed
+     */
+    private boolean showCachedResults(String searchString) {
+        SearchResultCache.Entry<T> entry = resultCache.get(searchString);
+        List<T> results;
+        if (entry != null) {
+            results = entry.getResults();
+        } else {
+            entry = resultCache.getNarrowable(searchString);
+            if (entry == null) {
+                return false;
             }
+            results = new ArrayList<T>();
+            for (T result : entry.getResults()) {
+                if (matchesSearchString(result, searchString)) {
+                    results.add(result);
+                }
+            }
+            resultCache.put(searchString, results, true);
         }
+        cancelPendingRequest();
+        requestId++;
+        requestedSearchString = searchString;
+        resultsReceived = true;
+        showResults(results);
+        return true;
+    }
+
+    /**
+     * Checks whether a result of a complete search matches a longer search string, used to
+     * narrow cached results locally. By default the selection text of the result is checked
+     * to contain the search string ignoring case, override this to match the search service.
+     *
+     * @since 18 October 2026
+     *
+     * @param result - A result of a search the search string extends
+     * @param searchString - The search string the user entered
+     *
+     * @return Whether the result matches the search string
+     */
+    protected boolean matchesSearchString(T result, String searchString) {
+        if (itemReader == null) {
+            itemReader = createDisplayWidgetInstance();
+        }
+        itemReader.setItemVO(result);
+        String selectionText = itemReader.getItemSelectionText();
+        return selectionText != null && selectionText.toLowerCase().contains(searchString.toLowerCase());
+    }
+
+    /**
+     * Sets the maximum amount of searches kept in the result cache, 0 disables the cache
+     *
+     * @since 18 October 2026
+     *
+     * @param maxEntries - The maximum amount of searches to keep
+     */
+    public void setResultCacheSize(int maxEntries) {
+        resultCache.setMaxEntries(maxEntries);
+    }
+
+    /**
+     * Removes all the cached results, for example when the data that is searched changed
+     *
+     * @since 18 October 2026
+     */
+    public void clearResultCache() {
+        resultCache.clear();
     }
 
     /**
@@ -13,8 +13,11 @@
  */
 package org.ssgwt.client.ui.searchbox;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import org.ssgwt.client.ui.VirtualListRenderer;
+import org.ssgwt.client.ui.WidgetPool;
 import org.ssgwt.client.ui.searchbox.SearchBox.SearchBoxResources;
 import org.ssgwt.client.ui.searchbox.recorddisplays.SearchBoxRecordWidget;
 
@@ -23,10 +26,13 @@ import com.google.gwt.event.dom.client.MouseOutEvent;
 import com.google.gwt.event.dom.client.MouseOutHandler;
 import com.google.gwt.event.dom.client.MouseOverEvent;
 import com.google.gwt.event.dom.client.MouseOverHandler;
+import com.google.gwt.event.logical.shared.CloseEvent;
+import com.google.gwt.event.logical.shared.CloseHandler;
 import com.google.gwt.user.client.ui.FlowPanel;
 import com.google.gwt.user.client.ui.Label;
 import com.google.gwt.user.client.ui.PopupPanel;
 import com.google.gwt.user.client.ui.SimplePanel;
+import com.google.gwt.user.client.ui.Widget;
 
 /**
  * The drop down of the search box that holds the results
@@ -51,7 +57,17 @@ public class SearchBoxDropDown<T> extends PopupPanel {
     /**
      * The items that should be displayed in the drop down
      */
-    private List<SearchBoxRecordWidget<T>> resultDisplayItems = null;
+    private List<T> resultItems = null;
+
+    /**
+     * Renders the display widgets of the items into the main panel
+     */
+    private final VirtualListRenderer<SearchBoxRecordWidget<T>> listRenderer;
+
+    /**
+     * The height in pixels assumed for the visible part of the drop down before it is displayed
+     */
+    private static final int DEFAULT_VIEWPORT_HEIGHT = 250;
     
     /**
      * The main panel that holds the result display items
@@ -62,6 +78,21 @@ public class SearchBoxDropDown<T> extends PopupPanel {
      * This info label that holds the info messages displayed to the user
      */
     private Label infoLabel = new Label();
+
+    /**
+     * The label displayed after the items while more results are still being loaded
+     */
+    private Label progressLabel = new Label(LOADING_MORE_TEXT);
+
+    /**
+     * Whether more results are still being loaded for the displayed items
+     */
+    private boolean loadingMore = false;
+
+    /**
+     * The text displayed after the items while more results are still being loaded
+     */
+    private static final String LOADING_MORE_TEXT = "Loading more results...";
     
     /**
      * The currently selected item
@@ -82,11 +113,12 @@ public class SearchBoxDropDown<T> extends PopupPanel {
      * Class constructor
      * 
      * @param resources
+     * @param widgetPool - The pool the display widgets of the items are retrieved from
      * 
      * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
      * @since  22 January 2013
      */
-    public SearchBoxDropDown(SearchBoxResources resources) {
+    public SearchBoxDropDown(SearchBoxResources resources, WidgetPool<SearchBoxRecordWidget<T>> widgetPool) {
         super(true);
         this.setStyleName("");
         this.resources = resources;
@@ -96,6 +128,120 @@ public class SearchBoxDropDown<T> extends PopupPanel {
         addInfoMessages();
         mainPanel.getElement().getStyle().setProperty("maxHeight", "250px");
         mainPanel.getElement().getStyle().setProperty("overflow", "auto");
+        progressLabel.setStyleName(this.resources.searchBoxStyle().infoText());
+        listRenderer = new VirtualListRenderer<SearchBoxRecordWidget<T>>(mainPanel, widgetPool, DEFAULT_VIEWPORT_HEIGHT) {
+
+            /**
+             * Retrieves the amount of results, 0 while there are no results to display
+             *
+             * @return The amount of results
+             */
+            @Override
+            protected int getItemCount() {
+                return hasResults && resultItems != null ? resultItems.size() : 0;
+            }
+
+            /**
+             * Updates a display widget to display a result
+             *
+             * @param displayItem - The display widget retrieved from the pool
+             * @param itemIndex - The index of the item in the list of items
+             */
+            @Override
+            protected void updateItem(SearchBoxRecordWidget<T> displayItem, int itemIndex) {
+                displayItem.setItemVO(resultItems.get(itemIndex));
+                displayItem.setSelectedState(itemIndex == selectedIndex);
+            }
+
+            /**
+             * Creates the splitter displayed between two results
+             *
+             * @return The splitter
+             */
+            @Override
+            protected Widget createSeparator() {
+                SimplePanel recordsSplitter = new SimplePanel();
+                recordsSplitter.setHeight("1px");
+                recordsSplitter.setStyleName("itemSplitter");
+                return recordsSplitter;
+            }
+
+            /**
+             * Adds a widget to the end of the list, before the progress message if it is displayed
+             *
+             * @param widget - The widget to add
+             */
+            @Override
+            protected void addToPanel(Widget widget) {
+                if (progressLabel.getParent() == mainPanel) {
+                    mainPanel.insert(widget, mainPanel.getWidgetIndex(progressLabel));
+                } else {
+                    mainPanel.add(widget);
+                }
+            }
+
+            /**
+             * Clears the selected style of a display widget before it is returned to the pool
+             *
+             * @param displayItem - The display widget that is no longer displayed
+             */
+            @Override
+            protected void onItemReleased(SearchBoxRecordWidget<T> displayItem) {
+                displayItem.setSelectedState(false);
+            }
+
+            /**
+             * Keeps the progress message after the rendered results
+             */
+            @Override
+            protected void onItemsRendered() {
+                updateProgressLabel();
+            }
+        };
+        mainPanel.addDomHandler(new MouseOverHandler() {
+
+            /**
+             * The event that fire on mouse over of any of the items
+             *
+             * @param event - Mouse Over Event
+             */
+            @Override
+            public void onMouseOver(MouseOverEvent event) {
+                int itemIndex = listRenderer.getItemIndex(event.getNativeEvent().getEventTarget());
+                if (itemIndex >= 0) {
+                    setItemSelectedState(selectedIndex, false);
+                    listRenderer.getRenderedItem(itemIndex).setSelectedState(true);
+                    selectedIndex = itemIndex;
+                }
+            }
+        }, MouseOverEvent.getType());
+        mainPanel.addDomHandler(new MouseOutHandler() {
+
+            /**
+             * The event that fire on mouse out of any of the items
+             *
+             * @param event - Mouse out Event
+             */
+            @Override
+            public void onMouseOut(MouseOutEvent event) {
+                SearchBoxRecordWidget<T> displayItem = listRenderer.getRenderedItem(listRenderer.getItemIndex(event.getNativeEvent().getEventTarget()));
+                if (displayItem != null) {
+                    displayItem.setSelectedState(false);
+                }
+            }
+        }, MouseOutEvent.getType());
+        this.addCloseHandler(new CloseHandler<PopupPanel>() {
+
+            /**
+             * Returns the display widgets to the pool once the drop down is closed
+             *
+             * @param event - The close event
+             */
+            @Override
+            public void onClose(CloseEvent<PopupPanel> event) {
+                listRenderer.releaseRenderedItems();
+            }
+        });
     }
     
     /**
@@ -125,16 +271,14 @@ public class SearchBoxDropDown<T> extends PopupPanel {
      * @return The display text for the item
      */
     public String selectNextItem() {
-        if (hasResults && selectedIndex < resultDisplayItems.size() - 1) {
-            if (selectedIndex >= 0) {
-                resultDisplayItems.get(selectedIndex).setSelectedState(false);
-            }
+        if (hasResults && selectedIndex < resultItems.size() - 1) {
+            setItemSelectedState(selectedIndex, false);
             selectedIndex++;
-            resultDisplayItems.get(selectedIndex).setSelectedState(true);
-            resultDisplayItems.get(selectedIndex).getElement().scrollIntoView();
+            showSelectedItem();
         }
-        if (selectedIndex >= 0 && resultDisplayItems.size() > selectedIndex) {
-            return resultDisplayItems.get(selectedIndex).getItemSelectionText();
+        SearchBoxRecordWidget<T> selectedItem = getSelectedItem();
+        if (selectedItem != null) {
+            return selectedItem.getItemSelectionText();
         } else {
             return null;
         }
@@ -151,15 +295,15 @@ public class SearchBoxDropDown<T> extends PopupPanel {
      */
     public String selectPreviousItem() {
         if (hasResults && selectedIndex >= 0) {
-            resultDisplayItems.get(selectedIndex).setSelectedState(false);
+            setItemSelectedState(selectedIndex, false);
             selectedIndex--;
             if (selectedIndex >= 0) {
-                resultDisplayItems.get(selectedIndex).setSelectedState(true);
-                resultDisplayItems.get(selectedIndex).getElement().scrollIntoView();
+                showSelectedItem();
             }
         }
-        if (selectedIndex >= 0 && resultDisplayItems.size() > selectedIndex) {
-            return resultDisplayItems.get(selectedIndex).getItemSelectionText();
+        SearchBoxRecordWidget<T> selectedItem = getSelectedItem();
+        if (selectedItem != null) {
+            return selectedItem.getItemSelectionText();
         } else {
             return null;
         }
@@ -207,69 +351,127 @@ public class SearchBoxDropDown<T> extends PopupPanel {
     }
     
     /**
-     * Updates the items that should be displayed on the drop down for the user
+     * Enables or disables virtual scrolling. When enabled only the items in the visible
+     * part of the drop down are rendered and the space of the other items is taken up by
+     * spacers, so every item is expected to have the same height.
+     * 
+     * @since 18 October 2026
+     * 
+     * @param enabled - Whether virtual scrolling should be enabled
+     * @param itemHeight - The height in pixels of a rendered item including the splitter
+     */
+    public void setVirtualScrolling(boolean enabled, int itemHeight) {
+        listRenderer.setVirtualScrolling(enabled, itemHeight);
+        if (resultItems != null) {
+            setSelectableItems(resultItems, loadingMore);
+        }
+    }
+
+    /**
+     * Updates the items that should be displayed on the drop down for the user. Display
+     * widgets are only created for the items that are rendered. With virtual scrolling
+     * only the visible items are rendered, otherwise rendering starts with the first items
+     * and more are rendered as the user scrolls or selects further down the list.
      * 
-     * @param resultDisplayItems
+     * @param resultItems - The items returned by the search
      * 
      * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
      * @since  22 January 2013
      */
-    public void setSelectableItems(List<SearchBoxRecordWidget<T>> resultDisplayItems) {
-        waitingForResults = false;
-        hasResults = !(resultDisplayItems.size() == 0);
-        this.resultDisplayItems = resultDisplayItems;
+    public void setSelectableItems(List<T> resultItems) {
+        setSelectableItems(resultItems, false);
+    }
+
+    /**
+     * Replaces the items displayed on the drop down with the first results of a search.
+     * While more results are still being loaded a progress message is displayed after the
+     * items, or the waiting message if there are no results yet.
+     * 
+     * @since 18 October 2026
+     * 
+     * @param resultItems - The results returned by the search so far
+     * @param loadingMore - Whether more results are still being loaded
+     */
+    public void setSelectableItems(List<T> resultItems, boolean loadingMore) {
+        waitingForResults = loadingMore && resultItems.isEmpty();
+        this.loadingMore = loadingMore;
+        listRenderer.releaseRenderedItems();
+        hasResults = !(resultItems.size() == 0);
+        this.resultItems = new ArrayList<T>(resultItems);
+        selectedIndex = -1;
         if (hasResults) {
-            mainPanel.clear();
-            int count = 0;
-            for (final SearchBoxRecordWidget<T> displayItem : this.resultDisplayItems) {
-                if (count > 0) {
-                    SimplePanel recordsSplitter = new SimplePanel();
-                    recordsSplitter.setHeight("1px");
-                    recordsSplitter.setStyleName("itemSplitter");
-                    mainPanel.add(recordsSplitter);
-                }
-                mainPanel.add(displayItem);
-                final int itemId = count;
-                displayItem.addMouseOverHandler(new MouseOverHandler() {
-                    
-                    /**
-                     * The event that fire on mouse over
-                     * 
-                     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
-                     * @since  22 January 2013
-                     * 
-                     * @param event - Mouse Over Event
-                     */
-                    @Override
-                    public void onMouseOver(MouseOverEvent event) {
-                        if (selectedIndex >= 0) {
-                            SearchBoxDropDown.this.resultDisplayItems.get(selectedIndex).setSelectedState(false);
-                        }
-                        displayItem.setSelectedState(true);
-                        selectedIndex = itemId;
-                    }
-                });
-                displayItem.addMouseOutHandler(new MouseOutHandler() {
-                    
-                    /**
-                     * The event that fire on mouse out
-                     * 
-                     * @author Johannes Gryffenberg <johannes.gryffenberg@gmail.com>
-                     * @since  22 January 2013
-                     * 
-                     * @param event - Mouse out Event
-                     */
-                    @Override
-                    public void onMouseOut(MouseOutEvent event) {
-                        displayItem.setSelectedState(false);
-                    }
-                });
-                count++;
-            }
+            listRenderer.render();
         } else {
             addInfoMessages();
         }
     }
+
+    /**
+     * Adds more results of a search to the items displayed on the drop down. The items
+     * that are already displayed are not rendered again.
+     * 
+     * @since 18 October 2026
+     * 
+     * @param moreItems - The results that were added
+     * @param done - Whether all the results of the search have been loaded
+     */
+    public void appendSelectableItems(List<T> moreItems, boolean done) {
+        if (!hasResults) {
+            if (!moreItems.isEmpty() || done) {
+                setSelectableItems(moreItems, !done);
+            }
+            return;
+        }
+        resultItems.addAll(moreItems);
+        loadingMore = !done;
+        listRenderer.renderAppendedItems();
+        updateProgressLabel();
+    }
+
+    /**
+     * Displays the progress message after the items while more results are being loaded
+     * and removes it once all the results have been loaded
+     * 
+     * @since 18 October 2026
+     */
+    private void updateProgressLabel() {
+        if (loadingMore && hasResults) {
+            if (progressLabel.getParent() != mainPanel) {
+                mainPanel.add(progressLabel);
+            }
+        } else {
+            progressLabel.removeFromParent();
+        }
+    }
+
+    /**
+     * Sets the selected state of an item if the item is rendered
+     * 
+     * @since 18 October 2026
+     * 
+     * @param itemIndex - The index of the item in the list of items
+     * @param selected - Whether the item should be in the selected state
+     */
+    private void setItemSelectedState(int itemIndex, boolean selected) {
+        SearchBoxRecordWidget<T> displayItem = listRenderer.getRenderedItem(itemIndex);
+        if (displayItem != null) {
+            displayItem.setSelectedState(selected);
+        }
+    }
+
+    /**
+     * Renders the selected item if needed, scrolls it into view and changes it to the selected style
+     * 
+     * @since 18 October 2026
+     */
+    private void showSelectedItem() {
+        listRenderer.ensureItemRendered(selectedIndex);
+        SearchBoxRecordWidget<T> displayItem = listRenderer.getRenderedItem(selectedIndex);
+        if (displayItem != null) {
+            displayItem.setSelectedState(true);
+            displayItem.getElement().scrollIntoView();
+        }
+    }
     
     /**
      * Retrieves the currently selected item
@@ -280,8 +482,9 @@ public class SearchBoxDropDown<T> extends PopupPanel {
      * @return The item that is currently selected
      */
     public SearchBoxRecordWidget<T> getSelectedItem() {
-        if (selectedIndex >= 0 && selectedIndex < resultDisplayItems.size()) {
-            return resultDisplayItems.get(selectedIndex);
+        if (selectedIndex >= 0 && resultItems != null && selectedIndex < resultItems.size()) {
+            listRenderer.ensureItemRendered(selectedIndex);
+            return listRenderer.getRenderedItem(selectedIndex);
         } else {
             return null;
         }
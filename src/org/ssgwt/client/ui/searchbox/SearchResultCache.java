@@ -0,0 +1,176 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.client.ui.searchbox;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded least recently used cache of the results returned for the searches made by a
+ * search box.
+ *
+ * Results are stored against the search string they were retrieved for, along with
+ * whether the results are complete. The results of a complete search contain every item
+ * that matches the search string, so they can be narrowed locally for any search string
+ * that starts with it.
+ *
+ * @since 18 October 2026
+ *
+ * @param <T> The type of the VO that holds the data displayed by the search box
+ */
+class SearchResultCache<T> {
+
+    /**
+     * The results of a single search
+     *
+     * @param <T> The type of the VO that holds the data displayed by the search box
+     */
+    static class Entry<T> {
+
+        /**
+         * The results of the search
+         */
+        private final List<T> results;
+
+        /**
+         * Whether the results contain every item that matches the search string
+         */
+        private final boolean complete;
+
+        /**
+         * Class constructor
+         *
+         * @param results - The results of the search
+         * @param complete - Whether the results contain every item that matches the search string
+         */
+        Entry(List<T> results, boolean complete) {
+            this.results = results;
+            this.complete = complete;
+        }
+
+        /**
+         * Retrieves the results of the search
+         *
+         * @return The results of the search
+         */
+        List<T> getResults() {
+            return results;
+        }
+
+        /**
+         * Retrieves whether the results contain every item that matches the search string
+         *
+         * @return Whether the results are complete
+         */
+        boolean isComplete() {
+            return complete;
+        }
+    }
+
+    /**
+     * The maximum amount of searches to keep in the cache
+     */
+    private int maxEntries;
+
+    /**
+     * The cached results in order of use
+     */
+    private final LinkedHashMap<String, Entry<T>> entries = new LinkedHashMap<String, Entry<T>>(16, 0.75f, true) {
+
+        /**
+         * Removes the least recently used results once the cache is full
+         *
+         * @param eldest - The least recently used results
+         *
+         * @return Whether the results should be removed
+         */
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry<T>> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    /**
+     * Class constructor
+     *
+     * @param maxEntries - The maximum amount of searches to keep in the cache
+     */
+    SearchResultCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Changes the maximum amount of searches to keep in the cache, removing all the cached
+     * results if the size changes
+     *
+     * @param maxEntries - The maximum amount of searches to keep in the cache
+     */
+    void setMaxEntries(int maxEntries) {
+        if (this.maxEntries != maxEntries) {
+            this.maxEntries = maxEntries;
+            entries.clear();
+        }
+    }
+
+    /**
+     * Retrieves the results stored for the search string and marks them as recently used
+     *
+     * @param searchString - The search string
+     *
+     * @return The cached results or null if the search string is not cached
+     */
+    Entry<T> get(String searchString) {
+        return entries.get(searchString);
+    }
+
+    /**
+     * Retrieves the complete results of the longest cached search string that the search
+     * string starts with
+     *
+     * @param searchString - The search string
+     *
+     * @return The complete cached results that can be narrowed, null if there are none
+     */
+    Entry<T> getNarrowable(String searchString) {
+        for (int length = searchString.length() - 1; length > 0; length--) {
+            Entry<T> entry = entries.get(searchString.substring(0, length));
+            if (entry != null && entry.isComplete()) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Stores the results against the search string
+     *
+     * @param searchString - The search string the results were retrieved for
+     * @param results - The results of the search
+     * @param complete - Whether the results contain every item that matches the search string
+     */
+    void put(String searchString, List<T> results, boolean complete) {
+        if (maxEntries > 0) {
+            entries.put(searchString, new Entry<T>(new ArrayList<T>(results), complete));
+        }
+    }
+
+    /**
+     * Removes all the results from the cache
+     */
+    void clear() {
+        entries.clear();
+    }
+}
@@ -0,0 +1,288 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.share.i18n;
+
+import java.util.Date;
+
+import com.google.gwt.i18n.shared.TimeZone;
+
+/**
+ * A time zone decoded from the compact time zone data by CompactTimeZoneData.
+ *
+ * It behaves the same as the time zones GWT creates from the JSON time zone data, but
+ * does not need the data to be parsed as JSON, so it can be used on the server as well.
+ * Offsets follow the GWT convention of minutes west of UTC.
+ *
+ * @since 18 October 2026
+ */
+public class CompactTimeZone implements TimeZone {
+
+    /**
+     * The index of the standard short name in the names
+     */
+    private static final int STD_SHORT_NAME = 0;
+
+    /**
+     * The index of the standard long name in the names
+     */
+    private static final int STD_LONG_NAME = 1;
+
+    /**
+     * The index of the daylight saving short name in the names
+     */
+    private static final int DLT_SHORT_NAME = 2;
+
+    /**
+     * The index of the daylight saving long name in the names
+     */
+    private static final int DLT_LONG_NAME = 3;
+
+    /**
+     * The id of the time zone, like Africa/Johannesburg
+     */
+    private final String id;
+
+    /**
+     * The standard offset of the time zone in minutes west of UTC
+     */
+    private final int standardOffset;
+
+    /**
+     * The short and long standard names followed by the daylight saving names if the time zone has them
+     */
+    private final String[] names;
+
+    /**
+     * The hours since the epoch at which the daylight adjustment changes, in ascending order
+     */
+    private final int[] transitionPoints;
+
+    /**
+     * The daylight adjustment in minutes from each transition point on
+     */
+    private final int[] adjustments;
+
+    /**
+     * Class constructor
+     *
+     * @since 18 October 2026
+     *
+     * @param id - The id of the time zone
+     * @param standardOffset - The standard offset of the time zone in minutes east of UTC, as in the time zone data
+     * @param names - The short and long standard names followed by the daylight saving names
+     * @param transitionPoints - The hours since the epoch at which the daylight adjustment changes, may be shared
+     * @param adjustments - The daylight adjustment in minutes from each transition point on, may be shared
+     */
+    public CompactTimeZone(String id, int standardOffset, String[] names, int[] transitionPoints, int[] adjustments) {
+        this.id = id;
+        this.standardOffset = -standardOffset;
+        this.names = names;
+        this.transitionPoints = transitionPoints;
+        this.adjustments = adjustments;
+    }
+
+    /**
+     * Retrieves the daylight adjustment in minutes at a given date
+     *
+     * @since 18 October 2026
+     *
+     * @param date - The date to retrieve the adjustment for
+     *
+     * @return The daylight adjustment in minutes
+     */
+    @Override
+    public int getDaylightAdjustment(Date date) {
+        if (transitionPoints == null || transitionPoints.length == 0) {
+            return 0;
+        }
+        long timeInHours = date.getTime() / 1000 / 3600;
+        int low = 0;
+        int high = transitionPoints.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (timeInHours >= transitionPoints[middle]) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low == 0 ? 0 : adjustments[low - 1];
+    }
+
+    /**
+     * Retrieves the GMT representation of the offset at a given date, like GMT+02:00
+     *
+     * @since 18 October 2026
+     *
+     * @param date - The date to retrieve the offset for
+     *
+     * @return The GMT representation of the offset
+     */
+    @Override
+    public String getGMTString(Date date) {
+        int offset = getOffset(date);
+        char[] data = {'G', 'M', 'T', '-', '0', '0', ':', '0', '0'};
+        if (offset <= 0) {
+            data[3] = '+';
+            offset = -offset;
+        }
+        data[4] += (offset / 60) / 10;
+        data[5] += (offset / 60) % 10;
+        data[7] += (offset % 60) / 10;
+        data[8] += offset % 10;
+        return new String(data);
+    }
+
+    /**
+     * Retrieves the id of the time zone
+     *
+     * @since 18 October 2026
+     *
+     * @return The id of the time zone, like Africa/Johannesburg
+     */
+    @Override
+    public String getID() {
+        return id;
+    }
+
+    /**
+     * Retrieves the ISO 8601 representation of the offset at a given date, like +02:00
+     *
+     * @since 18 October 2026
+     *
+     * @param date - The date to retrieve the offset for
+     *
+     * @return The ISO 8601 representation of the offset
+     */
+    @Override
+    public String getISOTimeZoneString(Date date) {
+        int offset = -getOffset(date);
+        char[] data = {'+', '0', '0', ':', '0', '0'};
+        if (offset < 0) {
+            data[0] = '-';
+            offset = -offset;
+        }
+        data[1] += (offset / 60) / 10;
+        data[2] += (offset / 60) % 10;
+        data[4] += (offset % 60) / 10;
+        data[5] += offset % 10;
+        return new String(data);
+    }
+
+    /**
+     * Retrieves the long name of the time zone at a given date
+     *
+     * @since 18 October 2026
+     *
+     * @param date - The date to retrieve the name for
+     *
+     * @return The long name, the daylight saving name if daylight saving is in effect
+     */
+    @Override
+    public String getLongName(Date date) {
+        return getName(isDaylightTime(date) ? DLT_LONG_NAME : STD_LONG_NAME);
+    }
+
+    /**
+     * Retrieves the offset of the time zone at a given date
+     *
+     * @since 18 October 2026
+     *
+     * @param date - The date to retrieve the offset for
+     *
+     * @return The offset in minutes west of UTC
+     */
+    @Override
+    public int getOffset(Date date) {
+        return standardOffset - getDaylightAdjustment(date);
+    }
+
+    /**
+     * Retrieves the RFC 822 representation of the offset at a given date, like +0200
+     *
+     * @since 18 October 2026
+     *
+     * @param date - The date to retrieve the offset for
+     *
+     * @return The RFC 822 representation of the offset
+     */
+    @Override
+    public String getRFCTimeZoneString(Date date) {
+        int offset = -getOffset(date);
+        char[] data = {'+', '0', '0', '0', '0'};
+        if (offset < 0) {
+            data[0] = '-';
+            offset = -offset;
+        }
+        data[1] += (offset / 60) / 10;
+        data[2] += (offset / 60) % 10;
+        data[3] += (offset % 60) / 10;
+        data[4] += offset % 10;
+        return new String(data);
+    }
+
+    /**
+     * Retrieves the short name of the time zone at a given date
+     *
+     * @since 18 October 2026
+     *
+     * @param date - The date to retrieve the name for
+     *
+     * @return The short name, the daylight saving name if daylight saving is in effect
+     */
+    @Override
+    public String getShortName(Date date) {
+        return getName(isDaylightTime(date) ? DLT_SHORT_NAME : STD_SHORT_NAME);
+    }
+
+    /**
+     * Retrieves the standard offset of the time zone
+     *
+     * @since 18 October 2026
+     *
+     * @return The standard offset in minutes west of UTC
+     */
+    @Override
+    public int getStandardOffset() {
+        return standardOffset;
+    }
+
+    /**
+     * Checks whether daylight saving is in effect at a given date
+     *
+     * @since 18 October 2026
+     *
+     * @param date - The date to check
+     *
+     * @return Whether daylight saving is in effect
+     */
+    @Override
+    public boolean isDaylightTime(Date date) {
+        return getDaylightAdjustment(date) > 0;
+    }
+
+    /**
+     * Retrieves a name of the time zone, falling back to the standard name if the time zone
+     * has no daylight saving names
+     *
+     * @since 18 October 2026
+     *
+     * @param index - The index of the name
+     *
+     * @return The name
+     */
+    private String getName(int index) {
+        return index < names.length ? names[index] : names[index - DLT_SHORT_NAME];
+    }
+}
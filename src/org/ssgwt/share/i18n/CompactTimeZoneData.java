@@ -0,0 +1,295 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.share.i18n;
+
+import java.util.HashMap;
+
+/**
+ * Decodes time zones from the compact time zone data generated from the JSON time zone data.
+ *
+ * The compact data consists of:
+ * <ul>
+ * <li>names - Every distinct time zone name, referenced by index from the time zones</li>
+ * <li>adjustments - The encoded distinct daylight adjustments in minutes, referenced by index from the transitions</li>
+ * <li>transitions - The encoded distinct transition lists, each a list of pairs of the hours since the previous
+ * transition (since the epoch for the first) and the index of the adjustment from that transition on</li>
+ * <li>zones - A record for every time zone holding the id, a colon and the encoded standard offset, the index
+ * of the transition list plus one (zero if the time zone has no transitions), the amount of names and the index
+ * of each name</li>
+ * </ul>
+ * Numbers are encoded as variable length base 64 digits, five bits per digit with the sixth bit set on every
+ * digit but the last of a number. Signed numbers are zig zag encoded.
+ *
+ * Time zones are only decoded when they are first retrieved, and time zones that share a transition list
+ * share the decoded transitions.
+ *
+ * @since 18 October 2026
+ */
+public class CompactTimeZoneData {
+
+    /**
+     * The digits used to encode numbers
+     */
+    public static final String DIGITS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+
+    /**
+     * The amount of bits of a number held by every digit
+     */
+    public static final int DIGIT_BITS = 5;
+
+    /**
+     * The bit set on a digit that is followed by more digits of the same number
+     */
+    public static final int CONTINUATION_BIT = 1 << DIGIT_BITS;
+
+    /**
+     * The character that separates the id of a time zone from the rest of its record
+     */
+    public static final char ID_SEPARATOR = ':';
+
+    /**
+     * The value of every digit character, -1 for characters that are not digits
+     */
+    private static final int[] DIGIT_VALUES = new int[128];
+
+    static {
+        for (int x = 0; x < DIGIT_VALUES.length; x++) {
+            DIGIT_VALUES[x] = -1;
+        }
+        for (int x = 0; x < DIGITS.length(); x++) {
+            DIGIT_VALUES[DIGITS.charAt(x)] = x;
+        }
+    }
+
+    /**
+     * Every distinct time zone name
+     */
+    private final String[] names;
+
+    /**
+     * The distinct daylight adjustments in minutes
+     */
+    private final int[] adjustmentValues;
+
+    /**
+     * The encoded distinct transition lists
+     */
+    private final String[] transitions;
+
+    /**
+     * The encoded time zone records
+     */
+    private final String[] zones;
+
+    /**
+     * The decoded transition points of every transition list that has been used
+     */
+    private final int[][] transitionPoints;
+
+    /**
+     * The decoded adjustments of every transition list that has been used
+     */
+    private final int[][] adjustments;
+
+    /**
+     * The index of the record of every time zone by id, created on the first lookup
+     */
+    private HashMap<String, Integer> zoneIndexes;
+
+    /**
+     * The time zones that have been decoded by id
+     */
+    private final HashMap<String, CompactTimeZone> timeZones = new HashMap<String, CompactTimeZone>();
+
+    /**
+     * Class constructor
+     *
+     * @since 18 October 2026
+     *
+     * @param names - Every distinct time zone name
+     * @param adjustments - The encoded distinct daylight adjustments
+     * @param transitions - The encoded distinct transition lists
+     * @param zones - The encoded time zone records
+     */
+    public CompactTimeZoneData(String[] names, String adjustments, String[] transitions, String[] zones) {
+        this.names = names;
+        this.adjustmentValues = decodeValues(adjustments);
+        for (int x = 0; x < adjustmentValues.length; x++) {
+            adjustmentValues[x] = decodeSigned(adjustmentValues[x]);
+        }
+        this.transitions = transitions;
+        this.zones = zones;
+        this.transitionPoints = new int[transitions.length][];
+        this.adjustments = new int[transitions.length][];
+    }
+
+    /**
+     * Retrieves the ids of all the time zones in the data
+     *
+     * @since 18 October 2026
+     *
+     * @return The ids of the time zones in the order of the data
+     */
+    public String[] getTimeZoneIds() {
+        String[] ids = new String[zones.length];
+        for (int x = 0; x < zones.length; x++) {
+            ids[x] = zones[x].substring(0, zones[x].indexOf(ID_SEPARATOR));
+        }
+        return ids;
+    }
+
+    /**
+     * Retrieves a time zone, decoding it the first time it is retrieved
+     *
+     * @since 18 October 2026
+     *
+     * @param id - The time zone id like Africa/Johannesburg
+     *
+     * @return The time zone, null if there is no time zone with the id
+     */
+    public synchronized CompactTimeZone getTimeZone(String id) {
+        CompactTimeZone timeZone = timeZones.get(id);
+        if (timeZone == null) {
+            if (zoneIndexes == null) {
+                zoneIndexes = new HashMap<String, Integer>();
+                for (int x = 0; x < zones.length; x++) {
+                    zoneIndexes.put(zones[x].substring(0, zones[x].indexOf(ID_SEPARATOR)), x);
+                }
+            }
+            Integer index = zoneIndexes.get(id);
+            if (index == null) {
+                return null;
+            }
+            timeZone = decodeTimeZone(zones[index]);
+            timeZones.put(id, timeZone);
+        }
+        return timeZone;
+    }
+
+    /**
+     * Decodes the record of a time zone
+     *
+     * @since 18 October 2026
+     *
+     * @param record - The encoded record of the time zone
+     *
+     * @return The time zone
+     */
+    private CompactTimeZone decodeTimeZone(String record) {
+        int separator = record.indexOf(ID_SEPARATOR);
+        int[] values = decodeValues(record.substring(separator + 1));
+        int standardOffset = decodeSigned(values[0]);
+        int transitionIndex = values[1] - 1;
+        String[] zoneNames = new String[values[2]];
+        for (int x = 0; x < zoneNames.length; x++) {
+            zoneNames[x] = names[values[3 + x]];
+        }
+        if (transitionIndex >= 0 && transitionPoints[transitionIndex] == null) {
+            decodeTransitions(transitionIndex);
+        }
+        return new CompactTimeZone(
+            record.substring(0, separator),
+            standardOffset,
+            zoneNames,
+            transitionIndex < 0 ? null : transitionPoints[transitionIndex],
+            transitionIndex < 0 ? null : adjustments[transitionIndex]
+        );
+    }
+
+    /**
+     * Decodes a transition list into its transition points and adjustments
+     *
+     * @since 18 October 2026
+     *
+     * @param transitionIndex - The index of the transition list
+     */
+    private void decodeTransitions(int transitionIndex) {
+        int[] values = decodeValues(transitions[transitionIndex]);
+        int[] points = new int[values.length / 2];
+        int[] pointAdjustments = new int[points.length];
+        int hours = 0;
+        for (int x = 0; x < points.length; x++) {
+            hours += values[x * 2];
+            points[x] = hours;
+            pointAdjustments[x] = adjustmentValues[values[x * 2 + 1]];
+        }
+        transitionPoints[transitionIndex] = points;
+        adjustments[transitionIndex] = pointAdjustments;
+    }
+
+    /**
+     * Decodes all the numbers in an encoded string
+     *
+     * @since 18 October 2026
+     *
+     * @param data - The encoded numbers
+     *
+     * @return The numbers
+     */
+    public static int[] decodeValues(String data) {
+        int length = data.length();
+        int count = 0;
+        for (int x = 0; x < length; x++) {
+            if ((getDigitValue(data.charAt(x)) & CONTINUATION_BIT) == 0) {
+                count++;
+            }
+        }
+        int[] values = new int[count];
+        int index = 0;
+        int value = 0;
+        int shift = 0;
+        for (int x = 0; x < length; x++) {
+            int digit = getDigitValue(data.charAt(x));
+            value |= (digit & (CONTINUATION_BIT - 1)) << shift;
+            if ((digit & CONTINUATION_BIT) == 0) {
+                values[index++] = value;
+                value = 0;
+                shift = 0;
+            } else {
+                shift += DIGIT_BITS;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Decodes a zig zag encoded signed number
+     *
+     * @since 18 October 2026
+     *
+     * @param value - The encoded number
+     *
+     * @return The signed number
+     */
+    public static int decodeSigned(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Retrieves the value of a digit character
+     *
+     * @since 18 October 2026
+     *
+     * @param digit - The digit character
+     *
+     * @return The value of the digit
+     */
+    private static int getDigitValue(char digit) {
+        int value = digit < DIGIT_VALUES.length ? DIGIT_VALUES[digit] : -1;
+        if (value < 0) {
+            throw new IllegalArgumentException("Invalid digit in compact time zone data: " + digit);
+        }
+        return value;
+    }
+}
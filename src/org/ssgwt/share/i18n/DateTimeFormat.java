@@ -453,17 +453,434 @@ public class DateTimeFormat {
   }
 
   /**
-   * Class PatternPart holds a "compiled" pattern part.
+   * Class FormatScratch holds the dates a format reuses for the time zone
+   * adjusted date and time fields, and the time zone it last created for a
+   * date's own offset.
+   */
+  private static class FormatScratch {
+    public final SSDate adjustedDate = new SSDate(0L);
+    public final SSDate adjustedTime = new SSDate(0L);
+    public int timeZoneOffset;
+    public TimeZone timeZone;
+  }
+
+  /**
+   * Class PatternPart holds a "compiled" pattern part. Parts are immutable, so
+   * the compiled parts of a pattern are shared by every format and thread that
+   * uses the pattern.
    */
   private static class PatternPart {
-    public String text;
-    public int count; // 0 has a special meaning, it stands for literal
-    public boolean abutStart;
+    public final String text;
+    public final int count; // 0 has a special meaning, it stands for literal
+    public final boolean abutStart;
 
-    public PatternPart(String txt, int cnt) {
+    public PatternPart(String txt, int cnt, boolean abut) {
       text = txt;
       count = cnt;
-      abutStart = false;
+      abutStart = abut;
+    }
+  }
+
+  /**
+   * Class FormatStep is one step of a compiled format plan. Each step appends
+   * a single field or literal of the pattern, with the locale strings it needs
+   * resolved when the plan is compiled, so formatting a date is a loop over
+   * the steps without looking at the pattern again.
+   */
+  private abstract static class FormatStep {
+
+    /**
+     * Appends the field or literal of this step.
+     *
+     * @param buf where formatted string will be appended to
+     * @param date the date object being formatted
+     * @param adjustedDate holds the time zone adjusted date fields
+     * @param adjustedTime holds the time zone adjusted time fields
+     * @param timeZone the time zone the date is formatted in
+     */
+    public abstract void append(StringBuilder buf, SSDate date,
+        SSDate adjustedDate, SSDate adjustedTime, TimeZone timeZone);
+  }
+
+  /**
+   * Appends literal text, with quotes already resolved.
+   */
+  private static class LiteralStep extends FormatStep {
+    private final String text;
+
+    public LiteralStep(String text) {
+      this.text = text;
+    }
+
+    @Override
+    public void append(StringBuilder buf, SSDate date, SSDate adjustedDate,
+        SSDate adjustedTime, TimeZone timeZone) {
+      buf.append(text);
+    }
+  }
+
+  /**
+   * Appends a name picked from locale strings resolved at compile time.
+   */
+  private abstract static class TextStep extends FormatStep {
+    private final String[] names;
+
+    public TextStep(String[] names) {
+      this.names = names;
+    }
+
+    @Override
+    public void append(StringBuilder buf, SSDate date, SSDate adjustedDate,
+        SSDate adjustedTime, TimeZone timeZone) {
+      buf.append(names[getIndex(adjustedDate, adjustedTime)]);
+    }
+
+    /**
+     * Returns the index of the name to append.
+     *
+     * @param adjustedDate holds the time zone adjusted date fields
+     * @param adjustedTime holds the time zone adjusted time fields
+     * @return index into the names
+     */
+    protected abstract int getIndex(SSDate adjustedDate, SSDate adjustedTime);
+  }
+
+  /**
+   * Appends the era name (G).
+   */
+  private static class EraStep extends TextStep {
+    public EraStep(String[] names) {
+      super(names);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    protected int getIndex(SSDate adjustedDate, SSDate adjustedTime) {
+      return adjustedDate.getYear() >= -JS_START_YEAR ? 1 : 0;
+    }
+  }
+
+  /**
+   * Appends the month name (M, L).
+   */
+  private static class MonthTextStep extends TextStep {
+    public MonthTextStep(String[] names) {
+      super(names);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    protected int getIndex(SSDate adjustedDate, SSDate adjustedTime) {
+      return adjustedDate.getMonth();
+    }
+  }
+
+  /**
+   * Appends the weekday name (E, c).
+   */
+  private static class DayOfWeekTextStep extends TextStep {
+    public DayOfWeekTextStep(String[] names) {
+      super(names);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    protected int getIndex(SSDate adjustedDate, SSDate adjustedTime) {
+      return adjustedDate.getDay();
+    }
+  }
+
+  /**
+   * Appends the quarter name (Q).
+   */
+  private static class QuarterStep extends TextStep {
+    public QuarterStep(String[] names) {
+      super(names);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    protected int getIndex(SSDate adjustedDate, SSDate adjustedTime) {
+      return adjustedDate.getMonth() / 3;
+    }
+  }
+
+  /**
+   * Appends the AM/PM marker (a).
+   */
+  private static class AmPmStep extends TextStep {
+    public AmPmStep(String[] names) {
+      super(names);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    protected int getIndex(SSDate adjustedDate, SSDate adjustedTime) {
+      int hours = adjustedTime.getHours();
+      return hours >= 12 && hours < 24 ? 1 : 0;
+    }
+  }
+
+  /**
+   * Appends a number zero padded to the number of pattern characters.
+   */
+  private abstract static class NumberStep extends FormatStep {
+    private final int minWidth;
+
+    public NumberStep(int minWidth) {
+      this.minWidth = minWidth;
+    }
+
+    @Override
+    public void append(StringBuilder buf, SSDate date, SSDate adjustedDate,
+        SSDate adjustedTime, TimeZone timeZone) {
+      zeroPaddingNumber(buf, getValue(adjustedDate, adjustedTime), minWidth);
+    }
+
+    /**
+     * Returns the number to append.
+     *
+     * @param adjustedDate holds the time zone adjusted date fields
+     * @param adjustedTime holds the time zone adjusted time fields
+     * @return the field value
+     */
+    protected abstract int getValue(SSDate adjustedDate, SSDate adjustedTime);
+  }
+
+  /**
+   * Appends the year (y). Javascript Date object seems incapable handling 1BC
+   * and year before. It can show you year 0 which does not exists. following we
+   * just keep consistent with javascript's toString method. But keep in mind
+   * those things should be unsupported.
+   */
+  private static class YearStep extends NumberStep {
+    public YearStep(int minWidth) {
+      super(minWidth);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    protected int getValue(SSDate adjustedDate, SSDate adjustedTime) {
+      int value = adjustedDate.getYear() + JS_START_YEAR;
+      return value < 0 ? -value : value;
+    }
+  }
+
+  /**
+   * Appends the last two digits of the year (yy).
+   */
+  private static class TwoDigitYearStep extends YearStep {
+    public TwoDigitYearStep() {
+      super(2);
+    }
+
+    @Override
+    protected int getValue(SSDate adjustedDate, SSDate adjustedTime) {
+      return super.getValue(adjustedDate, adjustedTime) % 100;
+    }
+  }
+
+  /**
+   * Appends the month number (M, L).
+   */
+  private static class MonthNumberStep extends NumberStep {
+    public MonthNumberStep(int minWidth) {
+      super(minWidth);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    protected int getValue(SSDate adjustedDate, SSDate adjustedTime) {
+      return adjustedDate.getMonth() + 1;
+    }
+  }
+
+  /**
+   * Appends the day in month (d).
+   */
+  private static class DayOfMonthStep extends NumberStep {
+    public DayOfMonthStep(int minWidth) {
+      super(minWidth);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    protected int getValue(SSDate adjustedDate, SSDate adjustedTime) {
+      return adjustedDate.getDate();
+    }
+  }
+
+  /**
+   * Appends the weekday number (c).
+   */
+  private static class DayOfWeekNumberStep extends NumberStep {
+    public DayOfWeekNumberStep() {
+      super(1);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    protected int getValue(SSDate adjustedDate, SSDate adjustedTime) {
+      return adjustedDate.getDay();
+    }
+  }
+
+  /**
+   * Appends the hours (H, K, h, k). The hours are taken modulo the clock size,
+   * and a zero hour is shown as the given zero value, so (0..23) is 24/0,
+   * (0..11) is 12/0, (1..12) is 12/12 and (1..24) is 24/24.
+   */
+  private static class HoursStep extends NumberStep {
+    private final int clockSize;
+    private final int zeroValue;
+
+    public HoursStep(int minWidth, int clockSize, int zeroValue) {
+      super(minWidth);
+      this.clockSize = clockSize;
+      this.zeroValue = zeroValue;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    protected int getValue(SSDate adjustedDate, SSDate adjustedTime) {
+      int value = adjustedTime.getHours() % clockSize;
+      return value == 0 ? zeroValue : value;
+    }
+  }
+
+  /**
+   * Appends the minutes (m).
+   */
+  private static class MinutesStep extends NumberStep {
+    public MinutesStep(int minWidth) {
+      super(minWidth);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    protected int getValue(SSDate adjustedDate, SSDate adjustedTime) {
+      return adjustedTime.getMinutes();
+    }
+  }
+
+  /**
+   * Appends the seconds (s).
+   */
+  private static class SecondsStep extends NumberStep {
+    public SecondsStep(int minWidth) {
+      super(minWidth);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    protected int getValue(SSDate adjustedDate, SSDate adjustedTime) {
+      return adjustedTime.getSeconds();
+    }
+  }
+
+  /**
+   * Appends the fractional seconds (S). Fractional seconds should be
+   * left-justified, ie. zero must be padded from left. For example, if the
+   * value in milliseconds is 5, and the count is 3, the output will be "005".
+   *
+   * Values with less than three digits are rounded to the desired number of
+   * places, but the rounded values are truncated at 9 or 99 in order to avoid
+   * changing the values of seconds.
+   */
+  private static class FractionalSecondsStep extends FormatStep {
+    private final int divisor;
+    private final int maxValue;
+    private final int minWidth;
+    private final int trailingZeros;
+
+    public FractionalSecondsStep(int count) {
+      if (count == 1) {
+        divisor = 100; // Round to 100ms, clamp to 9
+        maxValue = 9;
+        minWidth = 1;
+      } else if (count == 2) {
+        divisor = 10; // Round to 10ms, clamp to 99
+        maxValue = 99;
+        minWidth = 2;
+      } else {
+        divisor = 1;
+        maxValue = 999;
+        minWidth = 3;
+      }
+      trailingZeros = count - minWidth;
+    }
+
+    @Override
+    public void append(StringBuilder buf, SSDate date, SSDate adjustedDate,
+        SSDate adjustedTime, TimeZone timeZone) {
+      long time = adjustedTime.getTime();
+      int value;
+      if (time < 0) {
+        value = 1000 - (int) (-time % 1000);
+        if (value == 1000) {
+          value = 0;
+        }
+      } else {
+        value = (int) (time % 1000);
+      }
+      value = Math.min((value + divisor / 2) / divisor, maxValue);
+      zeroPaddingNumber(buf, value, minWidth);
+      if (trailingZeros > 0) {
+        zeroPaddingNumber(buf, 0, trailingZeros);
+      }
+    }
+  }
+
+  /**
+   * Appends the short or long time zone name (z).
+   */
+  private static class TimeZoneNameStep extends FormatStep {
+    private final boolean longName;
+
+    public TimeZoneNameStep(boolean longName) {
+      this.longName = longName;
+    }
+
+    @Override
+    public void append(StringBuilder buf, SSDate date, SSDate adjustedDate,
+        SSDate adjustedTime, TimeZone timeZone) {
+      buf.append(longName ? timeZone.getLongName(date)
+          : timeZone.getShortName(date));
+    }
+  }
+
+  /**
+   * Appends the time zone id (v).
+   */
+  private static class TimeZoneIdStep extends FormatStep {
+    @Override
+    public void append(StringBuilder buf, SSDate date, SSDate adjustedDate,
+        SSDate adjustedTime, TimeZone timeZone) {
+      buf.append(timeZone.getID());
+    }
+  }
+
+  /**
+   * Appends the time zone offset following RFC (Z, ZZ), ISO 8601 (ZZZ) or as a
+   * GMT string (ZZZZ).
+   */
+  private static class TimeZoneOffsetStep extends FormatStep {
+    private final int count;
+
+    public TimeZoneOffsetStep(int count) {
+      this.count = count;
+    }
+
+    @Override
+    public void append(StringBuilder buf, SSDate date, SSDate adjustedDate,
+        SSDate adjustedTime, TimeZone timeZone) {
+      if (count < 3) {
+        buf.append(timeZone.getRFCTimeZoneString(date));
+      } else if (count == 3) {
+        buf.append(timeZone.getISOTimeZoneString(date));
+      } else {
+        buf.append(timeZone.getGMTString(date));
+      }
     }
   }
 
@@ -473,7 +890,29 @@ public class DateTimeFormat {
   private static final int NUMBER_BASE = 10;
   private static final int JS_START_YEAR = 1900;
 
-  private static final Map<String, DateTimeFormat> cache;
+  /**
+   * The amount of stripes of the caches, more stripes let more threads look up
+   * formats at the same time.
+   */
+  private static final int CACHE_STRIPES = 8;
+
+  /**
+   * The most formats and compiled patterns that are cached, so that code
+   * creating many distinct patterns does not grow the caches without bound.
+   */
+  private static final int MAX_CACHE_SIZE = 256;
+
+  /**
+   * Formats for the default locale by pattern.
+   */
+  private static final StripedLruCache<DateTimeFormat> cache =
+      new StripedLruCache<DateTimeFormat>(CACHE_STRIPES, MAX_CACHE_SIZE);
+
+  /**
+   * Compiled pattern parts by pattern, shared by the formats of all locales.
+   */
+  private static final StripedLruCache<PatternPart[]> compiledPatterns =
+      new StripedLruCache<PatternPart[]>(CACHE_STRIPES, MAX_CACHE_SIZE);
 
   private static final int NUM_MILLISECONDS_IN_DAY = 24 * 60 * 60000;
 
@@ -489,10 +928,6 @@ public class DateTimeFormat {
 
   private static final int MINUTES_PER_HOUR = 60;
 
-  static {
-    cache = new HashMap<String, DateTimeFormat>();
-  }
-
   /**
    * Get a DateTimeFormat instance for a predefined format.
    *
@@ -658,7 +1093,9 @@ public class DateTimeFormat {
   }
 
   /**
-   * Internal factory method that provides caching.
+   * Internal factory method that provides caching. Formats for the default
+   * locale are cached by pattern; the cache is bounded and safe to use from
+   * several threads at once.
    *
    * @param pattern
    * @param dtfi
@@ -666,20 +1103,32 @@ public class DateTimeFormat {
    */
   protected static DateTimeFormat getFormat(String pattern,
       DateTimeFormatInfo dtfi) {
-    DateTimeFormatInfo defaultDtfi = getDefaultDateTimeFormatInfo();
-    DateTimeFormat dtf = null;
-    if (dtfi == defaultDtfi) {
-      dtf = cache.get(pattern);
+    if (dtfi != getDefaultDateTimeFormatInfo()) {
+      return new DateTimeFormat(pattern, dtfi);
     }
+    DateTimeFormat dtf = cache.get(pattern);
     if (dtf == null) {
-      dtf = new DateTimeFormat(pattern, dtfi);
-      if (dtfi == defaultDtfi) {
-        cache.put(pattern, dtf);
-      }
+      // Threads that miss at the same time all end up with the same instance.
+      dtf = cache.putIfAbsent(pattern, new DateTimeFormat(pattern, dtfi));
     }
     return dtf;
   }
 
+  /**
+   * Returns the compiled parts of a pattern, compiling the pattern only if it
+   * is not cached.
+   *
+   * @param pattern string pattern specification
+   * @return the immutable compiled pattern parts
+   */
+  private static PatternPart[] getPatternParts(String pattern) {
+    PatternPart[] parts = compiledPatterns.get(pattern);
+    if (parts == null) {
+      parts = compiledPatterns.putIfAbsent(pattern, parsePattern(pattern));
+    }
+    return parts;
+  }
+
   private static DateTimeFormatInfo getDefaultDateTimeFormatInfo() {
     // MUSTFIX(jat): implement
     return LocaleInfo.getCurrentLocale().getDateTimeFormatInfo();
@@ -704,7 +1153,27 @@ public class DateTimeFormat {
     }
   }
 
-  private final ArrayList<PatternPart> patternParts = new ArrayList<PatternPart>();
+  private final PatternPart[] patternParts;
+
+  /**
+   * Scratch state reused by format calls. A call takes it and puts it back when
+   * done, so a call that overlaps with another on a different thread gets its
+   * own scratch state instead of sharing it.
+   */
+  private FormatScratch scratch;
+
+  /**
+   * Time zones this format created for date offsets by offset in minutes,
+   * created on first use. They are kept per format because subclasses may
+   * override createTimeZone. There are only so many offsets, so this does not
+   * need to be bounded.
+   */
+  private Map<Integer, TimeZone> timeZones;
+
+  /**
+   * The steps that format a date with this pattern, compiled on first use.
+   */
+  private volatile FormatStep[] formatPlan;
 
   private final DateTimeFormatInfo dateTimeFormatInfo;
 
@@ -736,7 +1205,7 @@ public class DateTimeFormat {
      * is far less common than formatting, the pattern is still parsed eagerly
      * here to fail fast in case the pattern itself is malformed.
      */
-    parsePattern(pattern);
+    patternParts = getPatternParts(pattern);
   }
 
   /**
@@ -760,8 +1229,26 @@ public class DateTimeFormat {
    * @return string representation for this date in the format defined by this
    *         object
    */
-  @SuppressWarnings("deprecation")
   public String format(SSDate date, TimeZone timeZone) {
+    return format(date, timeZone, new StringBuilder(64)).toString();
+  }
+
+  /**
+   * Format a date object using specified time zone, appending the result to a
+   * caller-supplied builder. Formatting many dates into one reused builder
+   * allocates close to nothing: the adjusted dates are reused between calls and
+   * the default time zones are cached by offset.
+   *
+   * @param date the date object being formatted
+   * @param timeZone a TimeZone object that holds time zone information, or
+   *     {@code null} to use the default
+   * @param toAppendTo the builder the formatted date is appended to
+   *
+   * @return the builder the formatted date was appended to
+   */
+  @SuppressWarnings("deprecation")
+  public StringBuilder format(SSDate date, TimeZone timeZone,
+      StringBuilder toAppendTo) {
     // We use the Date class to calculate each date/time field in order
     // to maximize performance and minimize code size.
     // JavaScript only provides an API for rendering local time (in the os time
@@ -785,33 +1272,80 @@ public class DateTimeFormat {
     // any other day in that year, except 2006/4/2. So we end up have 3 Date
     // objects: one for resolving "Year, month, day", one for time within that
     // day, and the original date object, which is needed for figuring out
-    // actual time zone offset.
+    // actual time zone offset. The two adjusted dates are reset and reused
+    // from the scratch state of this format rather than allocated per call.
 
-    if (timeZone == null) {
-      timeZone = createTimeZone(date.getTimezoneOffset());
-    }
-    int diff = (date.getTimezoneOffset() - timeZone.getOffset(date)) * 60000;
-    SSDate keepDate = new SSDate(date.getTime() + diff);
-    SSDate keepTime = keepDate;
-    if (keepDate.getTimezoneOffset() != date.getTimezoneOffset()) {
-      if (diff > 0) {
-        diff -= NUM_MILLISECONDS_IN_DAY;
-      } else {
-        diff += NUM_MILLISECONDS_IN_DAY;
+    // The pattern itself is compiled once into a plan of format steps, so
+    // here every step just appends its field or literal.
+
+    FormatStep[] plan = getFormatPlan();
+    FormatScratch formatScratch = takeScratch();
+    try {
+      if (timeZone == null) {
+        timeZone = getTimeZone(formatScratch, date.getTimezoneOffset());
+      }
+      int diff = (date.getTimezoneOffset() - timeZone.getOffset(date)) * 60000;
+      SSDate keepDate = formatScratch.adjustedDate;
+      keepDate.reset(date.getTime() + diff);
+      SSDate keepTime = keepDate;
+      if (keepDate.getTimezoneOffset() != date.getTimezoneOffset()) {
+        if (diff > 0) {
+          diff -= NUM_MILLISECONDS_IN_DAY;
+        } else {
+          diff += NUM_MILLISECONDS_IN_DAY;
+        }
+        keepTime = formatScratch.adjustedTime;
+        keepTime.reset(date.getTime() + diff);
+      }
+      for (int i = 0; i < plan.length; i++) {
+        plan[i].append(toAppendTo, date, keepDate, keepTime, timeZone);
+      }
+    } finally {
+      synchronized (this) {
+        scratch = formatScratch;
       }
-      keepTime = new SSDate(date.getTime() + diff);
     }
+    return toAppendTo;
+  }
 
-    StringBuffer toAppendTo = new StringBuffer(64);
+  /**
+   * Returns the compiled format plan, compiling it on first use so formats
+   * that are only used for parsing never resolve the locale strings.
+   *
+   * @return the steps that format a date with this pattern
+   */
+  private FormatStep[] getFormatPlan() {
+    FormatStep[] plan = formatPlan;
+    if (plan == null) {
+      plan = compileFormatPlan();
+      formatPlan = plan;
+    }
+    return plan;
+  }
+
+  /**
+   * Compiles the pattern into a flat array of format steps. Runs of literal
+   * characters, including quoted strings, become a single literal step.
+   *
+   * @return the steps that format a date with this pattern
+   * @throws IllegalArgumentException if a quoted string is not terminated
+   */
+  private FormatStep[] compileFormatPlan() {
+    ArrayList<FormatStep> steps = new ArrayList<FormatStep>();
+    StringBuilder literal = new StringBuilder();
     int j, n = pattern.length();
     for (int i = 0; i < n;) {
       char ch = pattern.charAt(i);
       if ((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z')) {
-        // ch is a date-time pattern character to be interpreted by subFormat().
-        // Count the number of times it is repeated.
+        // ch is a date-time pattern character to be compiled by
+        // compileField(). Count the number of times it is repeated.
         for (j = i + 1; j < n && pattern.charAt(j) == ch; ++j) {
         }
-        subFormat(toAppendTo, ch, j - i, date, keepDate, keepTime, timeZone);
+        FormatStep step = compileField(ch, j - i);
+        if (step != null) {
+          addLiteralStep(steps, literal);
+          steps.add(step);
+        }
         i = j;
       } else if (ch == '\'') {
         // Handle an entire quoted string, included embedded
@@ -822,7 +1356,7 @@ public class DateTimeFormat {
 
         // If start with '', just add ' and continue.
         if (i < n && pattern.charAt(i) == '\'') {
-          toAppendTo.append('\'');
+          literal.append('\'');
           ++i;
           continue;
         }
@@ -841,23 +1375,171 @@ public class DateTimeFormat {
             throw new IllegalArgumentException("Missing trailing \'");
           }
 
-          // Look ahead to detect '' within quotes.
-          if (j + 1 < n && pattern.charAt(j + 1) == '\'') {
-            ++j;
-          } else {
-            trailQuote = true;
-          }
-          toAppendTo.append(pattern.substring(i, j));
-          i = j + 1;
+          // Look ahead to detect '' within quotes.
+          if (j + 1 < n && pattern.charAt(j + 1) == '\'') {
+            ++j;
+          } else {
+            trailQuote = true;
+          }
+          literal.append(pattern, i, j);
+          i = j + 1;
+        }
+      } else {
+        // Add unquoted literal characters.
+        literal.append(ch);
+        ++i;
+      }
+    }
+    addLiteralStep(steps, literal);
+    return steps.toArray(new FormatStep[steps.size()]);
+  }
+
+  /**
+   * Adds the literal text collected so far as a literal step, if there is any,
+   * and clears it for the next literal.
+   *
+   * @param steps the steps to add to
+   * @param literal the literal text collected so far
+   */
+  private static void addLiteralStep(ArrayList<FormatStep> steps,
+      StringBuilder literal) {
+    if (literal.length() > 0) {
+      steps.add(new LiteralStep(literal.toString()));
+      literal.setLength(0);
+    }
+  }
+
+  /**
+   * Compiles a single field into the format step for it, resolving the locale
+   * strings the field needs.
+   *
+   * @param ch pattern character for this field
+   * @param count number of time pattern char repeats; this controls how a field
+   *          should be formatted
+   *
+   * @return the step for the field, or <code>null</code> if the pattern
+   *         character is not a field, in which case it is left out
+   */
+  private FormatStep compileField(char ch, int count) {
+    DateTimeFormatInfo dtfi = dateTimeFormatInfo;
+    switch (ch) {
+      case 'G':
+        return new EraStep(count >= 4 ? dtfi.erasFull() : dtfi.erasShort());
+      case 'y':
+        // 2 is treated specially with the last two digits of the year, while
+        // more than 2 digits are zero-padded
+        return count == 2 ? new TwoDigitYearStep() : new YearStep(count);
+      case 'M':
+        switch (count) {
+          case 5:
+            return new MonthTextStep(dtfi.monthsNarrow());
+          case 4:
+            return new MonthTextStep(dtfi.monthsFull());
+          case 3:
+            return new MonthTextStep(dtfi.monthsShort());
+          default:
+            return new MonthNumberStep(count);
+        }
+      case 'k':
+        return new HoursStep(count, 24, 24);
+      case 'S':
+        return new FractionalSecondsStep(count);
+      case 'E':
+        if (count == 5) {
+          return new DayOfWeekTextStep(dtfi.weekdaysNarrow());
+        } else if (count == 4) {
+          return new DayOfWeekTextStep(dtfi.weekdaysFull());
+        }
+        return new DayOfWeekTextStep(dtfi.weekdaysShort());
+      case 'a':
+        return new AmPmStep(dtfi.ampms());
+      case 'h':
+        return new HoursStep(count, 12, 12);
+      case 'K':
+        return new HoursStep(count, 12, 0);
+      case 'H':
+        return new HoursStep(count, 24, 0);
+      case 'c':
+        if (count == 5) {
+          return new DayOfWeekTextStep(dtfi.weekdaysNarrowStandalone());
+        } else if (count == 4) {
+          return new DayOfWeekTextStep(dtfi.weekdaysFullStandalone());
+        } else if (count == 3) {
+          return new DayOfWeekTextStep(dtfi.weekdaysShortStandalone());
+        }
+        return new DayOfWeekNumberStep();
+      case 'L':
+        if (count == 5) {
+          return new MonthTextStep(dtfi.monthsNarrowStandalone());
+        } else if (count == 4) {
+          return new MonthTextStep(dtfi.monthsFullStandalone());
+        } else if (count == 3) {
+          return new MonthTextStep(dtfi.monthsShortStandalone());
+        }
+        return new MonthNumberStep(count);
+      case 'Q':
+        return new QuarterStep(count < 4 ? dtfi.quartersShort()
+            : dtfi.quartersFull());
+      case 'd':
+        return new DayOfMonthStep(count);
+      case 'm':
+        return new MinutesStep(count);
+      case 's':
+        return new SecondsStep(count);
+      case 'z':
+        return new TimeZoneNameStep(count >= 4);
+      case 'v':
+        return new TimeZoneIdStep();
+      case 'Z':
+        return new TimeZoneOffsetStep(count);
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Takes the scratch state of this format, or creates new scratch state if
+   * another call is using it.
+   *
+   * @return scratch state only the calling format call uses
+   */
+  private FormatScratch takeScratch() {
+    FormatScratch taken;
+    synchronized (this) {
+      taken = scratch;
+      scratch = null;
+    }
+    return taken != null ? taken : new FormatScratch();
+  }
+
+  /**
+   * Returns the default time zone for a date's offset. The time zone last used
+   * by the scratch state is reused, other offsets come from the time zones
+   * this format created before.
+   *
+   * @param formatScratch the scratch state of the format call
+   * @param timezoneOffset the offset of the date in minutes
+   * @return {@link TimeZone} instance
+   */
+  private TimeZone getTimeZone(FormatScratch formatScratch,
+      int timezoneOffset) {
+    if (formatScratch.timeZone == null
+        || formatScratch.timeZoneOffset != timezoneOffset) {
+      TimeZone timeZone;
+      synchronized (this) {
+        if (timeZones == null) {
+          timeZones = new HashMap<Integer, TimeZone>();
+        }
+        timeZone = timeZones.get(timezoneOffset);
+        if (timeZone == null) {
+          timeZone = createTimeZone(timezoneOffset);
+          timeZones.put(timezoneOffset, timeZone);
         }
-      } else {
-        // Append unquoted literal characters.
-        toAppendTo.append(ch);
-        ++i;
       }
+      formatScratch.timeZone = timeZone;
+      formatScratch.timeZoneOffset = timezoneOffset;
     }
-
-    return toAppendTo.toString();
+    return formatScratch.timeZone;
   }
 
   /**
@@ -950,373 +1632,18 @@ public class DateTimeFormat {
    * Method append current content in buf as pattern part if there is any, and
    * clear buf for next part.
    *
+   * @param parts the pattern parts to append to
    * @param buf pattern part text specification
    * @param count pattern part repeat count
    */
-  private void addPart(StringBuffer buf, int count) {
+  private static void addPart(ArrayList<PatternPart> parts, StringBuffer buf,
+      int count) {
     if (buf.length() > 0) {
-      patternParts.add((new PatternPart(buf.toString(), count)));
+      parts.add(new PatternPart(buf.toString(), count, false));
       buf.setLength(0);
     }
   }
 
-  /**
-   * Formats (0..11) Hours field according to pattern specified.
-   *
-   * @param buf where formatted string will be appended to
-   * @param count number of time pattern char repeats; this controls how a field
-   *          should be formatted
-   * @param date hold the date object to be formatted
-   */
-  @SuppressWarnings("deprecation")
-  private void format0To11Hours(StringBuffer buf, int count, SSDate date) {
-    int value = date.getHours() % 12;
-    zeroPaddingNumber(buf, value, count);
-  }
-
-  /**
-   * Formats (0..23) Hours field according to pattern specified.
-   *
-   * @param buf where formatted string will be appended to
-   * @param count number of time pattern char repeats; this controls how a field
-   *          should be formatted
-   * @param date hold the date object to be formatted
-   */
-  @SuppressWarnings("deprecation")
-  private void format0To23Hours(StringBuffer buf, int count, SSDate date) {
-    int value = date.getHours();
-    zeroPaddingNumber(buf, value, count);
-  }
-
-  /**
-   * Formats (1..12) Hours field according to pattern specified.
-   *
-   * @param buf where formatted string will be appended to
-   * @param count number of time pattern char repeats; this controls how a field
-   *          should be formatted
-   * @param date hold the date object to be formatted
-   */
-  @SuppressWarnings("deprecation")
-  private void format1To12Hours(StringBuffer buf, int count, SSDate date) {
-    int value = date.getHours() % 12;
-    if (value == 0) {
-      zeroPaddingNumber(buf, 12, count);
-    } else {
-      zeroPaddingNumber(buf, value, count);
-    }
-  }
-
-  /**
-   * Formats (1..24) Hours field according to pattern specified.
-   *
-   * @param buf where formatted string will be appended to
-   * @param count number of time pattern char repeats; this controls how a field
-   *          should be formatted
-   * @param date hold the date object to be formatted
-   */
-  @SuppressWarnings("deprecation")
-  private void format24Hours(StringBuffer buf, int count, SSDate date) {
-    int value = date.getHours();
-    if (value == 0) {
-      zeroPaddingNumber(buf, 24, count);
-    } else {
-      zeroPaddingNumber(buf, value, count);
-    }
-  }
-
-  /**
-   * Formats AM/PM field according to pattern specified.
-   *
-   * @param buf where formatted string will be appended to
-   * @param date hold the date object to be formatted
-   */
-  @SuppressWarnings("deprecation")
-  private void formatAmPm(StringBuffer buf, SSDate date) {
-    if (date.getHours() >= 12 && date.getHours() < 24) {
-      buf.append(dateTimeFormatInfo.ampms()[1]);
-    } else {
-      buf.append(dateTimeFormatInfo.ampms()[0]);
-    }
-  }
-
-  /**
-   * Formats Date field according to pattern specified.
-   *
-   * @param buf where formatted string will be appended to
-   * @param count number of time pattern char repeats; this controls how a field
-   *          should be formatted
-   * @param date hold the date object to be formatted
-   */
-  private void formatDate(StringBuffer buf, int count, SSDate date) {
-    @SuppressWarnings("deprecation")
-    int value = date.getDate();
-    zeroPaddingNumber(buf, value, count);
-  }
-
-  /**
-   * Formats Day of week field according to pattern specified.
-   *
-   * @param buf where formatted string will be appended to
-   * @param count number of time pattern char repeats; this controls how a field
-   *          should be formatted
-   * @param date hold the date object to be formatted
-   */
-  private void formatDayOfWeek(StringBuffer buf, int count, SSDate date) {
-    @SuppressWarnings("deprecation")
-    int value = date.getDay();
-    if (count == 5) {
-      buf.append(dateTimeFormatInfo.weekdaysNarrow()[value]);
-    } else if (count == 4) {
-      buf.append(dateTimeFormatInfo.weekdaysFull()[value]);
-    } else {
-      buf.append(dateTimeFormatInfo.weekdaysShort()[value]);
-    }
-  }
-
-  /**
-   * Formats Era field according to pattern specified.
-   *
-   * @param buf where formatted string will be appended to
-   * @param count number of time pattern char repeats; this controls how a field
-   *          should be formatted
-   * @param date hold the date object to be formatted
-   */
-  private void formatEra(StringBuffer buf, int count, SSDate date) {
-    @SuppressWarnings("deprecation")
-    int value = date.getYear() >= -JS_START_YEAR ? 1 : 0;
-    if (count >= 4) {
-      buf.append(dateTimeFormatInfo.erasFull()[value]);
-    } else {
-      buf.append(dateTimeFormatInfo.erasShort()[value]);
-    }
-  }
-
-  /**
-   * Formats Fractional seconds field according to pattern specified.
-   *
-   * @param buf where formatted string will be appended to
-   * @param count number of time pattern char repeats; this controls how a field
-   *          should be formatted
-   * @param date hold the date object to be formatted
-   */
-  private void formatFractionalSeconds(StringBuffer buf, int count, SSDate date) {
-    /*
-     * Fractional seconds should be left-justified, ie. zero must be padded from
-     * left. For example, if the value in milliseconds is 5, and the count is 3,
-     * the output will be "005".
-     *
-     * Values with less than three digits are rounded to the desired number of
-     * places, but the rounded values are truncated at 9 or 99 in order to avoid
-     * changing the values of seconds.
-     */
-    long time = date.getTime();
-    int value;
-    if (time < 0) {
-      value = 1000 - (int) (-time % 1000);
-      if (value == 1000) {
-        value = 0;
-      }
-    } else {
-      value = (int) (time % 1000);
-    }
-    if (count == 1) {
-      value = Math.min((value + 50) / 100, 9); // Round to 100ms, clamp to 9
-      buf.append((char) ('0' + value));
-    } else if (count == 2) {
-      value = Math.min((value + 5) / 10, 99); // Round to 10ms, clamp to 99
-      zeroPaddingNumber(buf, value, 2);
-    } else {
-      zeroPaddingNumber(buf, value, 3);
-
-      if (count > 3) {
-        zeroPaddingNumber(buf, 0, count - 3);
-      }
-    }
-  }
-
-  /**
-   * Formats Minutes field according to pattern specified.
-   *
-   * @param buf where formatted string will be appended to
-   * @param count number of time pattern char repeats; this controls how a field
-   *          should be formatted
-   * @param date hold the date object to be formatted
-   */
-  private void formatMinutes(StringBuffer buf, int count, SSDate date) {
-    @SuppressWarnings("deprecation")
-    int value = date.getMinutes();
-    zeroPaddingNumber(buf, value, count);
-  }
-
-  /**
-   * Formats Month field according to pattern specified.
-   *
-   * @param buf where formatted string will be appended to
-   * @param count number of time pattern char repeats; this controls how a field
-   *          should be formatted
-   * @param date hold the date object to be formatted
-   */
-  private void formatMonth(StringBuffer buf, int count, SSDate date) {
-    @SuppressWarnings("deprecation")
-    int value = date.getMonth();
-    switch (count) {
-      case 5:
-        buf.append(dateTimeFormatInfo.monthsNarrow()[value]);
-        break;
-      case 4:
-        buf.append(dateTimeFormatInfo.monthsFull()[value]);
-        break;
-      case 3:
-        buf.append(dateTimeFormatInfo.monthsShort()[value]);
-        break;
-      default:
-        zeroPaddingNumber(buf, value + 1, count);
-    }
-  }
-
-  /**
-   * Formats Quarter field according to pattern specified.
-   *
-   * @param buf where formatted string will be appended to
-   * @param count number of time pattern char repeats; this controls how a field
-   *          should be formatted
-   * @param date hold the date object to be formatted
-   */
-  private void formatQuarter(StringBuffer buf, int count, SSDate date) {
-    @SuppressWarnings("deprecation")
-    int value = date.getMonth() / 3;
-    if (count < 4) {
-      buf.append(dateTimeFormatInfo.quartersShort()[value]);
-    } else {
-      buf.append(dateTimeFormatInfo.quartersFull()[value]);
-    }
-  }
-
-  /**
-   * Formats Seconds field according to pattern specified.
-   *
-   * @param buf where formatted string will be appended to
-   * @param count number of time pattern char repeats; this controls how a field
-   *          should be formatted
-   * @param date hold the date object to be formatted
-   */
-  private void formatSeconds(StringBuffer buf, int count, SSDate date) {
-    @SuppressWarnings("deprecation")
-    int value = date.getSeconds();
-    zeroPaddingNumber(buf, value, count);
-  }
-
-  /**
-   * Formats Standalone weekday field according to pattern specified.
-   *
-   * @param buf where formatted string will be appended to
-   * @param count number of time pattern char repeats; this controls how a field
-   *          should be formatted
-   * @param date hold the date object to be formatted
-   */
-  private void formatStandaloneDay(StringBuffer buf, int count, SSDate date) {
-    @SuppressWarnings("deprecation")
-    int value = date.getDay();
-    if (count == 5) {
-      buf.append(dateTimeFormatInfo.weekdaysNarrowStandalone()[value]);
-    } else if (count == 4) {
-      buf.append(dateTimeFormatInfo.weekdaysFullStandalone()[value]);
-    } else if (count == 3) {
-      buf.append(dateTimeFormatInfo.weekdaysShortStandalone()[value]);
-    } else {
-      zeroPaddingNumber(buf, value, 1);
-    }
-  }
-
-  /**
-   * Formats Standalone Month field according to pattern specified.
-   *
-   * @param buf where formatted string will be appended to
-   * @param count number of time pattern char repeats; this controls how a field
-   *          should be formatted
-   * @param date hold the date object to be formatted
-   */
-  private void formatStandaloneMonth(StringBuffer buf, int count, SSDate date) {
-    @SuppressWarnings("deprecation")
-    int value = date.getMonth();
-    if (count == 5) {
-      buf.append(dateTimeFormatInfo.monthsNarrowStandalone()[value]);
-    } else if (count == 4) {
-      buf.append(dateTimeFormatInfo.monthsFullStandalone()[value]);
-    } else if (count == 3) {
-      buf.append(dateTimeFormatInfo.monthsShortStandalone()[value]);
-    } else {
-      zeroPaddingNumber(buf, value + 1, count);
-    }
-  }
-
-  /**
-   * Formats Timezone field.
-   *
-   * @param buf where formatted string will be appended to
-   * @param count number of time pattern char repeats; this controls how a field
-   *          should be formatted
-   * @param date hold the date object to be formatted
-   */
-  private void formatTimeZone(StringBuffer buf, int count, SSDate date,
-      TimeZone timeZone) {
-    if (count < 4) {
-      buf.append(timeZone.getShortName(date));
-    } else {
-      buf.append(timeZone.getLongName(date));
-    }
-  }
-
-  /**
-   * Formats Timezone field following RFC.
-   *
-   * @param buf where formatted string will be appended to
-   * @param count number of time pattern char repeats; this controls how a field
-   *          should be formatted
-   * @param date hold the date object to be formatted
-   */
-  private void formatTimeZoneRFC(StringBuffer buf, int count, SSDate date,
-      TimeZone timeZone) {
-    if (count < 3) {
-      buf.append(timeZone.getRFCTimeZoneString(date));
-    } else if (count == 3) {
-      buf.append(timeZone.getISOTimeZoneString(date));
-    } else {
-      buf.append(timeZone.getGMTString(date));
-    }
-  }
-
-  /**
-   * Formats Year field according to pattern specified. Javascript Date object
-   * seems incapable handling 1BC and year before. It can show you year 0 which
-   * does not exists. following we just keep consistent with javascript's
-   * toString method. But keep in mind those things should be unsupported.
-   *
-   * @param buf where formatted string will be appended to
-   * @param count number of time pattern char repeats; this controls how a field
-   *     should be formatted; 2 is treated specially with the last two digits of
-   *     the year, while more than 2 digits are zero-padded
-   * @param date hold the date object to be formatted
-   */
-  private void formatYear(StringBuffer buf, int count, SSDate date) {
-    @SuppressWarnings("deprecation")
-    int value = date.getYear() + JS_START_YEAR;
-    if (value < 0) {
-      value = -value;
-    }
-    switch (count) {
-      case 1: // no padding
-        buf.append(value);
-        break;
-      case 2: // last 2 digits of year, zero-padded
-        zeroPaddingNumber(buf, value % 100, 2);
-        break;
-      default: // anything else is zero-padded
-        zeroPaddingNumber(buf, value, count);
-        break;
-    }
-  }
-
   /**
    * Method getNextCharCountInPattern calculate character repeat count in
    * pattern.
@@ -1325,7 +1652,7 @@ public class DateTimeFormat {
    * @param start the position of pattern character
    * @return repeat count
    */
-  private int getNextCharCountInPattern(String pattern, int start) {
+  private static int getNextCharCountInPattern(String pattern, int start) {
     char ch = pattern.charAt(start);
     int next = start + 1;
     while (next < pattern.length() && pattern.charAt(next) == ch) {
@@ -1343,24 +1670,31 @@ public class DateTimeFormat {
    * 3/2/2, 2/2/2, and finally 1/2/2. The first field of connected numeric
    * fields will be marked as abutStart, its width can be reduced to accomodate
    * others.
+   *
+   * @param parts the pattern parts without their abutStart set
+   * @return the immutable pattern parts with their abutStart set
    */
-  private void identifyAbutStart() {
+  private static PatternPart[] identifyAbutStart(ArrayList<PatternPart> parts) {
     // 'abut' parts are continuous numeric parts. abutStart is the switch
     // point from non-abut to abut.
     boolean abut = false;
 
-    int len = patternParts.size();
+    int len = parts.size();
+    PatternPart[] result = new PatternPart[len];
     for (int i = 0; i < len; i++) {
-      if (isNumeric(patternParts.get(i))) {
+      PatternPart part = parts.get(i);
+      if (isNumeric(part)) {
         // If next part is not following abut sequence, and isNumeric.
-        if (!abut && i + 1 < len && isNumeric(patternParts.get(i + 1))) {
+        if (!abut && i + 1 < len && isNumeric(parts.get(i + 1))) {
           abut = true;
-          patternParts.get(i).abutStart = true;
+          part = new PatternPart(part.text, part.count, true);
         }
       } else {
         abut = false;
       }
+      result[i] = part;
     }
+    return result;
   }
 
   /**
@@ -1369,7 +1703,7 @@ public class DateTimeFormat {
    * @param part pattern part to be examined
    * @return <code>true</code> if the pattern part is numberic field
    */
-  private boolean isNumeric(PatternPart part) {
+  private static boolean isNumeric(PatternPart part) {
     if (part.count <= 0) {
       return false;
     }
@@ -1471,8 +1805,8 @@ public class DateTimeFormat {
     int abutStart = 0;
     int abutPass = 0;
 
-    for (int i = 0; i < patternParts.size(); ++i) {
-      PatternPart part = patternParts.get(i);
+    for (int i = 0; i < patternParts.length; ++i) {
+      PatternPart part = patternParts[i];
 
       if (part.count > 0) {
         if (abutPat < 0 && part.abutStart) {
@@ -1585,8 +1919,10 @@ public class DateTimeFormat {
    * parts.
    *
    * @param pattern describe the format of date string that need to be parsed
+   * @return the immutable pattern parts
    */
-  private void parsePattern(String pattern) {
+  private static PatternPart[] parsePattern(String pattern) {
+    ArrayList<PatternPart> parts = new ArrayList<PatternPart>();
     StringBuffer buf = new StringBuffer(32);
     boolean inQuote = false;
 
@@ -1595,9 +1931,9 @@ public class DateTimeFormat {
 
       // Handle space, add literal part (if exist), and add space part.
       if (ch == ' ') {
-        addPart(buf, 0);
+        addPart(parts, buf, 0);
         buf.append(' ');
-        addPart(buf, 0);
+        addPart(parts, buf, 0);
         while (i + 1 < pattern.length() && pattern.charAt(i + 1) == ' ') {
           i++;
         }
@@ -1623,10 +1959,10 @@ public class DateTimeFormat {
 
       // Outside quote now.
       if (PATTERN_CHARS.indexOf(ch) > 0) {
-        addPart(buf, 0);
+        addPart(parts, buf, 0);
         buf.append(ch);
         int count = getNextCharCountInPattern(pattern, i);
-        addPart(buf, count);
+        addPart(parts, buf, count);
         i += count - 1;
         continue;
       }
@@ -1644,9 +1980,9 @@ public class DateTimeFormat {
       }
     }
 
-    addPart(buf, 0);
+    addPart(parts, buf, 0);
 
-    identifyAbutStart();
+    return identifyAbutStart(parts);
   }
 
   /**
@@ -1726,85 +2062,6 @@ public class DateTimeFormat {
     }
   }
 
-  /**
-   * Formats a single field according to pattern specified.
-   *
-   * @param ch pattern character for this field
-   * @param count number of time pattern char repeats; this controls how a field
-   *          should be formatted
-   * @param date the date object to be formatted
-   * @param adjustedDate holds the time zone adjusted date fields
-   * @param adjustedTime holds the time zone adjusted time fields
-   *
-   * @return <code>true</code> if pattern valid, otherwise <code>false</code>
-   *
-   */
-  private boolean subFormat(StringBuffer buf, char ch, int count, SSDate date,
-      SSDate adjustedDate, SSDate adjustedTime, TimeZone timezone) {
-    switch (ch) {
-      case 'G':
-        formatEra(buf, count, adjustedDate);
-        break;
-      case 'y':
-        formatYear(buf, count, adjustedDate);
-        break;
-      case 'M':
-        formatMonth(buf, count, adjustedDate);
-        break;
-      case 'k':
-        format24Hours(buf, count, adjustedTime);
-        break;
-      case 'S':
-        formatFractionalSeconds(buf, count, adjustedTime);
-        break;
-      case 'E':
-        formatDayOfWeek(buf, count, adjustedDate);
-        break;
-      case 'a':
-        formatAmPm(buf, adjustedTime);
-        break;
-      case 'h':
-        format1To12Hours(buf, count, adjustedTime);
-        break;
-      case 'K':
-        format0To11Hours(buf, count, adjustedTime);
-        break;
-      case 'H':
-        format0To23Hours(buf, count, adjustedTime);
-        break;
-      case 'c':
-        formatStandaloneDay(buf, count, adjustedDate);
-        break;
-      case 'L':
-        formatStandaloneMonth(buf, count, adjustedDate);
-        break;
-      case 'Q':
-        formatQuarter(buf, count, adjustedDate);
-        break;
-      case 'd':
-        formatDate(buf, count, adjustedDate);
-        break;
-      case 'm':
-        formatMinutes(buf, count, adjustedTime);
-        break;
-      case 's':
-        formatSeconds(buf, count, adjustedTime);
-        break;
-      case 'z':
-        formatTimeZone(buf, count, date, timezone);
-        break;
-      case 'v':
-        buf.append(timezone.getID());
-        break;
-      case 'Z':
-        formatTimeZoneRFC(buf, count, date, timezone);
-        break;
-      default:
-        return false;
-    }
-    return true;
-  }
-
   /**
    * Converts one field of the input string into a numeric field value. Returns
    * <code>false</code> if failed.
@@ -2192,7 +2449,20 @@ public class DateTimeFormat {
    * @param minWidth minimum width of the formatted string; zero will be padded
    *          to reach this width
    */
-  private void zeroPaddingNumber(StringBuffer buf, int value, int minWidth) {
+  private static void zeroPaddingNumber(StringBuilder buf, int value,
+      int minWidth) {
+    if (value >= 0 && value < NUMBER_BASE * NUMBER_BASE) {
+      // Most fields have one or two digits, append them as characters rather
+      // than converting the number to a string.
+      for (int i = value < NUMBER_BASE ? 1 : 2; i < minWidth; i++) {
+        buf.append('0');
+      }
+      if (value >= NUMBER_BASE) {
+        buf.append((char) ('0' + value / NUMBER_BASE));
+      }
+      buf.append((char) ('0' + value % NUMBER_BASE));
+      return;
+    }
     int b = NUMBER_BASE;
     for (int i = 0; i < minWidth - 1; i++) {
       if (value < b) {
@@ -0,0 +1,170 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.share.i18n;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A size bounded cache that is safe to use from several threads at once.
+ *
+ * The keys are spread over a fixed amount of stripes, each a least recently used map with
+ * its own lock, so threads looking up different keys seldom wait for each other. The most
+ * entries the cache holds is split over the stripes, so the cache never holds more than that
+ * in total. When a stripe is full the entry of that stripe that was used least recently is
+ * dropped, which can happen before the cache as a whole is full.
+ *
+ * The cache only uses synchronized blocks, so it also works in compiled GWT code where they
+ * are ignored.
+ *
+ * @param <V> The type of the cached values
+ *
+ * @since 18 October 2026
+ */
+class StripedLruCache<V> {
+
+    /**
+     * A least recently used map that drops its eldest entry once it holds too many
+     *
+     * @param <V> The type of the cached values
+     */
+    private static class Stripe<V> extends LinkedHashMap<String, V> {
+
+        /**
+         * The serial version id
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The most entries the stripe holds
+         */
+        private final int maxSize;
+
+        /**
+         * Class constructor
+         *
+         * @param maxSize - The most entries the stripe holds
+         */
+        Stripe(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * Drops the least recently used entry once the stripe holds too many entries
+         *
+         * @param eldest - The least recently used entry
+         *
+         * @return Whether the eldest entry should be dropped
+         */
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+            return size() > maxSize;
+        }
+    }
+
+    /**
+     * The stripes the keys are spread over, the amount is a power of two
+     */
+    private final Stripe<V>[] stripes;
+
+    /**
+     * Class constructor
+     *
+     * @since 18 October 2026
+     *
+     * @param stripeCount - The amount of stripes, rounded up to a power of two and reduced so
+     *                      every stripe can hold at least one entry
+     * @param maxSize - The most entries the cache holds in total, at least one
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    StripedLruCache(int stripeCount, int maxSize) {
+        maxSize = Math.max(1, maxSize);
+        int count = 1;
+        while (count < stripeCount && count * 2 <= maxSize) {
+            count <<= 1;
+        }
+        int stripeSize = maxSize / count;
+        int largerStripes = maxSize % count;
+        stripes = new Stripe[count];
+        for (int x = 0; x < count; x++) {
+            stripes[x] = new Stripe<V>(x < largerStripes ? stripeSize + 1 : stripeSize);
+        }
+    }
+
+    /**
+     * Retrieves a cached value
+     *
+     * @since 18 October 2026
+     *
+     * @param key - The key of the value
+     *
+     * @return The value, null if it is not cached
+     */
+    V get(String key) {
+        Stripe<V> stripe = getStripe(key);
+        synchronized (stripe) {
+            return stripe.get(key);
+        }
+    }
+
+    /**
+     * Caches a value unless a value is already cached for the key
+     *
+     * @since 18 October 2026
+     *
+     * @param key - The key of the value
+     * @param value - The value to cache
+     *
+     * @return The value that is cached for the key after the call
+     */
+    V putIfAbsent(String key, V value) {
+        Stripe<V> stripe = getStripe(key);
+        synchronized (stripe) {
+            V cached = stripe.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            stripe.put(key, value);
+            return value;
+        }
+    }
+
+    /**
+     * Removes all the cached values
+     *
+     * @since 18 October 2026
+     */
+    void clear() {
+        for (Stripe<V> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    /**
+     * Retrieves the stripe that holds a key
+     *
+     * @since 18 October 2026
+     *
+     * @param key - The key
+     *
+     * @return The stripe that holds the key
+     */
+    private Stripe<V> getStripe(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+}
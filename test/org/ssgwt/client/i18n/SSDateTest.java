@@ -0,0 +1,99 @@
+package org.ssgwt.client.i18n;
+
+import com.google.gwt.i18n.client.TimeZone;
+import com.google.gwt.junit.client.GWTTestCase;
+
+/**
+ * Test cases for reusing an SSDate with reset instead of creating a new one
+ *
+ * @since 18 October 2026
+ */
+public class SSDateTest extends GWTTestCase {
+
+    /**
+     * The times the dates are reset to, including a time before the epoch
+     */
+    private static final long[] TIMES = {0L, 1593614705007L, -86400001L, 1790000000000L};
+
+    /**
+     * Retrieves the module name
+     *
+     * @since 18 October 2026
+     */
+    @Override
+    public String getModuleName() {
+        return "org.ssgwt.ssGwt";
+    }
+
+    /**
+     * Asserts that a reset date has the same time, offset and time zone as a new date
+     *
+     * @since 18 October 2026
+     *
+     * @param expected - The new date
+     * @param actual - The reset date
+     */
+    private static void assertSameDate(SSDate expected, SSDate actual) {
+        assertEquals("The time was expected to match the new date", expected.getTime(), actual.getTime());
+        assertEquals(
+            "The time zone offset was expected to match the new date",
+            expected.getTimezoneOffset(),
+            actual.getTimezoneOffset()
+        );
+        assertSame("The time zone was expected to match the new date", expected.getTimeZone(), actual.getTimeZone());
+    }
+
+    /**
+     * Tests that reset gives the same date as the constructor without a current time zone
+     *
+     * @since 18 October 2026
+     */
+    public void testResetWithoutCurrentTimeZone() {
+        TimeZoneSettings.getInstance().setCurrentTimeZone(null);
+        SSDate date = new SSDate(42L);
+        for (long time : TIMES) {
+            date.reset(time);
+            assertSameDate(new SSDate(time), date);
+        }
+    }
+
+    /**
+     * Tests that reset gives the same date as the constructor with a current time zone
+     *
+     * @since 18 October 2026
+     */
+    public void testResetWithCurrentTimeZone() {
+        TimeZoneSettings.getInstance().setCurrentTimeZone(TimeZone.createTimeZone(-120));
+        try {
+            SSDate date = new SSDate(42L);
+            for (long time : TIMES) {
+                date.reset(time);
+                assertSameDate(new SSDate(time), date);
+                assertEquals("The offset of the current time zone was expected", -120, date.getTimezoneOffset());
+            }
+        } finally {
+            TimeZoneSettings.getInstance().setCurrentTimeZone(null);
+        }
+    }
+
+    /**
+     * Tests that reset picks up a change of the current time zone, both ways
+     *
+     * @since 18 October 2026
+     */
+    public void testResetAfterCurrentTimeZoneChanged() {
+        TimeZoneSettings timeZoneSettings = TimeZoneSettings.getInstance();
+        SSDate date = new SSDate(42L);
+
+        timeZoneSettings.setCurrentTimeZone(TimeZone.createTimeZone(300));
+        try {
+            date.reset(TIMES[1]);
+            assertSameDate(new SSDate(TIMES[1]), date);
+        } finally {
+            timeZoneSettings.setCurrentTimeZone(null);
+        }
+        date.reset(TIMES[1]);
+        assertSameDate(new SSDate(TIMES[1]), date);
+        assertNull("No time zone was expected once the current time zone is cleared", date.getTimeZone());
+    }
+}
@@ -0,0 +1,111 @@
+package org.ssgwt.client.ui.datagrid;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+/**
+ * Test cases for the DataGridPageCache
+ * 
+ * @since 18 October 2026
+ */
+public class DataGridPageCacheTest extends GWTTestCase {
+
+    /**
+     * Retrieves the module name
+     * 
+     * @since 18 October 2026
+     */
+    @Override
+    public String getModuleName() {
+        return "org.ssgwt.ssGwt";
+    }
+
+    /**
+     * Creates a page of rows
+     * 
+     * @since 18 October 2026
+     * 
+     * @param rows - The rows of the page
+     * 
+     * @return The page
+     */
+    private static List<String> page(String... rows) {
+        List<String> page = new ArrayList<String>();
+        for (String row : rows) {
+            page.add(row);
+        }
+        return page;
+    }
+
+    /**
+     * Tests that a prefetched page is only stored while it is waiting to be received
+     * 
+     * @since 18 October 2026
+     */
+    public void testPutPrefetchedOnlyStoresPendingPages() {
+        DataGridPageCache<String> cache = new DataGridPageCache<String>(5);
+        String key = cache.createKey("10:10");
+        assertFalse(
+            "A page that was not requested was not expected to be stored",
+            cache.putPrefetched(key, page("a"))
+        );
+        assertNull("A page that was not requested was not expected to be cached", cache.get(key));
+
+        assertTrue("The page was expected to need a request", cache.startPrefetch(key));
+        assertFalse("A page that is waiting was not expected to be requested again", cache.startPrefetch(key));
+        assertTrue("The requested page was expected to be stored", cache.putPrefetched(key, page("a")));
+        assertEquals("The stored page was expected to be cached", page("a"), cache.get(key));
+        assertFalse(
+            "A page that was already received was not expected to be stored again",
+            cache.putPrefetched(key, page("b"))
+        );
+        assertEquals("The first received page was expected to stay cached", page("a"), cache.get(key));
+    }
+
+    /**
+     * Tests that a page prefetched before the filter changed is not stored once it arrives
+     * 
+     * @since 18 October 2026
+     */
+    public void testFilterChangedWhilePrefetchInFlight() {
+        DataGridPageCache<String> cache = new DataGridPageCache<String>(5);
+        String oldKey = cache.createKey("10:10|filter:name");
+        assertTrue("The page was expected to need a request", cache.startPrefetch(oldKey));
+
+        cache.clear();
+        String newKey = cache.createKey("10:10|filter:name");
+        assertFalse("The key was expected to change once the cache was cleared", oldKey.equals(newKey));
+
+        assertFalse(
+            "The page requested before the filter changed was not expected to be stored",
+            cache.putPrefetched(oldKey, page("stale"))
+        );
+        assertNull("The stale page was not expected to be cached", cache.get(oldKey));
+        assertNull("The stale page was not expected to be cached for the new filter", cache.get(newKey));
+
+        assertTrue("The page was expected to need a request for the new filter", cache.startPrefetch(newKey));
+        assertTrue("The page for the new filter was expected to be stored", cache.putPrefetched(newKey, page("fresh")));
+        assertEquals("The page for the new filter was expected to be cached", page("fresh"), cache.get(newKey));
+    }
+
+    /**
+     * Tests that the least recently used page is removed once the cache is full
+     * 
+     * @since 18 October 2026
+     */
+    public void testLeastRecentlyUsedPageRemoved() {
+        DataGridPageCache<String> cache = new DataGridPageCache<String>(2);
+        String first = cache.createKey("0:10");
+        String second = cache.createKey("10:10");
+        String third = cache.createKey("20:10");
+        cache.put(first, page("a"));
+        cache.put(second, page("b"));
+        cache.get(first);
+        cache.put(third, page("c"));
+        assertNotNull("The recently used page was expected to stay cached", cache.get(first));
+        assertNull("The least recently used page was expected to be removed", cache.get(second));
+        assertNotNull("The newest page was expected to be cached", cache.get(third));
+    }
+}
@@ -0,0 +1,75 @@
+package org.ssgwt.client.ui.datagrid.column;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+/**
+ * Test cases for the SSTextCell component
+ * 
+ * @since 18 October 2026
+ */
+public class SSTextCellTest extends GWTTestCase {
+
+    /**
+     * Retrieves the module name
+     * 
+     * @since 18 October 2026
+     */
+    @Override
+    public String getModuleName() {
+        return "org.ssgwt.ssGwt";
+    }
+
+    /**
+     * Tests that the value is html encoded and that spaces are replaced with non breaking spaces
+     * 
+     * @since 18 October 2026
+     */
+    public void testEscapeHtmlWithNonBreakingSpaces() {
+        assertEquals(
+            "The spaces were expected to be replaced with non breaking spaces",
+            "12&nbsp;Jan&nbsp;2013",
+            SSTextCell.escapeHtmlWithNonBreakingSpaces("12 Jan 2013")
+        );
+        assertEquals(
+            "The html characters were expected to be encoded",
+            "&lt;b&gt;&amp;&quot;&#39;",
+            SSTextCell.escapeHtmlWithNonBreakingSpaces("<b>&\"'")
+        );
+        String plainValue = "NoSpecialCharacters";
+        assertSame(
+            "A value without special characters was expected to be returned as is",
+            plainValue,
+            SSTextCell.escapeHtmlWithNonBreakingSpaces(plainValue)
+        );
+    }
+
+    /**
+     * Tests that a date value is converted to the tooltip format and that a pattern without
+     * time fields results in midnight instead of the current time
+     * 
+     * @since 18 October 2026
+     */
+    public void testDateTooltip() {
+        SSTextCell<Object> cell = new SSTextCell<Object>("dd MMM yyyy", "yyyy-MM-dd HH:mm:ss");
+        assertEquals(
+            "The date was expected to be converted to the tooltip format at midnight",
+            "2013-01-12 00:00:00",
+            cell.getDateTooltip("12 Jan 2013")
+        );
+        assertEquals(
+            "The remembered tooltip was expected to be the same",
+            "2013-01-12 00:00:00",
+            cell.getDateTooltip("12 Jan 2013")
+        );
+        assertEquals(
+            "A value that is not a date was expected to be used as the tooltip",
+            "Not a date",
+            cell.getDateTooltip("Not a date")
+        );
+        assertEquals(
+            "An empty value was expected to be used as the tooltip",
+            "",
+            cell.getDateTooltip("")
+        );
+    }
+}
@@ -0,0 +1,138 @@
+package org.ssgwt.client.ui.datagrid.filter;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+/**
+ * Test cases for the CheckBoxListModel that holds the items, filter text and selection
+ * of the VirtualCheckBoxList
+ * 
+ * @since 18 October 2026
+ */
+public class CheckBoxListModelTest extends GWTTestCase {
+
+    /**
+     * Retrieves the module name
+     * 
+     * @since 18 October 2026
+     */
+    @Override
+    public String getModuleName() {
+        return "org.ssgwt.ssGwt";
+    }
+
+    /**
+     * Creates a model holding the items
+     * 
+     * @since 18 October 2026
+     * 
+     * @return The model
+     */
+    private static CheckBoxListModel createModel() {
+        CheckBoxListModel model = new CheckBoxListModel();
+        model.setItems(Arrays.asList("Banana", "apple", null, "Pineapple", "", "Grape"));
+        return model;
+    }
+
+    /**
+     * Retrieves the indexes of the visible items of the model
+     * 
+     * @since 18 October 2026
+     * 
+     * @param model - The model
+     * 
+     * @return The indexes of the visible items as text
+     */
+    private static String getVisibleItems(CheckBoxListModel model) {
+        int[] visibleItems = new int[model.getVisibleItemCount()];
+        for (int x = 0; x < visibleItems.length; x++) {
+            visibleItems[x] = model.getVisibleItem(x);
+        }
+        return Arrays.toString(visibleItems);
+    }
+
+    /**
+     * Tests that items without text are visible and can be selected while there is no
+     * filter text, and are hidden by any filter text
+     * 
+     * @since 18 October 2026
+     */
+    public void testItemsWithoutText() {
+        CheckBoxListModel model = createModel();
+        assertEquals("Every item was expected to be kept", 6, model.getItemCount());
+        assertEquals("Items without text were expected to be visible without filter text", "[0, 1, 2, 3, 4, 5]", getVisibleItems(model));
+        assertTrue("The empty item was expected to be selectable", model.setItemSelected(4, true));
+        assertTrue("The empty item was expected to be selected", model.isItemSelected(4));
+        model.setFilterText("e");
+        assertEquals("Items without text were not expected to match filter text", "[1, 3, 5]", getVisibleItems(model));
+        assertTrue("The empty item was expected to stay selected while hidden", model.isItemSelected(4));
+    }
+
+    /**
+     * Tests that the visible items are narrowed to the items containing the filter text,
+     * ignoring case and surrounding spaces
+     * 
+     * @since 18 October 2026
+     */
+    public void testFilterText() {
+        CheckBoxListModel model = createModel();
+        assertTrue("A new filter text was expected to change the filter", model.setFilterText("AP"));
+        assertEquals("The items containing the filter text were expected", "[1, 3, 5]", getVisibleItems(model));
+        assertFalse("A filter text that only differs in case was not expected to change the filter", model.setFilterText(" ap "));
+        assertTrue("Appending to the filter text was expected to change the filter", model.setFilterText("app"));
+        assertEquals("Appending was expected to narrow the visible items", "[1, 3]", getVisibleItems(model));
+        assertTrue("Appending after a case change was expected to change the filter", model.setFilterText("APPLE"));
+        assertEquals("Appending after a case change was expected to narrow the visible items", "[1, 3]", getVisibleItems(model));
+        assertTrue("Removing characters was expected to change the filter", model.setFilterText("a"));
+        assertEquals("Removing characters was expected to widen the visible items", "[0, 1, 3, 5]", getVisibleItems(model));
+        assertTrue("Clearing the filter text was expected to change the filter", model.setFilterText(null));
+        assertEquals("Clearing the filter text was expected to show every item", "[0, 1, 2, 3, 4, 5]", getVisibleItems(model));
+    }
+
+    /**
+     * Tests that the selection is kept in list order and is not affected by the filter text
+     * 
+     * @since 18 October 2026
+     */
+    public void testSelection() {
+        CheckBoxListModel model = createModel();
+        assertTrue("The item was expected to exist", model.setItemSelected(5, true));
+        assertTrue("The item was expected to exist", model.setItemSelected(0, true));
+        assertTrue("The item was expected to exist", model.setItemSelected(3, true));
+        assertTrue("The item was expected to exist", model.setItemSelected(3, false));
+        assertFalse("An index before the items was not expected to be selected", model.setItemSelected(-1, true));
+        assertFalse("An index after the items was not expected to be selected", model.setItemSelected(6, true));
+
+        model.setFilterText("grape");
+        Set<Integer> selectedItems = model.getSelectedItems();
+        assertEquals("The selection was expected in list order and to ignore the filter", "[0, 5]", selectedItems.toString());
+        assertTrue("The selected item was expected to be selected", model.isItemSelected(0));
+        assertFalse("The deselected item was not expected to be selected", model.isItemSelected(3));
+        try {
+            selectedItems.add(1);
+            fail("The selected items were not expected to be changeable");
+        } catch (UnsupportedOperationException e) {
+            // The selected items can not be changed
+        }
+
+        model.clearSelection();
+        assertTrue("Clearing the selection was expected to deselect every item", model.getSelectedItems().isEmpty());
+    }
+
+    /**
+     * Tests that setting the items clears the selection and the filter text
+     * 
+     * @since 18 October 2026
+     */
+    public void testSetItemsResets() {
+        CheckBoxListModel model = createModel();
+        model.setItemSelected(1, true);
+        model.setFilterText("grape");
+        model.setItems(Arrays.asList("one", "two"));
+        assertTrue("Setting the items was expected to clear the selection", model.getSelectedItems().isEmpty());
+        assertEquals("Setting the items was expected to clear the filter text", "[0, 1]", getVisibleItems(model));
+        assertEquals("The text of the new items was expected", "two", model.getItemText(1));
+    }
+}
@@ -200,4 +200,35 @@ public class TextFilterTest extends GWTTestCase {
         );
     }
     
+    /**
+     * Tests that the key of the criteria only differs for criteria that filter different data
+     * 
+     * @since 18 October 2026
+     */
+    public void testCriteriaKey() {
+        TextFilter.TextFilterCriteria criteria = new TextFilter.TextFilterCriteria();
+        criteria.setCriteria("smith");
+        assertEquals(
+            "A copy of the criteria was expected to have the same key",
+            criteria.getKey(),
+            criteria.copy().getKey()
+        );
+        
+        TextFilter.TextFilterCriteria other = criteria.copy();
+        other.setCriteria("smit");
+        assertFalse("Different text was expected to result in a different key", criteria.getKey().equals(other.getKey()));
+        
+        other = criteria.copy();
+        other.setExactMatchEntries(true);
+        assertFalse("An exact match was expected to result in a different key", criteria.getKey().equals(other.getKey()));
+        
+        other = criteria.copy();
+        other.setFindEmptyEntriesOnly(true);
+        assertFalse("Finding empty entries was expected to result in a different key", criteria.getKey().equals(other.getKey()));
+        
+        other = criteria.copy();
+        other.setCriteria(null);
+        assertFalse("No text was expected to result in a different key", criteria.getKey().equals(other.getKey()));
+    }
+    
 }
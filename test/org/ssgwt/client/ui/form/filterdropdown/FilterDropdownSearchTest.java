@@ -0,0 +1,143 @@
+package org.ssgwt.client.ui.form.filterdropdown;
+
+import java.util.Arrays;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+/**
+ * Test cases for the FilterDropdownSearch that filters the items of a FilterDropdown
+ * 
+ * @since 18 October 2026
+ */
+public class FilterDropdownSearchTest extends GWTTestCase {
+
+    /**
+     * A prefix index that counts how often the whole index is searched
+     */
+    private static class CountingIndex extends PrefixFilterDropdownIndex {
+
+        /**
+         * The amount of times the index was searched
+         */
+        private int searchCount = 0;
+
+        /**
+         * Class constructor
+         * 
+         * @param ignoreCase - Whether the matching should ignore case
+         */
+        CountingIndex(boolean ignoreCase) {
+            super(ignoreCase);
+        }
+
+        /**
+         * Counts the search and searches the index
+         * 
+         * @param criteria - The criteria entered in the filter box
+         * 
+         * @return The positions of the matching items in ascending order
+         */
+        @Override
+        public int[] search(String criteria) {
+            searchCount++;
+            return super.search(criteria);
+        }
+    }
+
+    /**
+     * Retrieves the module name
+     * 
+     * @since 18 October 2026
+     */
+    @Override
+    public String getModuleName() {
+        return "org.ssgwt.ssGwt";
+    }
+
+    /**
+     * Tests that appending characters to the criteria narrows the previous matches instead
+     * of searching the index, and that the narrowed matches equal a search of the index
+     * 
+     * @since 18 October 2026
+     */
+    public void testAppendNarrowsPreviousMatches() {
+        CountingIndex index = new CountingIndex(false);
+        FilterDropdownSearch search = new FilterDropdownSearch(index);
+        search.build(Arrays.asList("apple", "apricot", "banana", "application", "app"));
+
+        assertEquals("The matching positions were not as expected", "[0, 1, 3, 4]", Arrays.toString(search.getFilteredPositions("a")));
+        assertEquals("The matching positions were not as expected", "[0, 3, 4]", Arrays.toString(search.getFilteredPositions("app")));
+        assertEquals("The matching positions were not as expected", "[3]", Arrays.toString(search.getFilteredPositions("appli")));
+        assertEquals("Appending to the criteria was expected to narrow without searching", 1, index.searchCount);
+
+        assertEquals("The matching positions were not as expected", "[0, 1, 3, 4]", Arrays.toString(search.getFilteredPositions("ap")));
+        assertEquals("Removing characters was expected to search the index", 2, index.searchCount);
+
+        int[] positions = search.getFilteredPositions("ap");
+        assertSame("The same criteria was expected to return the remembered matches", positions, search.getFilteredPositions("ap"));
+        assertEquals("The same criteria was not expected to search the index", 2, index.searchCount);
+    }
+
+    /**
+     * Tests that changing the case of the criteria searches the index again for a case
+     * sensitive index, and that appending after the case change narrows the new matches
+     * 
+     * @since 18 October 2026
+     */
+    public void testAppendAfterCaseChangeCaseSensitive() {
+        CountingIndex index = new CountingIndex(false);
+        FilterDropdownSearch search = new FilterDropdownSearch(index);
+        search.build(Arrays.asList("Apple", "apple", "Apricot", "apricot", "APPLE"));
+
+        assertEquals("The matching positions were not as expected", "[1, 3]", Arrays.toString(search.getFilteredPositions("a")));
+        assertEquals("The case change was expected to find the other items", "[0, 2, 4]", Arrays.toString(search.getFilteredPositions("A")));
+        assertEquals("The case change was expected to search the index", 2, index.searchCount);
+        assertEquals(
+            "Appending after the case change was expected to narrow the new matches",
+            Arrays.toString(index.search("Ap")),
+            Arrays.toString(search.getFilteredPositions("Ap"))
+        );
+        assertEquals("The matching positions were not as expected", "[0]", Arrays.toString(search.getFilteredPositions("App")));
+        assertEquals("The matching positions were not as expected", "[4]", Arrays.toString(search.getFilteredPositions("APP")));
+    }
+
+    /**
+     * Tests that changing the case of the criteria for an index that ignores case still
+     * matches the same items, and that appending afterwards narrows correctly
+     * 
+     * @since 18 October 2026
+     */
+    public void testAppendAfterCaseChangeIgnoringCase() {
+        NGramFilterDropdownIndex index = new NGramFilterDropdownIndex();
+        FilterDropdownSearch search = new FilterDropdownSearch(index);
+        search.build(Arrays.asList("Johannesburg", "Johnson", "Port Elizabeth", "Jo'burg"));
+
+        assertEquals("The matching positions were not as expected", "[0, 1, 3]", Arrays.toString(search.getFilteredPositions("Jo")));
+        assertEquals("The matching positions were not as expected", "[0, 1]", Arrays.toString(search.getFilteredPositions("JOH")));
+        assertEquals("The matching positions were not as expected", "[0]", Arrays.toString(search.getFilteredPositions("JOHa")));
+        assertEquals("The matching positions were not as expected", "[0]", Arrays.toString(search.getFilteredPositions("johA")));
+        assertEquals("The matching positions were not as expected", "[]", Arrays.toString(search.getFilteredPositions("johAx")));
+    }
+
+    /**
+     * Tests that building the index again forgets the previous matches
+     * 
+     * @since 18 October 2026
+     */
+    public void testBuildForgetsPreviousMatches() {
+        FilterDropdownSearch search = new FilterDropdownSearch(new PrefixFilterDropdownIndex());
+        search.build(Arrays.asList("apple", "banana"));
+        assertEquals("The matching positions were not as expected", "[0]", Arrays.toString(search.getFilteredPositions("a")));
+        search.build(Arrays.asList("banana", "avocado", "apple"));
+        assertEquals(
+            "The matches were expected to come from the new items",
+            "[1, 2]",
+            Arrays.toString(search.getFilteredPositions("a"))
+        );
+        assertEquals(
+            "Appending was expected to narrow the matches of the new items",
+            "[2]",
+            Arrays.toString(search.getFilteredPositions("ap"))
+        );
+    }
+}
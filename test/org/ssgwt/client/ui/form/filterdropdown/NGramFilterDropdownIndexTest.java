@@ -0,0 +1,131 @@
+package org.ssgwt.client.ui.form.filterdropdown;
+
+import java.util.Arrays;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+/**
+ * Test cases for the NGramFilterDropdownIndex
+ * 
+ * @since 18 October 2026
+ */
+public class NGramFilterDropdownIndexTest extends GWTTestCase {
+
+    /**
+     * The selection texts the index is built over
+     */
+    private static final String[] TEXTS = {"Johannesburg", "Cape Town", "Durban", "Port Elizabeth", "jo", ""};
+
+    /**
+     * Retrieves the module name
+     * 
+     * @since 18 October 2026
+     */
+    @Override
+    public String getModuleName() {
+        return "org.ssgwt.ssGwt";
+    }
+
+    /**
+     * Creates an index with the default n-gram length built over the texts
+     * 
+     * @since 18 October 2026
+     * 
+     * @return The built index
+     */
+    private static NGramFilterDropdownIndex createIndex() {
+        NGramFilterDropdownIndex index = new NGramFilterDropdownIndex();
+        index.build(Arrays.asList(TEXTS));
+        return index;
+    }
+
+    /**
+     * Tests that the items containing the criteria are found, ignoring case
+     * 
+     * @since 18 October 2026
+     */
+    public void testSearchFindsItemsContainingCriteria() {
+        NGramFilterDropdownIndex index = createIndex();
+        assertEquals(
+            "The items containing the criteria were expected",
+            Arrays.toString(new int[] {1}),
+            Arrays.toString(index.search("town"))
+        );
+        assertEquals(
+            "The case of the criteria was expected to be ignored",
+            Arrays.toString(new int[] {3}),
+            Arrays.toString(index.search("ELIZA"))
+        );
+        assertEquals(
+            "Criteria spanning several n-grams was expected to match the whole criteria",
+            Arrays.toString(new int[] {0}),
+            Arrays.toString(index.search("hannes"))
+        );
+        assertEquals(
+            "Criteria with an n-gram that is not indexed was expected to match nothing",
+            0,
+            index.search("xyz").length
+        );
+        assertEquals(
+            "Criteria whose n-grams are all indexed but not next to each other was expected to match nothing",
+            0,
+            index.search("burgjoh").length
+        );
+    }
+
+    /**
+     * Tests that criteria shorter than an n-gram is matched against every item
+     * 
+     * @since 18 October 2026
+     */
+    public void testSearchShorterThanGramLength() {
+        NGramFilterDropdownIndex index = createIndex();
+        assertEquals(
+            "Criteria shorter than an n-gram was expected to match every item containing it",
+            Arrays.toString(new int[] {0, 4}),
+            Arrays.toString(index.search("Jo"))
+        );
+        assertEquals(
+            "Criteria shorter than an n-gram was expected to match inside the text",
+            Arrays.toString(new int[] {0, 2}),
+            Arrays.toString(index.search("an"))
+        );
+        assertEquals(
+            "An empty criteria was expected to match every item",
+            Arrays.toString(new int[] {0, 1, 2, 3, 4, 5}),
+            Arrays.toString(index.search(""))
+        );
+        assertEquals(
+            "A null criteria was expected to match every item",
+            Arrays.toString(new int[] {0, 1, 2, 3, 4, 5}),
+            Arrays.toString(index.search(null))
+        );
+    }
+
+    /**
+     * Tests that an item containing an n-gram more than once is only found once
+     * 
+     * @since 18 October 2026
+     */
+    public void testRepeatedGram() {
+        NGramFilterDropdownIndex index = new NGramFilterDropdownIndex(2);
+        index.build(Arrays.asList("aaaa", "baaa", "ab"));
+        assertEquals(
+            "Every item containing the criteria was expected once",
+            Arrays.toString(new int[] {0, 1}),
+            Arrays.toString(index.search("aaa"))
+        );
+    }
+
+    /**
+     * Tests matching a single item
+     * 
+     * @since 18 October 2026
+     */
+    public void testMatches() {
+        NGramFilterDropdownIndex index = createIndex();
+        assertTrue("The item was expected to contain the criteria", index.matches(3, "t eli"));
+        assertTrue("The item was expected to contain short criteria", index.matches(2, "B"));
+        assertFalse("The item was not expected to contain the criteria", index.matches(2, "town"));
+    }
+}
@@ -0,0 +1,130 @@
+package org.ssgwt.client.ui.form.filterdropdown;
+
+import java.util.Arrays;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+/**
+ * Test cases for the PrefixFilterDropdownIndex
+ * 
+ * @since 18 October 2026
+ */
+public class PrefixFilterDropdownIndexTest extends GWTTestCase {
+
+    /**
+     * Retrieves the module name
+     * 
+     * @since 18 October 2026
+     */
+    @Override
+    public String getModuleName() {
+        return "org.ssgwt.ssGwt";
+    }
+
+    /**
+     * Creates an index built over the texts
+     * 
+     * @since 18 October 2026
+     * 
+     * @param ignoreCase - Whether the index should ignore case
+     * @param texts - The selection texts of the items
+     * 
+     * @return The built index
+     */
+    private static PrefixFilterDropdownIndex createIndex(boolean ignoreCase, String... texts) {
+        PrefixFilterDropdownIndex index = new PrefixFilterDropdownIndex(ignoreCase);
+        index.build(Arrays.asList(texts));
+        return index;
+    }
+
+    /**
+     * Tests that the items starting with the criteria are found in display order
+     * 
+     * @since 18 October 2026
+     */
+    public void testSearchFindsItemsStartingWithCriteria() {
+        PrefixFilterDropdownIndex index = createIndex(false, "banana", "apple", "cherry", "apricot", "Apple pie", "app");
+        assertEquals(
+            "The items starting with the criteria were expected in display order",
+            Arrays.toString(new int[] {1, 3, 5}),
+            Arrays.toString(index.search("ap"))
+        );
+        assertEquals(
+            "The matching was expected to be case sensitive",
+            Arrays.toString(new int[] {4}),
+            Arrays.toString(index.search("Ap"))
+        );
+        assertEquals(
+            "An empty criteria was expected to match every item",
+            Arrays.toString(new int[] {0, 1, 2, 3, 4, 5}),
+            Arrays.toString(index.search(""))
+        );
+    }
+
+    /**
+     * Tests the bounds of the binary search, criteria sorting before the first text, after
+     * the last text and matching only the first or last text
+     * 
+     * @since 18 October 2026
+     */
+    public void testSearchBounds() {
+        PrefixFilterDropdownIndex index = createIndex(false, "delta", "alpha", "echo", "bravo", "charlie");
+        assertEquals(
+            "Criteria sorting before every text was expected to match nothing",
+            0,
+            index.search("0").length
+        );
+        assertEquals(
+            "Criteria sorting after every text was expected to match nothing",
+            0,
+            index.search("zulu").length
+        );
+        assertEquals(
+            "Criteria matching only the first sorted text was expected to find it",
+            Arrays.toString(new int[] {1}),
+            Arrays.toString(index.search("al"))
+        );
+        assertEquals(
+            "Criteria matching only the last sorted text was expected to find it",
+            Arrays.toString(new int[] {2}),
+            Arrays.toString(index.search("echo"))
+        );
+        assertEquals(
+            "Criteria longer than the last sorted text was expected to match nothing",
+            0,
+            index.search("echoes").length
+        );
+        assertEquals(
+            "Criteria between two texts was expected to match nothing",
+            0,
+            index.search("c0").length
+        );
+    }
+
+    /**
+     * Tests that an index without items or built without being given items matches nothing
+     * 
+     * @since 18 October 2026
+     */
+    public void testSearchWithoutItems() {
+        assertEquals("An index that was not built was expected to match nothing", 0, new PrefixFilterDropdownIndex().search("a").length);
+        assertEquals("An index without items was expected to match nothing", 0, createIndex(false).search("").length);
+    }
+
+    /**
+     * Tests that case is ignored when requested, both when searching and when matching a single item
+     * 
+     * @since 18 October 2026
+     */
+    public void testIgnoreCase() {
+        PrefixFilterDropdownIndex index = createIndex(true, "banana", "apple", "cherry", "Apricot", "APPLE PIE");
+        assertEquals(
+            "The case of the criteria and texts was expected to be ignored",
+            Arrays.toString(new int[] {1, 3, 4}),
+            Arrays.toString(index.search("aP"))
+        );
+        assertTrue("A single item was expected to match ignoring case", index.matches(4, "apple p"));
+        assertFalse("A single item was not expected to match other text", index.matches(4, "pie"));
+        assertTrue("A null criteria was expected to match every item", index.matches(0, null));
+    }
+}
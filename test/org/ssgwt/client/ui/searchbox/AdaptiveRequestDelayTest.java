@@ -0,0 +1,79 @@
+package org.ssgwt.client.ui.searchbox;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+/**
+ * Test cases for the AdaptiveRequestDelay
+ * 
+ * @since 18 October 2026
+ */
+public class AdaptiveRequestDelayTest extends GWTTestCase {
+
+    /**
+     * Retrieves the module name
+     * 
+     * @since 18 October 2026
+     */
+    @Override
+    public String getModuleName() {
+        return "org.ssgwt.ssGwt";
+    }
+
+    /**
+     * Tests the delay before anything is measured
+     * 
+     * @since 18 October 2026
+     */
+    public void testInitialDelay() {
+        assertEquals(
+            "The delay was expected to be a bit longer than the assumed time between key strokes",
+            225,
+            new AdaptiveRequestDelay(100, 1000).getDelay()
+        );
+    }
+
+    /**
+     * Tests that the delay follows the time between key strokes, ignoring pauses
+     * 
+     * @since 18 October 2026
+     */
+    public void testKeyStrokes() {
+        AdaptiveRequestDelay delay = new AdaptiveRequestDelay(50, 1000);
+        delay.recordKeyStroke(1000);
+        assertEquals("The first key stroke was not expected to change the delay", 225, delay.getDelay());
+        delay.recordKeyStroke(1100);
+        assertEquals("Faster typing was expected to shorten the delay", 203, delay.getDelay());
+        delay.recordKeyStroke(5000);
+        assertEquals("A pause was not expected to change the delay", 203, delay.getDelay());
+        delay.recordKeyStroke(4000);
+        assertEquals("A key stroke earlier than the previous one was not expected to change the delay", 203, delay.getDelay());
+    }
+
+    /**
+     * Tests that a part of the response time is added to the delay
+     * 
+     * @since 18 October 2026
+     */
+    public void testResponseTime() {
+        AdaptiveRequestDelay delay = new AdaptiveRequestDelay(50, 1000);
+        delay.recordResponseTime(400);
+        assertEquals("The first response time was expected to be used as is", 325, delay.getDelay());
+        delay.recordResponseTime(0);
+        assertEquals("Later response times were expected to be averaged", 295, delay.getDelay());
+    }
+
+    /**
+     * Tests that the delay is kept between the minimum and maximum delay
+     * 
+     * @since 18 October 2026
+     */
+    public void testLimits() {
+        assertEquals("The delay was expected to be at least the minimum", 300, new AdaptiveRequestDelay(300, 1000).getDelay());
+        assertEquals("The delay was expected to be at most the maximum", 200, new AdaptiveRequestDelay(100, 200).getDelay());
+        assertEquals(
+            "A maximum below the minimum was expected to be raised to the minimum",
+            400,
+            new AdaptiveRequestDelay(400, 100).getDelay()
+        );
+    }
+}
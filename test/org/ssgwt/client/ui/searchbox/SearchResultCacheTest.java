@@ -0,0 +1,111 @@
+package org.ssgwt.client.ui.searchbox;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+/**
+ * Test cases for the SearchResultCache
+ * 
+ * @since 18 October 2026
+ */
+public class SearchResultCacheTest extends GWTTestCase {
+
+    /**
+     * Retrieves the module name
+     * 
+     * @since 18 October 2026
+     */
+    @Override
+    public String getModuleName() {
+        return "org.ssgwt.ssGwt";
+    }
+
+    /**
+     * Tests that results are stored against their search string and copied when stored
+     * 
+     * @since 18 October 2026
+     */
+    public void testPutAndGet() {
+        SearchResultCache<String> cache = new SearchResultCache<String>(5);
+        List<String> results = new ArrayList<String>(Arrays.asList("john", "johanna"));
+        cache.put("jo", results, true);
+        results.add("joe");
+
+        SearchResultCache.Entry<String> entry = cache.get("jo");
+        assertNotNull("The results were expected to be cached", entry);
+        assertEquals("The results were expected to be copied when stored", Arrays.asList("john", "johanna"), entry.getResults());
+        assertTrue("The results were expected to be complete", entry.isComplete());
+        assertNull("Results were not expected for another search string", cache.get("j"));
+    }
+
+    /**
+     * Tests that the complete results of the longest shorter search string are used for narrowing
+     * 
+     * @since 18 October 2026
+     */
+    public void testGetNarrowable() {
+        SearchResultCache<String> cache = new SearchResultCache<String>(5);
+        cache.put("j", Arrays.asList("john", "johanna", "jane"), true);
+        cache.put("jo", Arrays.asList("john", "johanna"), false);
+        cache.put("joh", Arrays.asList("john", "johanna"), true);
+
+        assertEquals(
+            "The longest complete search string was expected",
+            Arrays.asList("john", "johanna"),
+            cache.getNarrowable("johan").getResults()
+        );
+        assertEquals(
+            "Incomplete results were expected to be skipped",
+            Arrays.asList("john", "johanna", "jane"),
+            cache.getNarrowable("joe").getResults()
+        );
+        assertEquals(
+            "The results of the search string itself were not expected to be used",
+            Arrays.asList("john", "johanna", "jane"),
+            cache.getNarrowable("joh").getResults()
+        );
+        assertNull("Results were not expected for a search string that is not narrowed", cache.getNarrowable("x"));
+        assertNull("Results were not expected for a single character", cache.getNarrowable("j"));
+    }
+
+    /**
+     * Tests that the least recently used results are removed once the cache is full
+     * 
+     * @since 18 October 2026
+     */
+    public void testLeastRecentlyUsedRemoved() {
+        SearchResultCache<String> cache = new SearchResultCache<String>(2);
+        cache.put("a", Arrays.asList("a"), true);
+        cache.put("b", Arrays.asList("b"), true);
+        cache.get("a");
+        cache.put("c", Arrays.asList("c"), true);
+        assertNotNull("The recently used results were expected to stay cached", cache.get("a"));
+        assertNull("The least recently used results were expected to be removed", cache.get("b"));
+        assertNotNull("The newest results were expected to be cached", cache.get("c"));
+    }
+
+    /**
+     * Tests that nothing is cached with a size of zero and that changing the size clears the cache
+     * 
+     * @since 18 October 2026
+     */
+    public void testMaxEntries() {
+        SearchResultCache<String> cache = new SearchResultCache<String>(0);
+        cache.put("a", Arrays.asList("a"), true);
+        assertNull("Nothing was expected to be cached with a size of zero", cache.get("a"));
+
+        cache.setMaxEntries(3);
+        cache.put("a", Arrays.asList("a"), true);
+        cache.setMaxEntries(3);
+        assertNotNull("Setting the same size was not expected to clear the cache", cache.get("a"));
+        cache.setMaxEntries(4);
+        assertNull("Changing the size was expected to clear the cache", cache.get("a"));
+
+        cache.put("a", Arrays.asList("a"), true);
+        cache.clear();
+        assertNull("Clearing the cache was expected to remove the results", cache.get("a"));
+    }
+}
@@ -0,0 +1,370 @@
+package org.ssgwt.share.i18n;
+
+import java.util.Date;
+
+import org.ssgwt.client.i18n.SSDate;
+import org.ssgwt.client.i18n.TimeZoneSettings;
+
+import com.google.gwt.i18n.shared.DefaultDateTimeFormatInfo;
+import com.google.gwt.i18n.shared.TimeZone;
+import com.google.gwt.junit.client.GWTTestCase;
+
+/**
+ * Test cases that pin the output of the DateTimeFormat for every pattern letter, quoted
+ * text and the StringBuilder overload, so that changes to how patterns are compiled and
+ * formatted can not change what is displayed
+ *
+ * @since 18 October 2026
+ */
+public class DateTimeFormatTest extends GWTTestCase {
+
+    /**
+     * Wednesday 1 July 2020 14:45:05.007 UTC, which is 16:45:05.007 in the test time zone
+     */
+    private static final long TEST_TIME = 1593614705007L;
+
+    /**
+     * A fixed time zone two hours ahead of UTC with names that can only come from the time zone
+     */
+    private static final TimeZone TEST_TIME_ZONE = new TimeZone() {
+
+        /**
+         * Retrieves the daylight adjustment, the test time zone has no daylight time
+         *
+         * @param date - The date
+         *
+         * @return 0
+         */
+        @Override
+        public int getDaylightAdjustment(Date date) {
+            return 0;
+        }
+
+        /**
+         * Retrieves the GMT string of the time zone
+         *
+         * @param date - The date
+         *
+         * @return The GMT string
+         */
+        @Override
+        public String getGMTString(Date date) {
+            return "GMT+02:00";
+        }
+
+        /**
+         * Retrieves the id of the time zone
+         *
+         * @return The id
+         */
+        @Override
+        public String getID() {
+            return "Test/Zone";
+        }
+
+        /**
+         * Retrieves the ISO string of the time zone
+         *
+         * @param date - The date
+         *
+         * @return The ISO string
+         */
+        @Override
+        public String getISOTimeZoneString(Date date) {
+            return "+02:00";
+        }
+
+        /**
+         * Retrieves the long name of the time zone
+         *
+         * @param date - The date
+         *
+         * @return The long name
+         */
+        @Override
+        public String getLongName(Date date) {
+            return "Test Standard Time";
+        }
+
+        /**
+         * Retrieves the offset of the time zone in minutes, negative for time zones ahead of UTC
+         *
+         * @param date - The date
+         *
+         * @return The offset
+         */
+        @Override
+        public int getOffset(Date date) {
+            return -120;
+        }
+
+        /**
+         * Retrieves the RFC string of the time zone
+         *
+         * @param date - The date
+         *
+         * @return The RFC string
+         */
+        @Override
+        public String getRFCTimeZoneString(Date date) {
+            return "+0200";
+        }
+
+        /**
+         * Retrieves the short name of the time zone
+         *
+         * @param date - The date
+         *
+         * @return The short name
+         */
+        @Override
+        public String getShortName(Date date) {
+            return "TST";
+        }
+
+        /**
+         * Retrieves the standard offset of the time zone in minutes
+         *
+         * @return The standard offset
+         */
+        @Override
+        public int getStandardOffset() {
+            return -120;
+        }
+
+        /**
+         * Checks whether the date is in daylight time, the test time zone has no daylight time
+         *
+         * @param date - The date
+         *
+         * @return false
+         */
+        @Override
+        public boolean isDaylightTime(Date date) {
+            return false;
+        }
+    };
+
+    /**
+     * Retrieves the module name
+     *
+     * @since 18 October 2026
+     */
+    @Override
+    public String getModuleName() {
+        return "org.ssgwt.ssGwt";
+    }
+
+    /**
+     * Sets the time zone offset of the application to the offset of the browser time zone at
+     * a time, so the formatted output does not depend on the daylight time of the browser time
+     * zone at the current date
+     *
+     * @since 18 October 2026
+     *
+     * @param time - The time in milliseconds since the epoch
+     *
+     * @return The previous time zone offset of the application
+     */
+    @SuppressWarnings("deprecation")
+    private static int useTimeZoneOffsetAt(long time) {
+        TimeZoneSettings timeZoneSettings = TimeZoneSettings.getInstance();
+        int previousOffset = timeZoneSettings.getCurrentTimeZoneOffset();
+        timeZoneSettings.setCurrentTimeZoneOffset(new Date(time).getTimezoneOffset());
+        return previousOffset;
+    }
+
+    /**
+     * Formats a time in the test time zone with the default English names
+     *
+     * @since 18 October 2026
+     *
+     * @param pattern - The pattern to format with
+     * @param time - The time to format in milliseconds since the epoch
+     *
+     * @return The formatted time
+     */
+    private static String format(String pattern, long time) {
+        int previousOffset = useTimeZoneOffsetAt(time);
+        try {
+            return new DateTimeFormat(pattern, new DefaultDateTimeFormatInfo()).format(new SSDate(time), TEST_TIME_ZONE);
+        } finally {
+            TimeZoneSettings.getInstance().setCurrentTimeZoneOffset(previousOffset);
+        }
+    }
+
+    /**
+     * Formats a time into a builder in the test time zone
+     *
+     * @since 18 October 2026
+     *
+     * @param format - The format to format with
+     * @param time - The time to format in milliseconds since the epoch
+     * @param builder - The builder the formatted time is appended to
+     *
+     * @return The builder returned by the format
+     */
+    private static StringBuilder format(DateTimeFormat format, long time, StringBuilder builder) {
+        int previousOffset = useTimeZoneOffsetAt(time);
+        try {
+            return format.format(new SSDate(time), TEST_TIME_ZONE, builder);
+        } finally {
+            TimeZoneSettings.getInstance().setCurrentTimeZoneOffset(previousOffset);
+        }
+    }
+
+    /**
+     * Tests the era letter
+     *
+     * @since 18 October 2026
+     */
+    public void testEra() {
+        assertEquals("The short and full era were expected", "AD Anno Domini", format("G GGGG", TEST_TIME));
+    }
+
+    /**
+     * Tests the year letter
+     *
+     * @since 18 October 2026
+     */
+    public void testYear() {
+        assertEquals("The full year was expected except for two letters", "2020 20 2020 2020", format("y yy yyy yyyy", TEST_TIME));
+    }
+
+    /**
+     * Tests the month and standalone month letters
+     *
+     * @since 18 October 2026
+     */
+    public void testMonth() {
+        assertEquals("The month number, short, full and narrow name were expected", "7 07 Jul July J", format("M MM MMM MMMM MMMMM", TEST_TIME));
+        assertEquals("The standalone month number and names were expected", "7 07 Jul July J", format("L LL LLL LLLL LLLLL", TEST_TIME));
+    }
+
+    /**
+     * Tests the day of the month letter
+     *
+     * @since 18 October 2026
+     */
+    public void testDay() {
+        assertEquals("The day of the month was expected", "1 01", format("d dd", TEST_TIME));
+    }
+
+    /**
+     * Tests the weekday and standalone weekday letters
+     *
+     * @since 18 October 2026
+     */
+    public void testWeekday() {
+        assertEquals("The short, full and narrow weekday were expected", "Wed Wed Wed Wednesday W", format("E EE EEE EEEE EEEEE", TEST_TIME));
+        assertEquals("The standalone weekday number and names were expected", "3 3 Wed Wednesday W", format("c cc ccc cccc ccccc", TEST_TIME));
+    }
+
+    /**
+     * Tests the quarter letter
+     *
+     * @since 18 October 2026
+     */
+    public void testQuarter() {
+        assertEquals("The short and full quarter were expected", "Q3 Q3 Q3 3rd quarter", format("Q QQ QQQ QQQQ", TEST_TIME));
+    }
+
+    /**
+     * Tests the hour letters and the am or pm marker
+     *
+     * @since 18 October 2026
+     */
+    public void testHours() {
+        assertEquals("The hours in every clock were expected", "4 04 16 16 16 16 4 04 PM", format("h hh H HH k kk K KK a", TEST_TIME));
+        assertEquals("Midnight was expected as 12, 0, 24 and 0", "12 0 24 0 AM", format("h H k K a", TEST_TIME - 16 * 3600000L - 45 * 60000L));
+    }
+
+    /**
+     * Tests the minute and second letters
+     *
+     * @since 18 October 2026
+     */
+    public void testMinutesAndSeconds() {
+        assertEquals("The minutes and seconds were expected", "45 45 5 05", format("m mm s ss", TEST_TIME));
+    }
+
+    /**
+     * Tests the fractional second letter, including times before the epoch
+     *
+     * @since 18 October 2026
+     */
+    public void testFractionalSeconds() {
+        assertEquals("The fractional seconds were expected", "0 01 007 0070", format("S SS SSS SSSS", TEST_TIME));
+        assertEquals("The fractional seconds before the epoch were expected", "9 99 999 9990", format("S SS SSS SSSS", -1L));
+        assertEquals("The seconds before the epoch were expected", "59.999", format("ss.SSS", -1L));
+    }
+
+    /**
+     * Tests the time zone letters
+     *
+     * @since 18 October 2026
+     */
+    public void testTimeZone() {
+        assertEquals("The short and long name were expected", "TST Test Standard Time", format("z zzzz", TEST_TIME));
+        assertEquals("The time zone id was expected", "Test/Zone", format("v", TEST_TIME));
+        assertEquals("The RFC, ISO and GMT strings were expected", "+0200 +0200 +02:00 GMT+02:00", format("Z ZZ ZZZ ZZZZ", TEST_TIME));
+    }
+
+    /**
+     * Tests quoted text in the pattern
+     *
+     * @since 18 October 2026
+     */
+    public void testQuotedText() {
+        assertEquals("Quoted text with an escaped quote was expected", "4 o'clock PM", format("h 'o''clock' a", TEST_TIME));
+        assertEquals("Two quotes were expected to display one quote", "'16'", format("''HH''", TEST_TIME));
+        assertEquals("Pattern letters in quotes were expected as text", "yyyy 2020", format("'yyyy' yyyy", TEST_TIME));
+        assertEquals("Text other than pattern letters was expected as is", "2020-07-01T16:45", format("yyyy-MM-dd'T'HH:mm", TEST_TIME));
+        try {
+            format("yyyy 'it''s", TEST_TIME);
+            fail("An unterminated quote was expected to be rejected");
+        } catch (IllegalArgumentException e) {
+            assertEquals("The missing quote was expected to be reported", "Missing trailing '", e.getMessage());
+        }
+    }
+
+    /**
+     * Tests that the StringBuilder overload appends to the builder and returns it
+     *
+     * @since 18 October 2026
+     */
+    public void testStringBuilderOverload() {
+        DateTimeFormat format = new DateTimeFormat("dd MMM yyyy HH:mm", new DefaultDateTimeFormatInfo());
+        StringBuilder builder = new StringBuilder("Due: ");
+        assertSame("The builder was expected to be returned", builder, format(format, TEST_TIME, builder));
+        assertEquals("The formatted date was expected after the existing text", "Due: 01 Jul 2020 16:45", builder.toString());
+        assertEquals(
+            "The String overload was expected to give the same text",
+            format("dd MMM yyyy HH:mm", TEST_TIME),
+            builder.substring("Due: ".length())
+        );
+    }
+
+    /**
+     * Tests that formatting twice into one reused builder gives the same text as formatting
+     * each date to a new string, so the scratch dates of the format are reset between calls
+     *
+     * @since 18 October 2026
+     */
+    public void testReusedStringBuilder() {
+        DateTimeFormat format = new DateTimeFormat("yyyy-MM-dd HH:mm:ss.SSS", new DefaultDateTimeFormatInfo());
+        StringBuilder builder = new StringBuilder();
+        format(format, TEST_TIME, builder);
+        assertEquals("The first date was expected", "2020-07-01 16:45:05.007", builder.toString());
+        builder.setLength(0);
+        format(format, -1L, builder);
+        assertEquals("The second date was expected to replace the first", "1970-01-01 01:59:59.999", builder.toString());
+        builder.append(" / ");
+        format(format, TEST_TIME, builder);
+        assertEquals(
+            "The first date was expected to be appended after the second",
+            "1970-01-01 01:59:59.999 / 2020-07-01 16:45:05.007",
+            builder.toString()
+        );
+    }
+}
@@ -0,0 +1,123 @@
+package org.ssgwt.share.i18n;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+/**
+ * Test cases for the StripedLruCache
+ * 
+ * @since 18 October 2026
+ */
+public class StripedLruCacheTest extends GWTTestCase {
+
+    /**
+     * Retrieves the module name
+     * 
+     * @since 18 October 2026
+     */
+    @Override
+    public String getModuleName() {
+        return "org.ssgwt.ssGwt";
+    }
+
+    /**
+     * Tests that a value is only cached if no value is cached for the key yet
+     * 
+     * @since 18 October 2026
+     */
+    public void testPutIfAbsent() {
+        StripedLruCache<String> cache = new StripedLruCache<String>(4, 16);
+        assertNull("No value was expected before one is cached", cache.get("a"));
+        String first = new String("first");
+        assertSame("The new value was expected to be cached", first, cache.putIfAbsent("a", first));
+        assertSame(
+            "The value that is already cached was expected to be kept",
+            first,
+            cache.putIfAbsent("a", "second")
+        );
+        assertSame("The cached value was expected", first, cache.get("a"));
+    }
+
+    /**
+     * Tests that the least recently used value of a stripe is dropped once the stripe is full
+     * 
+     * @since 18 October 2026
+     */
+    public void testLeastRecentlyUsedDropped() {
+        StripedLruCache<String> cache = new StripedLruCache<String>(1, 2);
+        cache.putIfAbsent("a", "A");
+        cache.putIfAbsent("b", "B");
+        cache.get("a");
+        cache.putIfAbsent("c", "C");
+        assertEquals("The recently used value was expected to stay cached", "A", cache.get("a"));
+        assertNull("The least recently used value was expected to be dropped", cache.get("b"));
+        assertEquals("The newest value was expected to be cached", "C", cache.get("c"));
+    }
+
+    /**
+     * Tests that a cache with more stripes than values it may hold still caches every value
+     * right after it was put, but never holds more values than its most entries in total
+     * 
+     * @since 18 October 2026
+     */
+    public void testSmallCache() {
+        StripedLruCache<String> cache = new StripedLruCache<String>(3, 1);
+        for (int x = 0; x < 100; x++) {
+            String key = "key" + x;
+            assertEquals("The value was expected to be cached right after it was put", "value" + x, cache.putIfAbsent(key, "value" + x));
+            assertEquals("The value was expected to be cached right after it was put", "value" + x, cache.get(key));
+        }
+        assertEquals("The cache was expected to hold only its most entries", 1, countCached(cache, 100));
+    }
+
+    /**
+     * Tests that the most entries is an upper bound for the whole cache when it does not divide
+     * evenly over the stripes, and that every entry can be used
+     * 
+     * @since 18 October 2026
+     */
+    public void testTotalSizeBounded() {
+        StripedLruCache<String> cache = new StripedLruCache<String>(8, 10);
+        for (int x = 0; x < 1000; x++) {
+            cache.putIfAbsent("key" + x, "value" + x);
+        }
+        int cached = countCached(cache, 1000);
+        assertTrue("The cache was not expected to hold more than its most entries, held " + cached, cached <= 10);
+        assertTrue("The cache was expected to fill most of its entries, held " + cached, cached >= 8);
+    }
+
+    /**
+     * Counts the values that are still cached for the keys key0 up to the amount of keys
+     * 
+     * @since 18 October 2026
+     * 
+     * @param cache - The cache
+     * @param keyCount - The amount of keys that were put
+     * 
+     * @return The amount of cached values
+     */
+    private static int countCached(StripedLruCache<String> cache, int keyCount) {
+        int cached = 0;
+        for (int x = 0; x < keyCount; x++) {
+            if (cache.get("key" + x) != null) {
+                cached++;
+            }
+        }
+        return cached;
+    }
+
+    /**
+     * Tests that clearing the cache removes every value
+     * 
+     * @since 18 October 2026
+     */
+    public void testClear() {
+        StripedLruCache<String> cache = new StripedLruCache<String>(8, 64);
+        for (int x = 0; x < 32; x++) {
+            cache.putIfAbsent("key" + x, "value" + x);
+        }
+        cache.clear();
+        for (int x = 0; x < 32; x++) {
+            assertNull("Clearing the cache was expected to remove every value", cache.get("key" + x));
+        }
+    }
+}
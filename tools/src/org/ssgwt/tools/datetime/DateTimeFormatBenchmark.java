@@ -0,0 +1,186 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.tools.datetime;
+
+import java.text.SimpleDateFormat;
+import java.util.Locale;
+
+import org.ssgwt.client.i18n.SSDate;
+import org.ssgwt.share.i18n.CompactTimeZone;
+import org.ssgwt.share.i18n.DateTimeFormat;
+
+import com.google.gwt.i18n.shared.DefaultDateTimeFormatInfo;
+import com.google.gwt.i18n.shared.TimeZone;
+
+/**
+ * Measures how long DateTimeFormat takes to format a date with common patterns, both to a new
+ * string and into a reused builder the way a data grid formats its cells. Every pattern is also
+ * formatted with java.text.SimpleDateFormat in the same run as a baseline the times can be
+ * compared to. The time zone patterns of SimpleDateFormat differ slightly from DateTimeFormat,
+ * which does not affect the measurement.
+ *
+ * Run it with the benchmark-date-time-format ant target.
+ *
+ * @since 18 October 2026
+ */
+public class DateTimeFormatBenchmark {
+
+    /**
+     * The patterns that are measured
+     */
+    private static final String[] PATTERNS = {
+        "dd MMM yyyy HH:mm",
+        "yyyy-MM-dd'T'HH:mm:ss.SSSZZZ",
+        "EEE, d MMM yyyy HH:mm:ss Z",
+        "EEEE d MMMM yyyy h:mm a"
+    };
+
+    /**
+     * The amount of dates formatted in a round
+     */
+    private static final int DATES = 1000;
+
+    /**
+     * The amount of rounds run before measuring
+     */
+    private static final int WARM_UP_ROUNDS = 2000;
+
+    /**
+     * The amount of rounds measured
+     */
+    private static final int MEASURED_ROUNDS = 2000;
+
+    /**
+     * A date time format for the English locale that does not need the GWT locale to be set up
+     */
+    private static class EnglishDateTimeFormat extends DateTimeFormat {
+
+        /**
+         * Class constructor
+         *
+         * @param pattern - The pattern of the format
+         */
+        EnglishDateTimeFormat(String pattern) {
+            super(pattern, new DefaultDateTimeFormatInfo());
+        }
+    }
+
+    /**
+     * Runs the benchmark
+     *
+     * @param args - Not used
+     */
+    public static void main(String[] args) {
+        TimeZone timeZone = new CompactTimeZone("Etc/UTC", 0, new String[] {"UTC", "Coordinated Universal Time"}, null, null);
+        SSDate[] dates = new SSDate[DATES];
+        for (int x = 0; x < DATES; x++) {
+            dates[x] = new SSDate(1593561605007L + x * 3599999L);
+        }
+        for (String pattern : PATTERNS) {
+            DateTimeFormat format = new EnglishDateTimeFormat(pattern);
+            System.out.println(pattern);
+            System.out.println("    to string:  " + measureString(format, dates, timeZone) + " ns per date");
+            System.out.println("    to builder: " + measureBuilder(format, dates, timeZone) + " ns per date");
+            System.out.println("    baseline:   " + measureBaseline(pattern, dates) + " ns per date (SimpleDateFormat)");
+        }
+    }
+
+    /**
+     * Measures formatting every date to a new string
+     *
+     * @param format - The format to measure
+     * @param dates - The dates to format
+     * @param timeZone - The time zone to format the dates in
+     *
+     * @return The average time to format a date in nanoseconds
+     */
+    private static long measureString(DateTimeFormat format, SSDate[] dates, TimeZone timeZone) {
+        int length = 0;
+        long start = 0;
+        for (int round = 0; round < WARM_UP_ROUNDS + MEASURED_ROUNDS; round++) {
+            if (round == WARM_UP_ROUNDS) {
+                start = System.nanoTime();
+            }
+            for (SSDate date : dates) {
+                length += format.format(date, timeZone).length();
+            }
+        }
+        return report(start, length);
+    }
+
+    /**
+     * Measures formatting every date into a reused builder
+     *
+     * @param format - The format to measure
+     * @param dates - The dates to format
+     * @param timeZone - The time zone to format the dates in
+     *
+     * @return The average time to format a date in nanoseconds
+     */
+    private static long measureBuilder(DateTimeFormat format, SSDate[] dates, TimeZone timeZone) {
+        StringBuilder builder = new StringBuilder(64);
+        int length = 0;
+        long start = 0;
+        for (int round = 0; round < WARM_UP_ROUNDS + MEASURED_ROUNDS; round++) {
+            if (round == WARM_UP_ROUNDS) {
+                start = System.nanoTime();
+            }
+            for (SSDate date : dates) {
+                builder.setLength(0);
+                length += format.format(date, timeZone, builder).length();
+            }
+        }
+        return report(start, length);
+    }
+
+    /**
+     * Measures formatting every date to a new string with SimpleDateFormat as a baseline
+     *
+     * @param pattern - The pattern to format the dates with
+     * @param dates - The dates to format
+     *
+     * @return The average time to format a date in nanoseconds
+     */
+    private static long measureBaseline(String pattern, SSDate[] dates) {
+        SimpleDateFormat format = new SimpleDateFormat(pattern, Locale.ENGLISH);
+        format.setTimeZone(java.util.TimeZone.getTimeZone("UTC"));
+        int length = 0;
+        long start = 0;
+        for (int round = 0; round < WARM_UP_ROUNDS + MEASURED_ROUNDS; round++) {
+            if (round == WARM_UP_ROUNDS) {
+                start = System.nanoTime();
+            }
+            for (SSDate date : dates) {
+                length += format.format(date).length();
+            }
+        }
+        return report(start, length);
+    }
+
+    /**
+     * Calculates the average time to format a date since the start of the measured rounds
+     *
+     * @param start - The time the measured rounds started in nanoseconds
+     * @param length - The total length of the formatted dates, used so the formatting is not optimised away
+     *
+     * @return The average time to format a date in nanoseconds
+     */
+    private static long report(long start, int length) {
+        long elapsed = System.nanoTime() - start;
+        if (length == 0) {
+            throw new IllegalStateException("Nothing was formatted");
+        }
+        return elapsed / ((long) MEASURED_ROUNDS * DATES);
+    }
+}
@@ -0,0 +1,193 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.tools.timezone;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import org.ssgwt.share.i18n.CompactTimeZone;
+import org.ssgwt.share.i18n.CompactTimeZoneData;
+
+/**
+ * Compares the payload size and decode time of the JSON time zone data with the compact
+ * time zone data, and checks that both describe the same time zones.
+ *
+ * The JSON route is measured by parsing the JSON on the JVM, as the browser would have to
+ * before it can create a time zone from it.
+ *
+ * Run it with the benchmark-compact-timezones ant target.
+ *
+ * @since 18 October 2026
+ */
+public class CompactTimeZoneDataBenchmark {
+
+    /**
+     * The amount of rounds run before measuring
+     */
+    private static final int WARM_UP_ROUNDS = 20;
+
+    /**
+     * The amount of rounds measured
+     */
+    private static final int MEASURED_ROUNDS = 50;
+
+    /**
+     * The dates the time zones are compared at
+     */
+    private static final Date[] CHECK_DATES = {
+        new Date(0L),
+        new Date(946684800000L),
+        new Date(1119484800000L),
+        new Date(1356998400000L),
+        new Date(1593561600000L),
+        new Date(1790000000000L)
+    };
+
+    /**
+     * Runs the benchmark
+     *
+     * @param args - The JSON time zone data file and the compact time zone data file, both optional
+     *
+     * @throws IOException if the files can not be read
+     */
+    public static void main(String[] args) throws IOException {
+        File jsonFile = new File(args.length > 0 ? args[0] : CompactTimeZoneDataGenerator.DEFAULT_INPUT);
+        File compactFile = new File(args.length > 1 ? args[1] : CompactTimeZoneDataGenerator.DEFAULT_OUTPUT);
+        final List<String> json = new ArrayList<String>(CompactTimeZoneDataGenerator.readProperties(jsonFile).values());
+        LinkedHashMap<String, String> compact = CompactTimeZoneDataGenerator.readProperties(compactFile);
+        final String[] names = CompactTimeZoneDataGenerator.splitArray(compact.get("timeZoneNames"));
+        final String adjustments = compact.get("timeZoneAdjustments");
+        final String[] transitions = CompactTimeZoneDataGenerator.splitArray(compact.get("timeZoneTransitions"));
+        final String[] zones = CompactTimeZoneDataGenerator.splitArray(compact.get("timeZones"));
+        final String[] ids = new CompactTimeZoneData(names, adjustments, transitions, zones).getTimeZoneIds();
+
+        long jsonCharacters = 0;
+        long jsonBytes = 0;
+        for (String value : json) {
+            jsonCharacters += value.length();
+            jsonBytes += value.getBytes("UTF-8").length;
+        }
+        long compactCharacters = 0;
+        long compactBytes = 0;
+        for (String value : compact.values()) {
+            compactCharacters += value.length();
+            compactBytes += value.getBytes("UTF-8").length;
+        }
+        System.out.println("Time zones:   " + json.size() + " JSON, " + ids.length + " compact");
+        System.out.println("JSON data:    " + jsonCharacters + " characters, " + jsonBytes + " UTF-8 bytes");
+        System.out.println("Compact data: " + compactCharacters + " characters, " + compactBytes + " UTF-8 bytes ("
+            + (compactBytes * 100 / jsonBytes) + "% of JSON)");
+
+        int mismatches = compare(json, new CompactTimeZoneData(names, adjustments, transitions, zones));
+        System.out.println("Mismatches:   " + mismatches);
+
+        Runnable jsonRound = new Runnable() {
+
+            /**
+             * Parses every JSON time zone and creates its time zone
+             */
+            @Override
+            public void run() {
+                for (String value : json) {
+                    createTimeZone(new TimeZoneJson(value));
+                }
+            }
+        };
+        Runnable compactRound = new Runnable() {
+
+            /**
+             * Decodes every compact time zone from new data, so nothing is cached between rounds
+             */
+            @Override
+            public void run() {
+                CompactTimeZoneData data = new CompactTimeZoneData(names, adjustments, transitions, zones);
+                for (String id : ids) {
+                    data.getTimeZone(id);
+                }
+            }
+        };
+        System.out.println("JSON decode:    " + measure(jsonRound) + " us for all time zones");
+        System.out.println("Compact decode: " + measure(compactRound) + " us for all time zones");
+        if (mismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Creates a time zone from parsed JSON data the way GWT does
+     *
+     * @param timeZone - The parsed JSON data of the time zone
+     *
+     * @return The time zone
+     */
+    private static CompactTimeZone createTimeZone(TimeZoneJson timeZone) {
+        int[] transitionPoints = new int[timeZone.transitions.length / 2];
+        int[] adjustments = new int[transitionPoints.length];
+        for (int x = 0; x < transitionPoints.length; x++) {
+            transitionPoints[x] = timeZone.transitions[x * 2];
+            adjustments[x] = timeZone.transitions[x * 2 + 1];
+        }
+        return new CompactTimeZone(timeZone.id, timeZone.standardOffset, timeZone.names, transitionPoints, adjustments);
+    }
+
+    /**
+     * Compares every JSON time zone with the compact time zone at the check dates
+     *
+     * @param json - The JSON data of every time zone
+     * @param data - The compact time zone data
+     *
+     * @return The amount of time zones that differ
+     */
+    private static int compare(List<String> json, CompactTimeZoneData data) {
+        int mismatches = 0;
+        for (String value : json) {
+            CompactTimeZone expected = createTimeZone(new TimeZoneJson(value));
+            CompactTimeZone actual = data.getTimeZone(expected.getID());
+            boolean same = actual != null && expected.getStandardOffset() == actual.getStandardOffset();
+            for (int x = 0; same && x < CHECK_DATES.length; x++) {
+                Date date = CHECK_DATES[x];
+                same = expected.getOffset(date) == actual.getOffset(date)
+                    && expected.getShortName(date).equals(actual.getShortName(date))
+                    && expected.getLongName(date).equals(actual.getLongName(date));
+            }
+            if (!same) {
+                System.out.println("Time zone differs: " + expected.getID());
+                mismatches++;
+            }
+        }
+        return mismatches;
+    }
+
+    /**
+     * Measures the average time of a round after warming up
+     *
+     * @param round - The round to measure
+     *
+     * @return The average time of a round in microseconds
+     */
+    private static long measure(Runnable round) {
+        for (int x = 0; x < WARM_UP_ROUNDS; x++) {
+            round.run();
+        }
+        long start = System.nanoTime();
+        for (int x = 0; x < MEASURED_ROUNDS; x++) {
+            round.run();
+        }
+        return (System.nanoTime() - start) / MEASURED_ROUNDS / 1000;
+    }
+}
@@ -0,0 +1,311 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.tools.timezone;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.ssgwt.share.i18n.CompactTimeZoneData;
+
+/**
+ * Generates the compact time zone data in SSCompactTimeZoneConstants.properties from the JSON
+ * time zone data in SSTimeZoneConstants.properties. See CompactTimeZoneData for the format.
+ *
+ * Run it with the generate-compact-timezones ant target after the JSON time zone data changed.
+ *
+ * @since 18 October 2026
+ */
+public class CompactTimeZoneDataGenerator {
+
+    /**
+     * The default location of the JSON time zone data
+     */
+    static final String DEFAULT_INPUT = "src/org/ssgwt/client/i18n/SSTimeZoneConstants.properties";
+
+    /**
+     * The default location of the compact time zone data
+     */
+    static final String DEFAULT_OUTPUT = "src/org/ssgwt/client/i18n/SSCompactTimeZoneConstants.properties";
+
+    /**
+     * Every distinct time zone name in the order they were first used
+     */
+    private final LinkedHashMap<String, Integer> names = new LinkedHashMap<String, Integer>();
+
+    /**
+     * Every distinct daylight adjustment in the order they were first used
+     */
+    private final LinkedHashMap<Integer, Integer> adjustments = new LinkedHashMap<Integer, Integer>();
+
+    /**
+     * Every distinct encoded transition list in the order they were first used
+     */
+    private final LinkedHashMap<String, Integer> transitions = new LinkedHashMap<String, Integer>();
+
+    /**
+     * The encoded time zone records
+     */
+    private final ArrayList<String> zones = new ArrayList<String>();
+
+    /**
+     * Generates the compact time zone data
+     *
+     * @param args - The JSON time zone data file and the compact time zone data file, both optional
+     *
+     * @throws IOException if the files can not be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        File input = new File(args.length > 0 ? args[0] : DEFAULT_INPUT);
+        File output = new File(args.length > 1 ? args[1] : DEFAULT_OUTPUT);
+        CompactTimeZoneDataGenerator generator = new CompactTimeZoneDataGenerator();
+        for (String json : readProperties(input).values()) {
+            generator.addTimeZone(new TimeZoneJson(json));
+        }
+        generator.write(output);
+        System.out.println("Wrote " + generator.zones.size() + " time zones to " + output);
+    }
+
+    /**
+     * Adds the record of a time zone, adding its names and transitions to the shared tables
+     *
+     * @param timeZone - The parsed JSON data of the time zone
+     */
+    void addTimeZone(TimeZoneJson timeZone) {
+        StringBuilder record = new StringBuilder(timeZone.id).append(CompactTimeZoneData.ID_SEPARATOR);
+        appendValue(record, encodeSigned(timeZone.standardOffset));
+        if (timeZone.transitions.length == 0) {
+            appendValue(record, 0);
+        } else {
+            appendValue(record, getIndex(transitions, encodeTransitions(timeZone.transitions)) + 1);
+        }
+        appendValue(record, timeZone.names.length);
+        for (String name : timeZone.names) {
+            appendValue(record, getIndex(names, name));
+        }
+        zones.add(record.toString());
+    }
+
+    /**
+     * Encodes a transition list as pairs of the hours since the previous transition and the
+     * index of the adjustment
+     *
+     * @param timeZoneTransitions - Pairs of the hours since the epoch and the adjustment in minutes
+     *
+     * @return The encoded transition list
+     */
+    private String encodeTransitions(int[] timeZoneTransitions) {
+        StringBuilder encoded = new StringBuilder();
+        int previousHours = 0;
+        for (int x = 0; x < timeZoneTransitions.length; x += 2) {
+            int delta = timeZoneTransitions[x] - previousHours;
+            if (delta < 0) {
+                throw new IllegalArgumentException("Transitions are not in ascending order");
+            }
+            appendValue(encoded, delta);
+            appendValue(encoded, getIndex(adjustments, timeZoneTransitions[x + 1]));
+            previousHours = timeZoneTransitions[x];
+        }
+        return encoded.toString();
+    }
+
+    /**
+     * Writes the compact time zone data as the properties of SSCompactTimeZoneConstants
+     *
+     * @param output - The file to write to
+     *
+     * @throws IOException if the file can not be written
+     */
+    void write(File output) throws IOException {
+        StringBuilder encodedAdjustments = new StringBuilder();
+        for (Integer adjustment : adjustments.keySet()) {
+            appendValue(encodedAdjustments, encodeSigned(adjustment));
+        }
+        Writer writer = new OutputStreamWriter(new FileOutputStream(output), "UTF-8");
+        try {
+            writer.write("# The following data was generated by CompactTimeZoneDataGenerator from SSTimeZoneConstants.properties.\n");
+            writer.write("# Do not edit it, run the generate-compact-timezones ant target instead.\n");
+            writer.write("timeZoneNames = " + escape(joinArray(names.keySet())) + "\n");
+            writer.write("timeZoneAdjustments = " + encodedAdjustments + "\n");
+            writer.write("timeZoneTransitions = " + joinArray(transitions.keySet()) + "\n");
+            writer.write("timeZones = " + joinArray(zones) + "\n");
+        } finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * Retrieves the index of a value in a table of distinct values, adding it if it is not in the table
+     *
+     * @param table - The table of distinct values
+     * @param value - The value
+     *
+     * @return The index of the value
+     */
+    private static <V> int getIndex(Map<V, Integer> table, V value) {
+        Integer index = table.get(value);
+        if (index == null) {
+            index = table.size();
+            table.put(value, index);
+        }
+        return index;
+    }
+
+    /**
+     * Zig zag encodes a signed number so small negative numbers are encoded with few digits
+     *
+     * @param value - The signed number
+     *
+     * @return The encoded number
+     */
+    static int encodeSigned(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    /**
+     * Appends a number that is not negative as variable length base 64 digits
+     *
+     * @param builder - The builder to append to
+     * @param value - The number
+     */
+    static void appendValue(StringBuilder builder, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative values must be zig zag encoded: " + value);
+        }
+        do {
+            int digit = value & (CompactTimeZoneData.CONTINUATION_BIT - 1);
+            value >>>= CompactTimeZoneData.DIGIT_BITS;
+            if (value != 0) {
+                digit |= CompactTimeZoneData.CONTINUATION_BIT;
+            }
+            builder.append(CompactTimeZoneData.DIGITS.charAt(digit));
+        } while (value != 0);
+    }
+
+    /**
+     * Joins the values of a GWT Constants string array property
+     *
+     * @param values - The values of the array, none of them may contain a comma
+     *
+     * @return The property value
+     */
+    static String joinArray(Iterable<String> values) {
+        StringBuilder joined = new StringBuilder();
+        for (String value : values) {
+            if (value.indexOf(',') >= 0) {
+                throw new IllegalArgumentException("Array values may not contain a comma: " + value);
+            }
+            if (joined.length() > 0) {
+                joined.append(',');
+            }
+            joined.append(value);
+        }
+        return joined.toString();
+    }
+
+    /**
+     * Splits the value of a GWT Constants string array property
+     *
+     * @param value - The property value
+     *
+     * @return The values of the array
+     */
+    static String[] splitArray(String value) {
+        return value.split(",", -1);
+    }
+
+    /**
+     * Escapes the characters of a property value that are not ASCII as unicode escape sequences
+     *
+     * @param value - The property value
+     *
+     * @return The escaped property value
+     */
+    static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int x = 0; x < value.length(); x++) {
+            char character = value.charAt(x);
+            if (character < 128) {
+                escaped.append(character);
+            } else {
+                String hex = Integer.toHexString(character);
+                escaped.append("\\u");
+                for (int padding = hex.length(); padding < 4; padding++) {
+                    escaped.append('0');
+                }
+                escaped.append(hex);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Replaces the unicode escape sequences of a property value with the characters they stand for
+     *
+     * @param value - The property value
+     *
+     * @return The unescaped property value
+     */
+    static String unescape(String value) {
+        StringBuilder unescaped = new StringBuilder(value.length());
+        for (int x = 0; x < value.length(); x++) {
+            char character = value.charAt(x);
+            if (character == '\\' && value.startsWith("u", x + 1)) {
+                unescaped.append((char) Integer.parseInt(value.substring(x + 2, x + 6), 16));
+                x += 5;
+            } else {
+                unescaped.append(character);
+            }
+        }
+        return unescaped.toString();
+    }
+
+    /**
+     * Reads the properties of a UTF-8 properties file that has one property per line, replacing
+     * unicode escape sequences in the values
+     *
+     * @param file - The properties file
+     *
+     * @return The property values by key in the order of the file
+     *
+     * @throws IOException if the file can not be read
+     */
+    static LinkedHashMap<String, String> readProperties(File file) throws IOException {
+        LinkedHashMap<String, String> properties = new LinkedHashMap<String, String>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"));
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.length() == 0 || line.startsWith("#") || line.startsWith("!")) {
+                    continue;
+                }
+                int separator = line.indexOf('=');
+                properties.put(line.substring(0, separator).trim(), unescape(line.substring(separator + 1).trim()));
+            }
+        } finally {
+            reader.close();
+        }
+        return properties;
+    }
+
+}
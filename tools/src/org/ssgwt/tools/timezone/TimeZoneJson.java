@@ -0,0 +1,194 @@
+/**
+ * Copyright 2012 A24Group
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ssgwt.tools.timezone;
+
+import java.util.ArrayList;
+
+/**
+ * The data of a time zone parsed from the JSON time zone data in SSTimeZoneConstants.properties,
+ * which looks like {"transitions": [...], "names": [...], "id": "...", "std_offset": 120}.
+ *
+ * Only the JSON needed for the time zone data is supported.
+ *
+ * @since 18 October 2026
+ */
+class TimeZoneJson {
+
+    /**
+     * The id of the time zone
+     */
+    String id;
+
+    /**
+     * The standard offset in minutes east of UTC
+     */
+    int standardOffset;
+
+    /**
+     * The short and long standard names followed by the daylight saving names
+     */
+    String[] names;
+
+    /**
+     * Pairs of the hours since the epoch of a transition and the daylight adjustment in minutes from it on
+     */
+    int[] transitions;
+
+    /**
+     * The JSON being parsed
+     */
+    private final String json;
+
+    /**
+     * The position of the next character to parse
+     */
+    private int position = 0;
+
+    /**
+     * Class constructor that parses the JSON
+     *
+     * @param json - The JSON data of the time zone
+     */
+    TimeZoneJson(String json) {
+        this.json = json;
+        expect('{');
+        do {
+            String key = readString();
+            expect(':');
+            if ("id".equals(key)) {
+                id = readString();
+            } else if ("std_offset".equals(key)) {
+                standardOffset = readInt();
+            } else if ("names".equals(key)) {
+                names = readStringArray();
+            } else if ("transitions".equals(key)) {
+                transitions = readIntArray();
+            } else {
+                throw new IllegalArgumentException("Unexpected key " + key + " in " + json);
+            }
+        } while (skip(','));
+        expect('}');
+    }
+
+    /**
+     * Reads an array of strings
+     *
+     * @return The strings
+     */
+    private String[] readStringArray() {
+        ArrayList<String> values = new ArrayList<String>();
+        expect('[');
+        if (!skip(']')) {
+            do {
+                values.add(readString());
+            } while (skip(','));
+            expect(']');
+        }
+        return values.toArray(new String[values.size()]);
+    }
+
+    /**
+     * Reads an array of integers
+     *
+     * @return The integers
+     */
+    private int[] readIntArray() {
+        int[] values = new int[16];
+        int count = 0;
+        expect('[');
+        if (!skip(']')) {
+            do {
+                if (count == values.length) {
+                    int[] grown = new int[count * 2];
+                    System.arraycopy(values, 0, grown, 0, count);
+                    values = grown;
+                }
+                values[count++] = readInt();
+            } while (skip(','));
+            expect(']');
+        }
+        int[] result = new int[count];
+        System.arraycopy(values, 0, result, 0, count);
+        return result;
+    }
+
+    /**
+     * Reads a string without escape sequences
+     *
+     * @return The string
+     */
+    private String readString() {
+        expect('"');
+        int end = json.indexOf('"', position);
+        String value = json.substring(position, end);
+        if (value.indexOf('\\') >= 0) {
+            throw new IllegalArgumentException("Escape sequences are not supported: " + value);
+        }
+        position = end + 1;
+        return value;
+    }
+
+    /**
+     * Reads an integer
+     *
+     * @return The integer
+     */
+    private int readInt() {
+        skipWhiteSpace();
+        int start = position;
+        if (json.charAt(position) == '-') {
+            position++;
+        }
+        while (position < json.length() && Character.isDigit(json.charAt(position))) {
+            position++;
+        }
+        return Integer.parseInt(json.substring(start, position));
+    }
+
+    /**
+     * Skips a character if it is next
+     *
+     * @param character - The character to skip
+     *
+     * @return Whether the character was skipped
+     */
+    private boolean skip(char character) {
+        skipWhiteSpace();
+        if (position < json.length() && json.charAt(position) == character) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Skips a character that has to be next
+     *
+     * @param character - The character to skip
+     */
+    private void expect(char character) {
+        if (!skip(character)) {
+            throw new IllegalArgumentException("Expected " + character + " at " + position + " in " + json);
+        }
+    }
+
+    /**
+     * Skips any white space
+     */
+    private void skipWhiteSpace() {
+        while (position < json.length() && Character.isWhitespace(json.charAt(position))) {
+            position++;
+        }
+    }
+}